@@ -0,0 +1,119 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jfr;
+
+import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Wraps key providers so that each key lookup is reported as a {@link KeyLookupEvent}, which is disabled by default.
+ * Use the wrapped provider to create the {@link com.auth0.jwt.algorithms.Algorithm}.
+ */
+public final class JfrKeyProviders {
+
+    private JfrKeyProviders() {
+    }
+
+    /**
+     * Wrap the given RSA key provider.
+     *
+     * @param provider the provider to wrap.
+     * @return a provider returning the same keys and reporting each lookup.
+     */
+    public static RSAKeyProvider wrap(final RSAKeyProvider provider) {
+        return new RSAKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) {
+                KeyLookupEvent event = begin(keyId, false);
+                RSAPublicKey key = provider.getPublicKeyById(keyId);
+                commit(event, key != null);
+                return key;
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                KeyLookupEvent event = begin(null, true);
+                RSAPrivateKey key = provider.getPrivateKey();
+                commit(event, key != null);
+                return key;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return provider.getPrivateKeyId();
+            }
+        };
+    }
+
+    /**
+     * Wrap the given ECDSA key provider.
+     *
+     * @param provider the provider to wrap.
+     * @return a provider returning the same keys and reporting each lookup.
+     */
+    public static ECDSAKeyProvider wrap(final ECDSAKeyProvider provider) {
+        return new ECDSAKeyProvider() {
+            @Override
+            public ECPublicKey getPublicKeyById(String keyId) {
+                KeyLookupEvent event = begin(keyId, false);
+                ECPublicKey key = provider.getPublicKeyById(keyId);
+                commit(event, key != null);
+                return key;
+            }
+
+            @Override
+            public ECPrivateKey getPrivateKey() {
+                KeyLookupEvent event = begin(null, true);
+                ECPrivateKey key = provider.getPrivateKey();
+                commit(event, key != null);
+                return key;
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return provider.getPrivateKeyId();
+            }
+        };
+    }
+
+    private static KeyLookupEvent begin(String keyId, boolean privateKey) {
+        KeyLookupEvent event = new KeyLookupEvent();
+        if (event.isEnabled()) {
+            event.keyId = keyId;
+            event.privateKey = privateKey;
+            event.begin();
+        }
+        return event;
+    }
+
+    private static void commit(KeyLookupEvent event, boolean found) {
+        if (event.isEnabled()) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.found = found;
+                event.commit();
+            }
+        }
+    }
+}
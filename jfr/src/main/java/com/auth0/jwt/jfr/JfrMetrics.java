@@ -0,0 +1,76 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jfr;
+
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.verification.VerificationResult;
+
+/**
+ * The JfrMetrics class reports the timings of decoding, verifying and signing tokens as Java Flight Recorder events.
+ * Set it with {@link com.auth0.jwt.interfaces.Verification#withMetrics(JWTMetrics)} and
+ * {@link com.auth0.jwt.creators.JWTCreator.Builder#withMetrics(JWTMetrics)}.
+ * <p>
+ * The events are disabled by default. Enable them in the recording settings, for example with
+ * {@code -XX:StartFlightRecording:settings=jwt.jfc} or {@code jcmd <pid> JFR.start} and a settings file that enables
+ * {@code com.auth0.jwt.Decode}, {@code com.auth0.jwt.Verify} and {@code com.auth0.jwt.Sign}. While they are disabled
+ * each call only checks the event's state, which the JIT reduces to a flag read.
+ */
+public final class JfrMetrics implements JWTMetrics {
+
+    @Override
+    public void recordPhase(Phase phase, String algorithm, String keyId, long nanos) {
+        if (phase != Phase.SPLIT && phase != Phase.BASE64 && phase != Phase.PARSE) {
+            return;
+        }
+        DecodeEvent event = new DecodeEvent();
+        if (event.isEnabled()) {
+            event.phase = phase.name();
+            event.algorithm = algorithm;
+            event.keyId = keyId;
+            event.decodeTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos) {
+        VerifyEvent event = new VerifyEvent();
+        if (event.isEnabled()) {
+            event.algorithm = algorithm;
+            event.keyId = keyId;
+            event.tokenSize = tokenSize;
+            event.outcome = reason.name();
+            event.verifyTime = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void recordCreation(String algorithm, String keyId, int tokenSize, boolean success, long nanos) {
+        SignEvent event = new SignEvent();
+        if (event.isEnabled()) {
+            event.algorithm = algorithm;
+            event.keyId = keyId;
+            event.tokenSize = tokenSize;
+            event.success = success;
+            event.signTime = nanos;
+            event.commit();
+        }
+    }
+}
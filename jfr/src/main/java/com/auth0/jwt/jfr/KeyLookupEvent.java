@@ -0,0 +1,49 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A call to a key provider, timed by the event's own duration.
+ */
+@Name("com.auth0.jwt.KeyLookup")
+@Label("JWT Key Lookup")
+@Category("JWT")
+@Description("A call to a key provider to get the key to verify or sign a token with")
+@Enabled(false)
+@StackTrace(false)
+public final class KeyLookupEvent extends Event {
+
+    @Label("Key Id")
+    String keyId;
+
+    @Label("Private Key")
+    @Description("Whether the private key used for signing was requested, instead of a public key")
+    boolean privateKey;
+
+    @Label("Found")
+    boolean found;
+}
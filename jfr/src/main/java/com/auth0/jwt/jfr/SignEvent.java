@@ -0,0 +1,58 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A whole token creation, from serializing its claims to signing them.
+ */
+@Name("com.auth0.jwt.Sign")
+@Label("JWT Sign")
+@Category("JWT")
+@Description("A whole token creation, from serializing its claims to signing them")
+@Enabled(false)
+@StackTrace(false)
+public final class SignEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Key Id")
+    String keyId;
+
+    @Label("Token Size")
+    @DataAmount
+    int tokenSize;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Sign Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long signTime;
+}
@@ -0,0 +1,162 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jfr;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.RSAKeyProvider;
+import com.auth0.jwt.jwts.JWT;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JfrMetricsTest {
+
+    @Test
+    public void shouldEmitEnabledEvents() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JfrMetrics metrics = new JfrMetrics();
+        List<RecordedEvent> events = record(new Action() {
+            @Override
+            public void run() throws Exception {
+                String token = JWT.create().withKeyId("key-1").withMetrics(metrics).sign(algorithm);
+                JWT.require(algorithm).withMetrics(metrics).build().verify(token);
+                JWT.require(algorithm).withMetrics(metrics).build().verify(token + "x");
+            }
+        }, "com.auth0.jwt.Decode", "com.auth0.jwt.Verify", "com.auth0.jwt.Sign");
+
+        RecordedEvent sign = find(events, "com.auth0.jwt.Sign", 0);
+        assertThat(sign.getString("algorithm"), is("HS256"));
+        assertThat(sign.getString("keyId"), is("key-1"));
+        assertThat(sign.getBoolean("success"), is(true));
+        assertThat(sign.getInt("tokenSize"), is(greaterThan(0)));
+
+        RecordedEvent decode = find(events, "com.auth0.jwt.Decode", 0);
+        assertThat(decode.getString("phase"), is("SPLIT"));
+        assertThat(decode.getString("keyId"), is("key-1"));
+        assertThat(find(events, "com.auth0.jwt.Decode", 1).getString("phase"), is("BASE64"));
+        assertThat(find(events, "com.auth0.jwt.Decode", 2).getString("phase"), is("PARSE"));
+
+        assertThat(find(events, "com.auth0.jwt.Verify", 0).getString("outcome"), is("VALID"));
+        assertThat(find(events, "com.auth0.jwt.Verify", 1).getString("outcome"), is("INVALID_SIGNATURE"));
+    }
+
+    @Test
+    public void shouldNotEmitDisabledEvents() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JfrMetrics metrics = new JfrMetrics();
+        List<RecordedEvent> events = record(new Action() {
+            @Override
+            public void run() throws Exception {
+                JWT.require(algorithm).withMetrics(metrics).build().verify(JWT.create().withMetrics(metrics).sign(algorithm));
+            }
+        });
+        assertThat(events, is(empty()));
+    }
+
+    @Test
+    public void shouldEmitKeyLookupEvents() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        final KeyPair keyPair = generator.generateKeyPair();
+        final RSAKeyProvider provider = JfrKeyProviders.wrap(new RSAKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) {
+                return "key-1".equals(keyId) ? (RSAPublicKey) keyPair.getPublic() : null;
+            }
+
+            @Override
+            public RSAPrivateKey getPrivateKey() {
+                return (RSAPrivateKey) keyPair.getPrivate();
+            }
+
+            @Override
+            public String getPrivateKeyId() {
+                return "key-1";
+            }
+        });
+        List<RecordedEvent> events = record(new Action() {
+            @Override
+            public void run() throws Exception {
+                Algorithm algorithm = Algorithm.RSA256(provider);
+                String token = JWT.create().withExpiresAt(new Date(System.currentTimeMillis() + 60000)).sign(algorithm);
+                JWT.require(algorithm).build().decode(token);
+            }
+        }, "com.auth0.jwt.KeyLookup");
+
+        RecordedEvent privateLookup = find(events, "com.auth0.jwt.KeyLookup", 0);
+        assertThat(privateLookup.getBoolean("privateKey"), is(true));
+        assertThat(privateLookup.getBoolean("found"), is(true));
+        RecordedEvent publicLookup = find(events, "com.auth0.jwt.KeyLookup", 1);
+        assertThat(publicLookup.getString("keyId"), is("key-1"));
+        assertThat(publicLookup.getBoolean("privateKey"), is(false));
+        assertThat(publicLookup.getBoolean("found"), is(true));
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    private static List<RecordedEvent> record(Action action, String... enabledEvents) throws Exception {
+        Path file = Files.createTempFile("jwt", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                for (String name : enabledEvents) {
+                    recording.enable(name).withThreshold(java.time.Duration.ZERO);
+                }
+                recording.start();
+                action.run();
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = new ArrayList<>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().startsWith("com.auth0.jwt.")) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name, int index) {
+        int found = 0;
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals(name) && found++ == index) {
+                return event;
+            }
+        }
+        throw new AssertionError("Missing event " + name + " #" + index);
+    }
+}
@@ -0,0 +1,97 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Creates the algorithms used across the benchmarks, generating fresh keys for the asymmetric ones.
+ */
+final class Algorithms {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark-sec";
+
+    private Algorithms() {
+    }
+
+    static Algorithm forName(String name) throws Exception {
+        switch (name) {
+            case "HS256":
+                return Algorithm.HMAC256(SECRET);
+            case "HS384":
+                return Algorithm.HMAC384(SECRET);
+            case "HS512":
+                return Algorithm.HMAC512(SECRET);
+            case "RS256":
+                return rsa(name);
+            case "RS384":
+                return rsa(name);
+            case "RS512":
+                return rsa(name);
+            case "ES256":
+                return ecdsa(name, 256);
+            case "ES384":
+                return ecdsa(name, 384);
+            case "ES512":
+                return ecdsa(name, 521);
+            default:
+                throw new IllegalArgumentException("Unknown algorithm " + name);
+        }
+    }
+
+    private static Algorithm rsa(String name) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        RSAPrivateKey privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        switch (name) {
+            case "RS384":
+                return Algorithm.RSA384(publicKey, privateKey);
+            case "RS512":
+                return Algorithm.RSA512(publicKey, privateKey);
+            default:
+                return Algorithm.RSA256(publicKey, privateKey);
+        }
+    }
+
+    private static Algorithm ecdsa(String name, int keySize) throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(keySize);
+        KeyPair keyPair = generator.generateKeyPair();
+        ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+        ECPrivateKey privateKey = (ECPrivateKey) keyPair.getPrivate();
+        switch (name) {
+            case "ES384":
+                return Algorithm.ECDSA384(publicKey, privateKey);
+            case "ES512":
+                return Algorithm.ECDSA512(publicKey, privateKey);
+            default:
+                return Algorithm.ECDSA256(publicKey, privateKey);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.JWTDecoder;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.impl.ClaimArrays;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading array claims of the given size from an already decoded token: a String array as a List and an
+ * Array, and a number array as boxed Longs and as primitive longs and ints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArrayClaimBenchmark {
+
+    @Param({"10", "2000"})
+    public int items;
+
+    private Claim groups;
+    private Claim ids;
+
+    @Setup
+    public void setUp() throws Exception {
+        String[] groups = new String[items];
+        Long[] ids = new Long[items];
+        for (int i = 0; i < items; i++) {
+            groups[i] = "group-" + i;
+            ids[i] = 1000L + i;
+        }
+        String token = JWT.create()
+                .withArrayClaim("groups", groups)
+                .withArrayClaim("ids", ids)
+                .sign(Algorithm.HMAC256("secret"));
+        JWTDecoder jwt = new JWTDecoder(token, EncodeType.Base64);
+        this.groups = jwt.getClaim("groups");
+        this.ids = jwt.getClaim("ids");
+    }
+
+    @Benchmark
+    public List<String> stringList() {
+        return groups.asList(String.class);
+    }
+
+    @Benchmark
+    public String[] stringArray() {
+        return groups.asArray(String.class);
+    }
+
+    @Benchmark
+    public Long[] longArray() {
+        return ids.asArray(Long.class);
+    }
+
+    @Benchmark
+    public long[] primitiveLongArray() {
+        return ClaimArrays.asLongArray(ids);
+    }
+
+    @Benchmark
+    public int[] primitiveIntArray() {
+        return ClaimArrays.asIntArray(ids);
+    }
+}
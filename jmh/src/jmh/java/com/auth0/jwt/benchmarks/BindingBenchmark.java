@@ -0,0 +1,108 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.JWTDecoder;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.interfaces.Claim;
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding a nested claim of an already decoded token to a class and to a Map, and decoding a token and binding
+ * its whole Payload to a class with {@link JWTDecoder#getPayloadAs(Class)}, deferring the parsing of the Payload so that
+ * it is read only once, compared to reading the same claims one by one.
+ * The signature is not verified, so it's a constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BindingBenchmark {
+
+    private static final String HEADER = "{\"alg\":\"HS256\",\"typ\":\"JWT\"}";
+    private static final String PAYLOAD = "{\"iss\":\"https://auth.example.com/\",\"sub\":\"auth0|5a0d3d6c9f1b2c4e8a7b6c5d\","
+            + "\"exp\":1700086400,\"iat\":1700000000,\"name\":\"John Doe\",\"roles\":[\"reader\",\"writer\"],"
+            + "\"address\":{\"street\":\"1 Main St\",\"city\":\"Springfield\",\"zip\":\"12345\"}}";
+
+    private String token;
+    private Claim address;
+
+    @Setup
+    public void setUp() throws Exception {
+        token = encode(HEADER) + "." + encode(PAYLOAD) + ".c2lnbmF0dXJl";
+        address = new JWTDecoder(token, EncodeType.Base64).getClaim("address");
+    }
+
+    @Benchmark
+    public Address claimAsClass() {
+        return address.as(Address.class);
+    }
+
+    @Benchmark
+    public Map<String, Object> claimAsMap() {
+        return address.asMap();
+    }
+
+    @Benchmark
+    public Profile decodeAndReadClaims() throws Exception {
+        JWTDecoder jwt = new JWTDecoder(token, EncodeType.Base64);
+        Profile profile = new Profile();
+        profile.sub = jwt.getSubject().get(0);
+        profile.name = jwt.getClaim("name").asString();
+        profile.roles = jwt.getClaim("roles").asList(String.class);
+        profile.address = jwt.getClaim("address").as(Address.class);
+        return profile;
+    }
+
+    @Benchmark
+    public Profile decodeAndBindPayload() throws Exception {
+        return new JWTDecoder(token, EncodeType.Base64, true).getPayloadAs(Profile.class);
+    }
+
+    private static String encode(String json) {
+        return Base64.encodeBase64URLSafeString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Address {
+        public String street;
+        public String city;
+        public String zip;
+    }
+
+    public static class Profile {
+        public String iss;
+        public String sub;
+        public long exp;
+        public long iat;
+        public String name;
+        public List<String> roles;
+        public Address address;
+    }
+}
@@ -0,0 +1,128 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.BulkJWTCreator;
+import com.auth0.jwt.creators.JWTCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing a batch of tokens one by one with {@link JWTCreator} against {@link BulkJWTCreator}
+ * using pools of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(BulkMintBenchmark.TOKENS)
+public class BulkMintBenchmark {
+
+    static final int TOKENS = 10000;
+
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    @Param({"HS256", "RS256"})
+    public String algorithmName;
+
+    private List<Map<String, Object>> claimSets;
+    private ForkJoinPool pool;
+    private BulkJWTCreator bulkCreator;
+    private Algorithm algorithm;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        algorithm = Algorithms.forName(algorithmName);
+        pool = new ForkJoinPool(parallelism);
+        bulkCreator = BulkJWTCreator.init(algorithm)
+                .withPool(pool)
+                .build();
+        claimSets = new ArrayList<>(TOKENS);
+        for (int i = 0; i < TOKENS; i++) {
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("iss", "https://auth0.com");
+            claims.put("sub", "user-" + i);
+            claims.put("jti", Integer.toHexString(i));
+            claims.put("iat", new Date());
+            claimSets.add(claims);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long bulk(Blackhole blackhole) throws Exception {
+        return bulkCreator.mint(claimSets.iterator(), new BlackholeOutputStream(blackhole));
+    }
+
+    @Benchmark
+    public void sequential(Blackhole blackhole) throws Exception {
+        for (Map<String, Object> claims : claimSets) {
+            blackhole.consume(JWTCreator.init()
+                    .withIssuer((String) claims.get("iss"))
+                    .withSubject((String) claims.get("sub"))
+                    .withJWTId((String) claims.get("jti"))
+                    .withIssuedAt((Date) claims.get("iat"))
+                    .sign(algorithm));
+        }
+    }
+
+    private static final class BlackholeOutputStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+            blackhole.consume(len);
+        }
+    }
+}
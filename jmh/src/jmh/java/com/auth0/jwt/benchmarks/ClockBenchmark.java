@@ -0,0 +1,90 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.CachedClock;
+import com.auth0.jwt.ClockImpl;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ClockImpl} with {@link CachedClock}, reading the time alone and verifying an HS256 token with
+ * "exp", "iat" and "nbf" claims, each of which reads the clock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ClockBenchmark {
+
+    private final Clock clockImpl = new ClockImpl();
+    private final CachedClock cachedClock = CachedClock.getDefault();
+    private String token;
+    private JWT clockImplVerifier;
+    private JWT cachedClockVerifier;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        long now = System.currentTimeMillis();
+        token = JWT.create()
+                .withIssuedAt(new Date(now))
+                .withNotBefore(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .sign(algorithm);
+        clockImplVerifier = JWT.require(algorithm).acceptLeeway(1).build(clockImpl);
+        cachedClockVerifier = JWT.require(algorithm).acceptLeeway(1).build(cachedClock);
+    }
+
+    @Benchmark
+    public Date clockImplGetToday() {
+        return clockImpl.getToday();
+    }
+
+    @Benchmark
+    public Date cachedClockGetToday() {
+        return cachedClock.getToday();
+    }
+
+    @Benchmark
+    public long cachedClockCurrentTimeMillis() {
+        return cachedClock.currentTimeMillis();
+    }
+
+    @Benchmark
+    public DecodedJWT clockImplDecode() throws Exception {
+        return clockImplVerifier.decode(token);
+    }
+
+    @Benchmark
+    public DecodedJWT cachedClockDecode() throws Exception {
+        return cachedClockVerifier.decode(token);
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.AccessJwtCreator;
+import com.auth0.jwt.creators.ExtendedJwtCreator;
+import com.auth0.jwt.creators.FbJwtCreator;
+import com.auth0.jwt.creators.GoogleJwtCreator;
+import com.auth0.jwt.creators.ImplicitJwtCreator;
+import com.auth0.jwt.creators.RiscJwtCreator;
+import com.auth0.jwt.creators.ScopedJwtCreator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and signing a token with each creator profile, setting the claims the profile requires plus an
+ * Expires At date where the profile supports it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CreatorProfileBenchmark {
+
+    private static final String ISSUER = "https://auth.example.com/";
+    private static final String SUBJECT = "auth0|5a0d3d6c9f1b2c4e8a7b6c5d";
+    private static final String AUDIENCE = "https://api.example.com";
+
+    @Param({"Access", "Extended", "Fb", "Google", "Implicit", "Risc", "Scoped"})
+    public String profile;
+
+    @Param({"HS256", "RS256", "ES256"})
+    public String algorithm;
+
+    private Algorithm signingAlgorithm;
+    private Date issuedAt;
+    private Date expiresAt;
+
+    @Setup
+    public void setUp() throws Exception {
+        signingAlgorithm = Algorithms.forName(algorithm);
+        long now = System.currentTimeMillis();
+        issuedAt = new Date(now);
+        expiresAt = new Date(now + TimeUnit.DAYS.toMillis(1));
+    }
+
+    @Benchmark
+    public String sign() throws Exception {
+        switch (profile) {
+            case "Access":
+                return AccessJwtCreator.build()
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            case "Extended":
+                return ExtendedJwtCreator.build()
+                        .withNbf(issuedAt)
+                        .withName("John Doe").withEmail("jdoe@example.com").withPicture("https://example.com/jdoe.png")
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            case "Fb":
+                return FbJwtCreator.build()
+                        .withUserId("1234567890").withAppId("9876543210")
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            case "Google":
+                return GoogleJwtCreator.build()
+                        .withName("John Doe").withEmail("jdoe@example.com").withPicture("https://example.com/jdoe.png")
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            case "Implicit":
+                return ImplicitJwtCreator.build()
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt)
+                        .sign(signingAlgorithm);
+            case "Risc":
+                return RiscJwtCreator.build()
+                        .withGeneratedJWTId()
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            case "Scoped":
+                return ScopedJwtCreator.build()
+                        .withScope("openid profile email")
+                        .withIssuer(ISSUER).withSubject(SUBJECT).withAudience(AUDIENCE)
+                        .withIat(issuedAt).withExp(expiresAt)
+                        .sign(signingAlgorithm);
+            default:
+                throw new IllegalArgumentException("Unknown profile " + profile);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.JWTDecoder;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a token alone, through the {@link JWTDecoder} constructor, and decoding and verifying it through
+ * {@link JWT#decode(String)}, {@link JWT#decode16Bytes(String)} or {@link JWT#decode32Bytes(String)} depending on
+ * its encoding, for every algorithm and Payload size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DecodeBenchmark {
+
+    @Param({"HS256", "HS384", "HS512", "RS256", "RS384", "RS512", "ES256", "ES384", "ES512"})
+    public String algorithm;
+
+    @Param({"Base64", "Base16", "Base32"})
+    public String encoding;
+
+    @Param({"small", "typical", "large"})
+    public String payload;
+
+    private EncodeType encodeType;
+    private JWT verifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithms.forName(this.algorithm);
+        encodeType = EncodeType.valueOf(encoding);
+        verifier = JWT.require(algorithm).build();
+        token = Payloads.builder(payload).sign(algorithm, encodeType);
+    }
+
+    @Benchmark
+    public DecodedJWT construct() throws Exception {
+        return new JWTDecoder(token, encodeType);
+    }
+
+    @Benchmark
+    public DecodedJWT decode() throws Exception {
+        switch (encodeType) {
+            case Base16:
+                return verifier.decode16Bytes(token);
+            case Base32:
+                return verifier.decode32Bytes(token);
+            default:
+                return verifier.decode(token);
+        }
+    }
+}
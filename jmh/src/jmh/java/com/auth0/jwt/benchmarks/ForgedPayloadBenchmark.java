@@ -0,0 +1,74 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.VerificationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rejecting an HS256 token with a forged signature and a Payload of the given amount of claims, parsing the
+ * Payload before verifying the signature and deferring it until the signature is known to be valid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ForgedPayloadBenchmark {
+
+    @Param({"10", "1000"})
+    public int claims;
+
+    private final VerificationResult result = new VerificationResult();
+    private JWT eagerVerifier;
+    private JWT deferredVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        eagerVerifier = JWT.require(algorithm).build();
+        deferredVerifier = JWT.require(algorithm).withDeferredPayloadParsing().build();
+        JWTCreator.Builder builder = JWT.create();
+        for (int i = 0; i < claims; i++) {
+            builder.withNonStandardClaim("claim" + i, "value" + i);
+        }
+        token = builder.sign(Algorithm.HMAC256("forged"));
+    }
+
+    @Benchmark
+    public VerificationResult.Reason eager() {
+        return eagerVerifier.verify(token, result).getReason();
+    }
+
+    @Benchmark
+    public VerificationResult.Reason deferred() {
+        return deferredVerifier.verify(token, result).getReason();
+    }
+}
@@ -0,0 +1,65 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.impl.NullMetrics;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of reporting timings while verifying a typical HS256 token, comparing a verifier without
+ * metrics to one reporting to {@link NullMetrics}, whose only cost is reading the clock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MetricsBenchmark {
+
+    private JWT verifier;
+    private JWT measuredVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithms.forName("HS256");
+        verifier = JWT.require(algorithm).build();
+        measuredVerifier = JWT.require(algorithm).withMetrics(new NullMetrics()).build();
+        token = Payloads.builder("typical").sign(algorithm);
+    }
+
+    @Benchmark
+    public DecodedJWT withoutMetrics() throws Exception {
+        return verifier.decode(token);
+    }
+
+    @Benchmark
+    public DecodedJWT withNullMetrics() throws Exception {
+        return measuredVerifier.decode(token);
+    }
+}
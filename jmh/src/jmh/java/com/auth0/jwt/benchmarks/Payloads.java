@@ -0,0 +1,70 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.jwts.JWT;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the Payloads used across the benchmarks: a "small" one with a single claim, a "typical" one like an OpenID
+ * Connect ID token, and a "large" one that adds a hundred custom claims and a fifty items array, about 4 KB of JSON.
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    static JWTCreator.Builder builder(String size) {
+        switch (size) {
+            case "small":
+                return JWT.create().withIssuer("https://auth.example.com/");
+            case "typical":
+                return typical();
+            case "large":
+                JWTCreator.Builder builder = typical();
+                for (int i = 0; i < 100; i++) {
+                    builder.withNonStandardClaim("claim" + i, "value-" + i);
+                }
+                String[] roles = new String[50];
+                for (int i = 0; i < roles.length; i++) {
+                    roles[i] = "role-" + i;
+                }
+                return builder.withArrayClaim("roles", roles);
+            default:
+                throw new IllegalArgumentException("Unknown payload size " + size);
+        }
+    }
+
+    private static JWTCreator.Builder typical() {
+        long now = System.currentTimeMillis();
+        return JWT.create()
+                .withIssuer("https://auth.example.com/")
+                .withSubject("auth0|5a0d3d6c9f1b2c4e8a7b6c5d")
+                .withAudience("https://api.example.com")
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .withGeneratedJWTId()
+                .withNonStandardClaim("name", "John Doe")
+                .withNonStandardClaim("email", "jdoe@example.com")
+                .withNonStandardClaim("scope", "openid profile email");
+    }
+}
@@ -0,0 +1,83 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures verifying a typical token that also carries "groups" and "permissions" arrays of the given size and reading
+ * its "name" claim, parsing the whole Payload and parsing only the claims declared with
+ * {@link com.auth0.jwt.interfaces.Verification#withProjectedClaims(String...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ProjectionBenchmark {
+
+    @Param({"10", "500"})
+    public int items;
+
+    private JWT fullVerifier;
+    private JWT projectedVerifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        fullVerifier = JWT.require(algorithm).build();
+        projectedVerifier = JWT.require(algorithm).withProjectedClaims("name", "email").build();
+        String[] groups = new String[items];
+        String[] permissions = new String[items];
+        for (int i = 0; i < items; i++) {
+            groups[i] = "group-" + i;
+            permissions[i] = "read:resource-" + i;
+        }
+        JWTCreator.Builder builder = Payloads.builder("typical")
+                .withArrayClaim("groups", groups)
+                .withArrayClaim("permissions", permissions);
+        token = builder.sign(algorithm);
+    }
+
+    @Benchmark
+    public String full() throws Exception {
+        return name(fullVerifier.decode(token));
+    }
+
+    @Benchmark
+    public String projected() throws Exception {
+        return name(projectedVerifier.decode(token));
+    }
+
+    private static String name(DecodedJWT jwt) {
+        return jwt.getClaim("name").asString();
+    }
+}
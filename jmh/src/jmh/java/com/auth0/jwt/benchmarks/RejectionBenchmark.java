@@ -0,0 +1,89 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.VerificationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rejecting an expired HS256 token, and one with an invalid signature, by catching the exception thrown by
+ * {@link JWT#decode(String)}, with and without stack traces, and by reading the {@link VerificationResult} of
+ * {@link JWT#verify(String, VerificationResult)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RejectionBenchmark {
+
+    @Param({"expired", "signature"})
+    public String failure;
+
+    private final VerificationResult result = new VerificationResult();
+    private JWT verifier;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        verifier = JWT.require(algorithm).build();
+        if ("expired".equals(failure)) {
+            token = JWT.create().withExpiresAt(new Date(System.currentTimeMillis() - 60000)).sign(algorithm);
+        } else {
+            token = JWT.create().sign(Algorithm.HMAC256("other"));
+        }
+    }
+
+    @Benchmark
+    public Object decodeAndCatch() throws Exception {
+        JWTVerificationException.setStackTraceEnabled(true);
+        try {
+            return verifier.decode(token);
+        } catch (JWTVerificationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object decodeAndCatchStackless() throws Exception {
+        JWTVerificationException.setStackTraceEnabled(false);
+        try {
+            return verifier.decode(token);
+        } catch (JWTVerificationException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public VerificationResult.Reason verify() {
+        return verifier.verify(token, result).getReason();
+    }
+}
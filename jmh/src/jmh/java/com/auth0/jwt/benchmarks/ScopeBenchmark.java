@@ -0,0 +1,88 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.verification.ScopeDictionary;
+import com.auth0.jwt.verification.ScopeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking that a token was granted a few required scopes: splitting the scope claim on every check against
+ * parsing it once into a {@link ScopeSet}, and against a check on an already parsed set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScopeBenchmark {
+
+    @Param({"8", "100"})
+    public int scopes;
+
+    private String claim;
+    private List<String> requiredList;
+    private ScopeDictionary dictionary;
+    private ScopeSet required;
+    private ScopeSet granted;
+
+    @Setup
+    public void setUp() {
+        String[] names = new String[scopes];
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < scopes; i++) {
+            names[i] = "scope:" + i;
+            if (i % 2 == 0) {
+                builder.append(names[i]).append(' ');
+            }
+        }
+        claim = builder.toString().trim();
+        requiredList = Arrays.asList(names[0], names[scopes / 2], names[scopes - 2]);
+        dictionary = ScopeDictionary.of(names);
+        required = dictionary.scopes(requiredList.toArray(new String[requiredList.size()]));
+        granted = dictionary.parse(claim);
+    }
+
+    @Benchmark
+    public boolean splitAndContains() {
+        Set<String> granted = new HashSet<>(Arrays.asList(claim.split(" ")));
+        return granted.containsAll(requiredList);
+    }
+
+    @Benchmark
+    public boolean parseAndCheck() {
+        return dictionary.parse(claim).hasAllScopes(required);
+    }
+
+    @Benchmark
+    public boolean checkParsed() {
+        return granted.hasAllScopes(required);
+    }
+}
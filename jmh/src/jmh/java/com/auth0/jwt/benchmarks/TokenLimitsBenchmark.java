@@ -0,0 +1,91 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.TokenLimits;
+import com.auth0.jwt.verification.VerificationResult;
+import org.apache.commons.codec.binary.Base64;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures rejecting a 64 KB token whose Payload nests arrays deeply, with and without {@link TokenLimits}, and the
+ * cost the limits add to verifying a typical HS256 token.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenLimitsBenchmark {
+
+    private final VerificationResult result = new VerificationResult();
+    private JWT verifier;
+    private JWT limitedVerifier;
+    private String oversized;
+    private String typical;
+
+    @Setup
+    public void setUp() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        verifier = JWT.require(algorithm).build();
+        limitedVerifier = JWT.require(algorithm).withTokenLimits(TokenLimits.init()
+                .withMaxTokenLength(8192)
+                .withMaxHeaderSize(1024)
+                .withMaxPayloadSize(4096)
+                .withMaxDepth(8)
+                .withMaxClaimCount(64)
+                .withMaxNumberLength(32)
+                .build()).build();
+        StringBuilder payload = new StringBuilder("{\"a\":");
+        for (int i = 0; i < 24 * 1024; i++) {
+            payload.append('[');
+        }
+        oversized = "eyJhbGciOiJIUzI1NiJ9." + Base64.encodeBase64URLSafeString(payload.toString().getBytes(StandardCharsets.UTF_8)) + ".signature";
+        typical = JWT.create().withIssuer("auth0").withSubject("user").withAudience("api").withGeneratedJWTId().sign(algorithm);
+    }
+
+    @Benchmark
+    public VerificationResult.Reason oversizedUnlimited() {
+        return verifier.verify(oversized, result).getReason();
+    }
+
+    @Benchmark
+    public VerificationResult.Reason oversizedLimited() {
+        return limitedVerifier.verify(oversized, result).getReason();
+    }
+
+    @Benchmark
+    public VerificationResult.Reason typicalUnlimited() {
+        return verifier.verify(typical, result).getReason();
+    }
+
+    @Benchmark
+    public VerificationResult.Reason typicalLimited() {
+        return limitedVerifier.verify(typical, result).getReason();
+    }
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.benchmarks;
+
+import com.auth0.jwt.JWTDecoder;
+import com.auth0.jwt.TokenView;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.jwts.JWT;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading the routing values of a token, its "alg", "kid" and "iss", through a {@link TokenView} and through
+ * a fully decoded {@link JWTDecoder}. The Payload holds a batch of other claims, which the view skips over until it finds "iss".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TokenViewBenchmark {
+
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        JWTCreator.Builder builder = JWT.create()
+                .withKeyId("key-1")
+                .withIssuer("https://issuer.example.com");
+        for (int i = 0; i < 20; i++) {
+            builder.withNonStandardClaim("claim" + i, "value" + i);
+        }
+        token = builder.sign(Algorithm.HMAC256("secret"));
+    }
+
+    @Benchmark
+    public String tokenView() throws Exception {
+        TokenView view = TokenView.of(token);
+        return view.getAlgorithm() + view.getKeyId() + view.getClaim("iss").asList(String.class).get(0);
+    }
+
+    @Benchmark
+    public String tokenViewClaimOnly() throws Exception {
+        return TokenView.of(token).getClaim("iss").asList(String.class).get(0);
+    }
+
+    @Benchmark
+    public String fullDecode() throws Exception {
+        JWTDecoder jwt = new JWTDecoder(token, EncodeType.Base64);
+        return jwt.getAlgorithm() + jwt.getKeyId() + jwt.getIssuer().get(0);
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.interfaces.MillisClock;
+
+import java.io.Closeable;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link MillisClock} whose current time is refreshed by a single background thread, so that reading it is a volatile load
+ * instead of a system call. Date claims are checked with a precision of one second, so the default resolution of
+ * 100 milliseconds doesn't change their outcome in practice.
+ * <p>
+ * The shared instance returned by {@link #getDefault()} is started on first use and runs for the life of the JVM;
+ * instances created with {@link #CachedClock(long)} must be closed when no longer needed.
+ */
+public final class CachedClock implements MillisClock, Closeable {
+
+    private static final long DEFAULT_RESOLUTION_MILLIS = 100;
+
+    private final ScheduledExecutorService ticker;
+    private final boolean shared;
+    private volatile long currentTimeMillis;
+
+    /**
+     * Creates a new CachedClock refreshed with the given resolution.
+     *
+     * @param resolutionMillis how often the time is refreshed, in milliseconds.
+     * @throws IllegalArgumentException if the resolution is not positive.
+     */
+    public CachedClock(long resolutionMillis) throws IllegalArgumentException {
+        this(resolutionMillis, false);
+    }
+
+    private CachedClock(long resolutionMillis, boolean shared) {
+        if (resolutionMillis <= 0) {
+            throw new IllegalArgumentException("The resolution must be positive.");
+        }
+        this.shared = shared;
+        currentTimeMillis = System.currentTimeMillis();
+        ticker = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "jwt-cached-clock");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        ticker.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                currentTimeMillis = System.currentTimeMillis();
+            }
+        }, resolutionMillis, resolutionMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Getter for the shared CachedClock with the default resolution of 100 milliseconds.
+     *
+     * @return the shared instance.
+     */
+    public static CachedClock getDefault() {
+        return DefaultHolder.CLOCK;
+    }
+
+    /**
+     * Returns the time of the last refresh, without allocating.
+     *
+     * @return the time of the last refresh, in milliseconds since the epoch.
+     */
+    @Override
+    public long currentTimeMillis() {
+        return currentTimeMillis;
+    }
+
+    @Override
+    public Date getToday() {
+        return new Date(currentTimeMillis);
+    }
+
+    /**
+     * Stops the background refresh. The time read afterwards is the last one refreshed.
+     * Closing the shared instance has no effect.
+     */
+    @Override
+    public void close() {
+        if (!shared) {
+            ticker.shutdownNow();
+        }
+    }
+
+    private static final class DefaultHolder {
+        private static final CachedClock CLOCK = new CachedClock(DEFAULT_RESOLUTION_MILLIS, true);
+    }
+}
@@ -19,15 +19,20 @@
 
 package com.auth0.jwt;
 
-import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.interfaces.MillisClock;
 
 import java.util.Date;
 
-public final class ClockImpl implements Clock {
+public final class ClockImpl implements MillisClock {
 
     public ClockImpl() {
     }
 
+    @Override
+    public long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+
     @Override
     public Date getToday() {
         return new Date();
@@ -0,0 +1,220 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt;
+
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.interfaces.Payload;
+import com.auth0.jwt.verification.TokenLimits;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The JWSJsonSerialization class holds a token in the JWS JSON Serialization (RFC 7515, section 7.2), either in its
+ * general form, with one entry per signature, or in its flattened form, with a single signature.
+ * <p>
+ * The JSON document is parsed once and the Payload is decoded once, then shared by every signature. Each signature
+ * can be read as a {@link DecodedJWT} whose parts are those of the equivalent compact token, which is what the
+ * signature was computed over.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class JWSJsonSerialization {
+
+    public static final String PAYLOAD = "payload";
+    public static final String SIGNATURES = "signatures";
+    public static final String PROTECTED = "protected";
+    public static final String HEADER = "header";
+    public static final String SIGNATURE = "signature";
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final JWTParser converter = new JWTParser();
+
+    private final String encodedPayload;
+    private final JsonNode[] signatures;
+    private final TokenLimits limits;
+    private Payload payload;
+
+    private JWSJsonSerialization(String encodedPayload, JsonNode[] signatures, TokenLimits limits) {
+        this.encodedPayload = encodedPayload;
+        this.signatures = signatures;
+        this.limits = limits;
+    }
+
+    /**
+     * Parse the given JWS JSON Serialization.
+     *
+     * @param json the general or flattened JWS JSON Serialization.
+     * @return the parsed serialization.
+     * @throws JWTDecodeException if the JSON is not valid or is missing any of the required members.
+     */
+    public static JWSJsonSerialization parse(String json) throws JWTDecodeException {
+        return parse(json, null);
+    }
+
+    /**
+     * Parse the given JWS JSON Serialization, rejecting it before parsing it if it exceeds the given limits. The Header
+     * and Payload of each signature are checked against the limits too before they're parsed.
+     *
+     * @param json   the general or flattened JWS JSON Serialization.
+     * @param limits the limits the serialization must be within, or null to accept serializations of any size.
+     * @return the parsed serialization.
+     * @throws JWTDecodeException if the JSON exceeds the limits, is not valid or is missing any of the required members.
+     */
+    public static JWSJsonSerialization parse(String json, TokenLimits limits) throws JWTDecodeException {
+        if (limits != null) {
+            limits.checkSerialization(json);
+        }
+        JsonNode root;
+        try {
+            root = mapper.readTree(json);
+        } catch (IOException e) {
+            throw new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", json), e);
+        }
+        if (root == null || !root.isObject()) {
+            throw new JWTDecodeException("The JWS JSON Serialization must be a JSON object.");
+        }
+        String payload = getText(root, PAYLOAD);
+        JsonNode entries = root.get(SIGNATURES);
+        JsonNode[] signatures;
+        if (entries == null) {
+            signatures = new JsonNode[]{root};
+        } else {
+            if (!entries.isArray() || entries.size() == 0) {
+                throw new JWTDecodeException("The 'signatures' member must be a non empty array.");
+            }
+            signatures = new JsonNode[entries.size()];
+            for (int i = 0; i < signatures.length; i++) {
+                signatures[i] = entries.get(i);
+            }
+        }
+        for (JsonNode signature : signatures) {
+            getText(signature, PROTECTED);
+            getText(signature, SIGNATURE);
+        }
+        return new JWSJsonSerialization(payload, signatures, limits);
+    }
+
+    /**
+     * Getter for the amount of signatures.
+     *
+     * @return the amount of signatures, 1 for the flattened form.
+     */
+    public int getSignatureCount() {
+        return signatures.length;
+    }
+
+    /**
+     * Getter for the Base64 encoded Payload shared by all the signatures.
+     *
+     * @return the encoded Payload.
+     */
+    public String getPayload() {
+        return encodedPayload;
+    }
+
+    /**
+     * Decode the signature at the given position. The Header is the union of the protected and the unprotected Header
+     * of that signature, and the Payload is shared with the other signatures.
+     * <p>
+     * Note that this method <b>doesn't verify the signature!</b>
+     *
+     * @param index the position of the signature.
+     * @return the decoded signature.
+     * @throws JWTDecodeException if the Header or the Payload exceed the limits or are not valid.
+     */
+    public DecodedJWT decode(int index) throws JWTDecodeException {
+        JsonNode signature = signatures[index];
+        String encodedHeader = signature.get(PROTECTED).asText();
+        if (limits != null) {
+            limits.checkEncodedHeader(encodedHeader, EncodeType.Base64);
+        }
+        String headerJson = StringUtils.newStringUtf8(Base64.decodeBase64(encodedHeader));
+        JsonNode unprotected = signature.get(HEADER);
+        if (unprotected != null && unprotected.size() > 0) {
+            if (limits != null) {
+                limits.checkHeader(headerJson);
+            }
+            headerJson = merge(headerJson, unprotected);
+        }
+        if (limits != null) {
+            limits.checkHeader(headerJson);
+        }
+        Header header = converter.parseHeader(headerJson);
+        String[] parts = new String[]{encodedHeader, encodedPayload, signature.get(SIGNATURE).asText()};
+        return new JWTDecoder(parts, header, getDecodedPayload());
+    }
+
+    private Payload getDecodedPayload() throws JWTDecodeException {
+        if (payload == null) {
+            if (limits != null) {
+                limits.checkEncodedPayload(encodedPayload, EncodeType.Base64);
+            }
+            String payloadJson = StringUtils.newStringUtf8(Base64.decodeBase64(encodedPayload));
+            if (limits != null) {
+                limits.checkPayload(payloadJson);
+            }
+            payload = converter.parsePayload(payloadJson);
+        }
+        return payload;
+    }
+
+    /**
+     * Joins the protected and unprotected Header parameters, which must be disjoint.
+     */
+    private static String merge(String protectedJson, JsonNode unprotected) throws JWTDecodeException {
+        JsonNode header;
+        try {
+            header = mapper.readTree(protectedJson);
+        } catch (IOException e) {
+            throw new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", protectedJson), e);
+        }
+        if (header == null || !header.isObject() || !unprotected.isObject()) {
+            throw new JWTDecodeException("The Header must be a JSON object.");
+        }
+        ObjectNode merged = (ObjectNode) header;
+        Iterator<Map.Entry<String, JsonNode>> fields = unprotected.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (merged.has(field.getKey())) {
+                throw new JWTDecodeException(String.format("The Header parameter '%s' can't be both protected and unprotected.", field.getKey()));
+            }
+            merged.set(field.getKey(), field.getValue());
+        }
+        return merged.toString();
+    }
+
+    private static String getText(JsonNode node, String member) throws JWTDecodeException {
+        JsonNode value = node.get(member);
+        if (value == null || !value.isTextual()) {
+            throw new JWTDecodeException(String.format("The JWS JSON Serialization is missing the '%s' member.", member));
+        }
+        return value.asText();
+    }
+}
@@ -22,18 +22,22 @@ package com.auth0.jwt;
 import com.auth0.jwt.creators.EncodeType;
 import com.auth0.jwt.creators.JWTCreator;
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.impl.Base16;
+import com.auth0.jwt.impl.Base32;
 import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.impl.ObjectReaders;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.interfaces.JWTPartsParser;
 import com.auth0.jwt.interfaces.Payload;
-import org.apache.commons.codec.binary.Base32;
+import com.auth0.jwt.verification.TokenLimits;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
 
-import java.net.URLDecoder;
-import java.net.URLEncoder;
+import java.io.IOException;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -46,30 +50,276 @@ public final class JWTDecoder implements DecodedJWT {
 
     private final String[] parts;
     private final Header header;
-    private final Payload payload;
+    private final EncodeType encodeType;
+    private final TokenLimits limits;
+    private final JWTPartsParser parser;
+    private final JWTMetrics metrics;
+    private volatile Payload payload;
 
     public JWTDecoder(String jwt, EncodeType encodeType) throws Exception {
+        this(jwt, encodeType, false);
+    }
+
+    /**
+     * Decodes the given token, optionally leaving the Payload undecoded until it's first accessed. Deferring it lets
+     * the caller verify the signature, which only needs the raw parts, before paying for parsing a Payload that could
+     * be forged.
+     *
+     * @param jwt                 with jwt format as string.
+     * @param encodeType          the encoding of the token's parts.
+     * @param deferPayloadParsing whether to parse the Payload on first access instead of now.
+     * @throws JWTDecodeException if the token doesn't have 3 parts or the Header, or the Payload unless deferred, is invalid.
+     */
+    public JWTDecoder(String jwt, EncodeType encodeType, boolean deferPayloadParsing) throws Exception {
+        this(jwt, encodeType, deferPayloadParsing, null);
+    }
+
+    /**
+     * Decodes the given token, rejecting it before decoding its parts if it exceeds the given limits.
+     *
+     * @param jwt                 with jwt format as string.
+     * @param encodeType          the encoding of the token's parts.
+     * @param deferPayloadParsing whether to parse the Payload on first access instead of now.
+     * @param limits              the limits the token must be within, or null to accept tokens of any size.
+     * @throws JWTDecodeException if the token exceeds the limits, doesn't have 3 parts or the Header, or the Payload
+     *                            unless deferred, is invalid.
+     */
+    public JWTDecoder(String jwt, EncodeType encodeType, boolean deferPayloadParsing, TokenLimits limits) throws Exception {
+        this(jwt, encodeType, deferPayloadParsing, limits, null);
+    }
+
+    /**
+     * Decodes the given token, parsing its Header and Payload with the given parser.
+     *
+     * @param jwt                 with jwt format as string.
+     * @param encodeType          the encoding of the token's parts.
+     * @param deferPayloadParsing whether to parse the Payload on first access instead of now.
+     * @param limits              the limits the token must be within, or null to accept tokens of any size.
+     * @param parser              the parser for the Header and Payload JSON, or null to use the default {@link JWTParser}.
+     * @throws JWTDecodeException if the token exceeds the limits, doesn't have 3 parts or the Header, or the Payload
+     *                            unless deferred, is invalid.
+     */
+    public JWTDecoder(String jwt, EncodeType encodeType, boolean deferPayloadParsing, TokenLimits limits, JWTPartsParser parser) throws Exception {
+        this(jwt, encodeType, deferPayloadParsing, limits, parser, null);
+    }
+
+    /**
+     * Decodes the given token, reporting the time taken to split it, to decode its parts and to parse them to the
+     * given metrics, as the {@link JWTMetrics.Phase#SPLIT}, {@link JWTMetrics.Phase#BASE64} and
+     * {@link JWTMetrics.Phase#PARSE} phases. A deferred Payload reports its own BASE64 and PARSE phases when it's
+     * parsed.
+     *
+     * @param jwt                 with jwt format as string.
+     * @param encodeType          the encoding of the token's parts.
+     * @param deferPayloadParsing whether to parse the Payload on first access instead of now.
+     * @param limits              the limits the token must be within, or null to accept tokens of any size.
+     * @param parser              the parser for the Header and Payload JSON, or null to use the default {@link JWTParser}.
+     * @param metrics             the metrics to report to, or null to measure nothing.
+     * @throws JWTDecodeException if the token exceeds the limits, doesn't have 3 parts or the Header, or the Payload
+     *                            unless deferred, is invalid.
+     */
+    public JWTDecoder(String jwt, EncodeType encodeType, boolean deferPayloadParsing, TokenLimits limits, JWTPartsParser parser,
+                      JWTMetrics metrics) throws Exception {
+        this.metrics = metrics;
+        long start = nanoTime();
+        if (limits != null) {
+            limits.checkToken(jwt, encodeType);
+        }
         parts = TokenUtils.splitToken(jwt);
-        final JWTParser converter = new JWTParser();
-        String headerJson = null;
-        String payloadJson = null;
+        this.encodeType = encodeType;
+        this.limits = limits;
+        this.parser = parser != null ? parser : DefaultParser.INSTANCE;
+        long split = nanoTime();
+        String headerJson = decodePart(parts[0], encodeType);
+        long decoded = nanoTime();
+        if (limits != null) {
+            limits.checkHeader(headerJson);
+        }
+        header = this.parser.parseHeader(headerJson);
+        long parsed = nanoTime();
+        long base64Nanos = decoded - split;
+        long parseNanos = parsed - decoded;
+        if (!deferPayloadParsing) {
+            String payloadJson = decodePart(parts[1], encodeType);
+            long payloadDecoded = nanoTime();
+            payload = parsePayload(payloadJson);
+            base64Nanos += payloadDecoded - parsed;
+            parseNanos += nanoTime() - payloadDecoded;
+        }
+        if (metrics != null) {
+            recordPhase(JWTMetrics.Phase.SPLIT, split - start);
+            recordPhase(JWTMetrics.Phase.BASE64, base64Nanos);
+            recordPhase(JWTMetrics.Phase.PARSE, parseNanos);
+        }
+    }
+
+    /**
+     * Parses the Payload now if its parsing was deferred, so that an invalid one is reported at this point rather than
+     * on first access.
+     *
+     * @return this same JWTDecoder instance.
+     * @throws JWTDecodeException if the Payload is invalid.
+     */
+    public JWTDecoder decodePayload() throws JWTDecodeException {
+        payload();
+        return this;
+    }
+
+    /**
+     * Decodes the token of the given view, reusing the Header and Payload the view already decoded and, for the default
+     * parser, the Header it already parsed. The token is only checked against the given limits if they aren't the ones
+     * the view was created with.
+     *
+     * @param view                the view of a Base64 encoded token.
+     * @param deferPayloadParsing whether to parse the Payload on first access instead of now.
+     * @param limits              the limits the token must be within, or null to accept tokens of any size.
+     * @param parser              the parser for the Header and Payload JSON, or null to use the default {@link JWTParser}.
+     * @param metrics             the metrics to report to, or null to measure nothing.
+     * @throws JWTDecodeException if the token exceeds the limits or the Header, or the Payload unless deferred, is invalid.
+     */
+    public JWTDecoder(TokenView view, boolean deferPayloadParsing, TokenLimits limits, JWTPartsParser parser,
+                      JWTMetrics metrics) throws Exception {
+        this.metrics = metrics;
+        long start = nanoTime();
+        boolean checkLimits = limits != null && limits != view.getLimits();
+        if (checkLimits) {
+            limits.checkToken(view.getToken(), EncodeType.Base64);
+        }
+        parts = new String[]{view.getHeader(), view.getPayload(), view.getSignature()};
+        this.encodeType = EncodeType.Base64;
+        this.limits = limits;
+        this.parser = parser != null ? parser : DefaultParser.INSTANCE;
+        long split = nanoTime();
+        String headerJson = view.getHeaderJson();
+        long decoded = nanoTime();
+        if (checkLimits) {
+            limits.checkHeader(headerJson);
+        }
+        header = parser == null ? view.getParsedHeader() : parser.parseHeader(headerJson);
+        long parsed = nanoTime();
+        long base64Nanos = decoded - split;
+        long parseNanos = parsed - decoded;
+        if (!deferPayloadParsing) {
+            String payloadJson = StringUtils.newStringUtf8(view.getPayloadBytes());
+            long payloadDecoded = nanoTime();
+            payload = parsePayload(payloadJson);
+            base64Nanos += payloadDecoded - parsed;
+            parseNanos += nanoTime() - payloadDecoded;
+        }
+        if (metrics != null) {
+            recordPhase(JWTMetrics.Phase.SPLIT, split - start);
+            recordPhase(JWTMetrics.Phase.BASE64, base64Nanos);
+            recordPhase(JWTMetrics.Phase.PARSE, parseNanos);
+        }
+    }
+
+    private Payload parsePayload(String payloadJson) throws JWTDecodeException {
+        if (limits != null) {
+            limits.checkPayload(payloadJson);
+        }
+        return parser.parsePayload(payloadJson);
+    }
+
+    /**
+     * Binds the Payload to the given class, reading the Payload's JSON only once: when the default parser already
+     * parsed the Payload, like for checking its claims, the class is bound from the JSON values read then; when the
+     * Payload parsing was deferred and nothing accessed it yet, the JSON is decoded and read straight into the class,
+     * without building the Claims or a JSON tree, once checked against the limits like a parsed Payload. Only a Payload
+     * parsed by another parser is read a second time. The reader for the class is shared by all the tokens.
+     *
+     * @param type the class to bind the Payload to.
+     * @param <T>  the type of the bound Payload.
+     * @return the Payload as an instance of the given class.
+     * @throws JWTDecodeException if the Payload exceeds the limits or can't be bound to the given class.
+     */
+    public <T> T getPayloadAs(Class<T> type) throws JWTDecodeException {
+        try {
+            T bound = ObjectReaders.readPayload(payload, type);
+            if (bound != null) {
+                return bound;
+            }
+            ObjectReader reader = ObjectReaders.forClass(type);
+            switch (encodeType) {
+                case Base16:
+                case Base32:
+                    String json = decodeJson(parts[1], encodeType);
+                    if (limits != null) {
+                        limits.checkPayload(json);
+                    }
+                    return reader.readValue(json);
+                default:
+                    byte[] bytes = Base64.decodeBase64(parts[1]);
+                    if (limits != null) {
+                        limits.checkPayload(bytes);
+                    }
+                    return reader.readValue(bytes);
+            }
+        } catch (IOException e) {
+            throw new JWTDecodeException("Couldn't map the Payload to " + type.getSimpleName(), e);
+        }
+    }
+
+    private Payload payload() throws JWTDecodeException {
+        Payload payload = this.payload;
+        if (payload == null) {
+            long start = nanoTime();
+            String payloadJson = decodePart(parts[1], encodeType);
+            long decoded = nanoTime();
+            payload = parsePayload(payloadJson);
+            if (metrics != null) {
+                recordPhase(JWTMetrics.Phase.BASE64, decoded - start);
+                recordPhase(JWTMetrics.Phase.PARSE, System.nanoTime() - decoded);
+            }
+            this.payload = payload;
+        }
+        return payload;
+    }
+
+    private long nanoTime() {
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    private void recordPhase(JWTMetrics.Phase phase, long nanos) {
+        metrics.recordPhase(phase, header.getAlgorithm(), header.getKeyId(), nanos);
+    }
+
+    private static String decodePart(String part, EncodeType encodeType) throws JWTDecodeException {
         switch (encodeType) {
             case Base16:
-                headerJson = URLDecoder.decode(new String(Hex.decodeHex(parts[0])), "UTF-8");
-                payloadJson = URLDecoder.decode(new String(Hex.decodeHex(parts[1])), "UTF-8");
-                break;
             case Base32:
-                Base32 base32 = new Base32();
-                headerJson = URLDecoder.decode(new String(base32.decode(parts[0]), "UTF-8"));
-                payloadJson = URLDecoder.decode(new String(base32.decode(parts[1]), "UTF-8"));
-                break;
+                return decodeJson(part, encodeType);
             case Base64:
-                headerJson = StringUtils.newStringUtf8(Base64.decodeBase64(parts[0]));
-                payloadJson = StringUtils.newStringUtf8(Base64.decodeBase64(parts[1]));
-                break;
+                return StringUtils.newStringUtf8(Base64.decodeBase64(part));
+        }
+        return null;
+    }
+
+    private static String decodeJson(String part, EncodeType encodeType) throws JWTDecodeException {
+        try {
+            return encodeType == EncodeType.Base16 ? Base16.decodeJson(part) : Base32.decodeJson(part);
+        } catch (IllegalArgumentException e) {
+            throw new JWTDecodeException(String.format("The string '%s' doesn't have a valid %s format.", part, encodeType), e);
         }
-        header = converter.parseHeader(headerJson);
-        payload = converter.parsePayload(payloadJson);
+    }
+
+    /**
+     * Holds the default parser, so that Jackson isn't loaded when every token is decoded with another parser.
+     */
+    private static final class DefaultParser {
+        static final JWTParser INSTANCE = new JWTParser();
+    }
+
+    /**
+     * Wraps parts that were already decoded, like the ones of a signature from a JWS JSON Serialization.
+     */
+    JWTDecoder(String[] parts, Header header, Payload payload) {
+        this.parts = parts;
+        this.header = header;
+        this.encodeType = EncodeType.JsonEncode;
+        this.limits = null;
+        this.parser = null;
+        this.metrics = null;
+        this.payload = payload;
     }
 
     @Override
@@ -99,47 +349,47 @@ public final class JWTDecoder implements DecodedJWT {
 
     @Override
     public List<String> getIssuer() {
-        return payload.getIssuer();
+        return payload().getIssuer();
     }
 
     @Override
     public List<String> getSubject() {
-        return payload.getSubject();
+        return payload().getSubject();
     }
 
     @Override
     public List<String> getAudience() {
-        return payload.getAudience();
+        return payload().getAudience();
     }
 
     @Override
     public Date getExpiresAt() {
-        return payload.getExpiresAt();
+        return payload().getExpiresAt();
     }
 
     @Override
     public Date getNotBefore() {
-        return payload.getNotBefore();
+        return payload().getNotBefore();
     }
 
     @Override
     public Date getIssuedAt() {
-        return payload.getIssuedAt();
+        return payload().getIssuedAt();
     }
 
     @Override
     public String getId() {
-        return payload.getId();
+        return payload().getId();
     }
 
     @Override
     public Claim getClaim(String name) {
-        return payload.getClaim(name);
+        return payload().getClaim(name);
     }
 
     @Override
     public Map<String, Claim> getClaims() {
-        return payload.getClaims();
+        return payload().getClaims();
     }
 
     @Override
@@ -0,0 +1,160 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Generates random, URL-safe identifiers to be used as JWT Id ("jti"), OpenID Connect "nonce" or OAuth "state" values.
+ * <p>
+ * Every thread draws from its own SecureRandom instance, seeded from a single shared one, so that concurrent callers
+ * don't contend on the same generator like they do when calling {@link java.util.UUID#randomUUID()}. The per-thread
+ * instances are reseeded from the shared one after {@value #RESEED_INTERVAL} identifiers.
+ * <p>
+ * Values are encoded with the unpadded Base64 URL-safe alphabet: the default 16 random bytes result in a 22 characters long String.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class SecureIdGenerator {
+
+    static final int DEFAULT_BYTE_LENGTH = 16;
+    static final int RESEED_INTERVAL = 1 << 16;
+    private static final int SEED_LENGTH = 32;
+    private static final String PRNG_ALGORITHM = "SHA1PRNG";
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    private static final ThreadLocal<Generator> GENERATORS = new ThreadLocal<Generator>() {
+        @Override
+        protected Generator initialValue() {
+            return new Generator();
+        }
+    };
+
+    private SecureIdGenerator() {
+    }
+
+    /**
+     * Generates a new value for the JWT Id ("jti") claim.
+     *
+     * @return a random URL-safe identifier.
+     */
+    public static String newJWTId() {
+        return generate(DEFAULT_BYTE_LENGTH);
+    }
+
+    /**
+     * Generates a new value for the OpenID Connect "nonce" parameter and claim.
+     *
+     * @return a random URL-safe identifier.
+     */
+    public static String newNonce() {
+        return generate(DEFAULT_BYTE_LENGTH);
+    }
+
+    /**
+     * Generates a new value for the OAuth "state" parameter.
+     *
+     * @return a random URL-safe identifier.
+     */
+    public static String newState() {
+        return generate(DEFAULT_BYTE_LENGTH);
+    }
+
+    /**
+     * Generates a new identifier from the given amount of random bytes.
+     *
+     * @param byteLength the amount of random bytes to use. Must be positive.
+     * @return a random URL-safe identifier.
+     * @throws IllegalArgumentException if the byteLength is not positive.
+     */
+    public static String generate(int byteLength) throws IllegalArgumentException {
+        if (byteLength <= 0) {
+            throw new IllegalArgumentException("The amount of bytes must be positive.");
+        }
+        return GENERATORS.get().next(byteLength);
+    }
+
+    /**
+     * Encodes the given bytes with the unpadded Base64 URL-safe alphabet.
+     */
+    static String encode(byte[] bytes, int length) {
+        char[] chars = new char[(length * 4 + 2) / 3];
+        int c = 0;
+        int i = 0;
+        for (; i + 3 <= length; i += 3) {
+            int bits = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff);
+            chars[c++] = ALPHABET[bits >>> 18];
+            chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+            chars[c++] = ALPHABET[(bits >>> 6) & 0x3f];
+            chars[c++] = ALPHABET[bits & 0x3f];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (bytes[i] & 0xff) << 16;
+            chars[c++] = ALPHABET[bits >>> 18];
+            chars[c] = ALPHABET[(bits >>> 12) & 0x3f];
+        } else if (remaining == 2) {
+            int bits = (bytes[i] & 0xff) << 16 | (bytes[i + 1] & 0xff) << 8;
+            chars[c++] = ALPHABET[bits >>> 18];
+            chars[c++] = ALPHABET[(bits >>> 12) & 0x3f];
+            chars[c] = ALPHABET[(bits >>> 6) & 0x3f];
+        }
+        return new String(chars);
+    }
+
+    private static byte[] newSeed() {
+        byte[] seed = new byte[SEED_LENGTH];
+        SEED_SOURCE.nextBytes(seed);
+        return seed;
+    }
+
+    /**
+     * A thread-confined generator. The random instance and the output buffer are never shared.
+     */
+    private static final class Generator {
+        private final SecureRandom random;
+        private final byte[] buffer = new byte[DEFAULT_BYTE_LENGTH];
+        private int generated;
+
+        Generator() {
+            SecureRandom instance;
+            try {
+                instance = SecureRandom.getInstance(PRNG_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                instance = new SecureRandom();
+            }
+            //Seeding before the first use replaces the instance's self-seeding with the shared source's output
+            instance.setSeed(newSeed());
+            this.random = instance;
+        }
+
+        String next(int byteLength) {
+            if (++generated >= RESEED_INTERVAL) {
+                random.setSeed(newSeed());
+                generated = 0;
+            }
+            byte[] bytes = byteLength == DEFAULT_BYTE_LENGTH ? buffer : new byte[byteLength];
+            random.nextBytes(bytes);
+            return encode(bytes, byteLength);
+        }
+    }
+}
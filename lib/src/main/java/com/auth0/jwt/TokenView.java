@@ -0,0 +1,341 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.verification.TokenLimits;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.StringUtils;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The TokenView class gives access to the parts of a Base64 encoded token without decoding it as a whole, to route it
+ * before it's verified, for example by its "alg", "kid" or "iss".
+ * <p>
+ * Creating a view only locates the separators. The parts are sliced, and the Header parsed, when first asked for.
+ * Payload claims are read by name with a streaming scan that skips the values of the other claims and stops as soon as
+ * all the requested ones were found. The Payload is checked against the limits during that same scan, so the part after
+ * the requested claims is neither read nor checked.
+ * <p>
+ * Note that <b>nothing read from a view is verified!</b> Use it only to decide how to verify the token.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TokenView {
+
+    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final JWTParser converter = new JWTParser();
+
+    private final String token;
+    private final int headerEnd;
+    private final int payloadEnd;
+    private final TokenLimits limits;
+    private String header;
+    private String payload;
+    private String headerJson;
+    private byte[] payloadBytes;
+    private Header parsedHeader;
+
+    private TokenView(String token, int headerEnd, int payloadEnd, TokenLimits limits) {
+        this.token = token;
+        this.headerEnd = headerEnd;
+        this.payloadEnd = payloadEnd;
+        this.limits = limits;
+    }
+
+    /**
+     * Create a view of the given token.
+     *
+     * @param token with jwt format as string.
+     * @return a view of the token.
+     * @throws JWTDecodeException if the token doesn't have 3 parts.
+     */
+    public static TokenView of(String token) throws JWTDecodeException {
+        return of(token, null);
+    }
+
+    /**
+     * Create a view of the given token, rejecting it if it exceeds the given limits. The Header and Payload are checked
+     * against the limits too before they're parsed.
+     *
+     * @param token  with jwt format as string.
+     * @param limits the limits the token must be within, or null to accept tokens of any size.
+     * @return a view of the token.
+     * @throws JWTDecodeException if the token exceeds the limits or doesn't have 3 parts.
+     */
+    public static TokenView of(String token, TokenLimits limits) throws JWTDecodeException {
+        if (limits != null) {
+            limits.checkToken(token, EncodeType.Base64);
+        }
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            throw new JWTDecodeException("The token was expected to have 3 parts.");
+        }
+        return new TokenView(token, headerEnd, payloadEnd, limits);
+    }
+
+    /**
+     * Getter for the String Token used to create this view.
+     *
+     * @return the String Token.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Getter for the Header contained in the token as a Base64 encoded String.
+     *
+     * @return the Header of the token.
+     */
+    public String getHeader() {
+        if (header == null) {
+            header = token.substring(0, headerEnd);
+        }
+        return header;
+    }
+
+    /**
+     * Getter for the Payload contained in the token as a Base64 encoded String.
+     *
+     * @return the Payload of the token.
+     */
+    public String getPayload() {
+        if (payload == null) {
+            payload = token.substring(headerEnd + 1, payloadEnd);
+        }
+        return payload;
+    }
+
+    /**
+     * Getter for the Signature contained in the token as a Base64 encoded String.
+     *
+     * @return the Signature of the token.
+     */
+    public String getSignature() {
+        return token.substring(payloadEnd + 1);
+    }
+
+    /**
+     * Getter for the Header, parsed on the first call.
+     *
+     * @return the parsed Header.
+     * @throws JWTDecodeException if the Header exceeds the limits or is not a valid JSON object.
+     */
+    public Header getParsedHeader() throws JWTDecodeException {
+        if (parsedHeader == null) {
+            String json = getHeaderJson();
+            if (limits != null) {
+                limits.checkHeader(json);
+            }
+            parsedHeader = converter.parseHeader(json);
+        }
+        return parsedHeader;
+    }
+
+    /**
+     * Getter for the Algorithm ("alg") value defined in the Header.
+     *
+     * @return the Algorithm defined or null if it's not defined.
+     * @throws JWTDecodeException if the Header is not a valid JSON object.
+     */
+    public String getAlgorithm() throws JWTDecodeException {
+        return getParsedHeader().getAlgorithm();
+    }
+
+    /**
+     * Getter for the Key Id ("kid") value defined in the Header.
+     *
+     * @return the Key Id value or null if it's not defined.
+     * @throws JWTDecodeException if the Header is not a valid JSON object.
+     */
+    public String getKeyId() throws JWTDecodeException {
+        return getParsedHeader().getKeyId();
+    }
+
+    /**
+     * Read a single claim from the Payload.
+     *
+     * @param name the name of the Claim.
+     * @return the Claim, which is a null Claim if it's not in the Payload.
+     * @throws JWTDecodeException if the Payload exceeds the limits or is not a valid JSON object.
+     */
+    public Claim getClaim(String name) throws JWTDecodeException {
+        Claim claim = getClaims(name).get(name);
+        return claim != null ? claim : JWTParser.parseClaim(null);
+    }
+
+    /**
+     * Read the given claims from the Payload, stopping as soon as all of them were found.
+     *
+     * @param names the names of the Claims.
+     * @return the Claims found, by name.
+     * @throws JWTDecodeException if the Payload exceeds the limits or is not a valid JSON object.
+     */
+    public Map<String, Claim> getClaims(String... names) throws JWTDecodeException {
+        Set<String> pending = new HashSet<>(Arrays.asList(names));
+        Map<String, Claim> claims = new HashMap<>();
+        byte[] json = getPayloadBytes();
+        JsonParser source;
+        try {
+            source = mapper.getFactory().createParser(json);
+        } catch (IOException e) {
+            throw exceptionForInvalidPayload(json);
+        }
+        if (limits != null) {
+            limits.checkPayloadSize(json.length);
+            source = new LimitedParser(source, limits);
+        }
+        try (JsonParser parser = source) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw exceptionForInvalidPayload(json);
+            }
+            while (!pending.isEmpty() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if (pending.remove(name)) {
+                    JsonNode value = parser.readValueAsTree();
+                    claims.put(name, JWTParser.parseClaim(value));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw exceptionForInvalidPayload(json);
+        }
+        return claims;
+    }
+
+    /**
+     * Getter for the limits this view was created with, which the Header and Payload are checked against.
+     */
+    TokenLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Getter for the Header's JSON, decoded on the first call.
+     */
+    String getHeaderJson() {
+        if (headerJson == null) {
+            headerJson = StringUtils.newStringUtf8(Base64.decodeBase64(getHeader()));
+        }
+        return headerJson;
+    }
+
+    /**
+     * Getter for the Payload's JSON bytes, decoded on the first call.
+     */
+    byte[] getPayloadBytes() {
+        if (payloadBytes == null) {
+            payloadBytes = Base64.decodeBase64(getPayload());
+        }
+        return payloadBytes;
+    }
+
+    private static JWTDecodeException exceptionForInvalidPayload(byte[] json) {
+        return new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", StringUtils.newStringUtf8(json)));
+    }
+
+    /**
+     * Checks the depth, amount of claims and number lengths of the Payload token by token, including the tokens of the
+     * values that are skipped or read as a tree.
+     */
+    private static final class LimitedParser extends JsonParserDelegate {
+        private final TokenLimits limits;
+        private int depth;
+        private int claimCount;
+
+        LimitedParser(JsonParser parser, TokenLimits limits) {
+            super(parser);
+            this.limits = limits;
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            JsonToken token = delegate.nextToken();
+            if (token == null) {
+                return null;
+            }
+            switch (token) {
+                case START_OBJECT:
+                case START_ARRAY:
+                    limits.checkPayloadDepth(++depth);
+                    break;
+                case END_OBJECT:
+                case END_ARRAY:
+                    depth--;
+                    break;
+                case FIELD_NAME:
+                    if (depth == 1) {
+                        limits.checkPayloadClaimCount(++claimCount);
+                    }
+                    break;
+                case VALUE_NUMBER_INT:
+                case VALUE_NUMBER_FLOAT:
+                    limits.checkPayloadNumberLength(delegate.getTextLength());
+                    break;
+                default:
+                    break;
+            }
+            return token;
+        }
+
+        @Override
+        public JsonToken nextValue() throws IOException {
+            JsonToken token = nextToken();
+            return token == JsonToken.FIELD_NAME ? nextToken() : token;
+        }
+
+        @Override
+        public JsonParser skipChildren() throws IOException {
+            if (delegate.getCurrentToken() != JsonToken.START_OBJECT && delegate.getCurrentToken() != JsonToken.START_ARRAY) {
+                return this;
+            }
+            int open = 1;
+            while (open > 0) {
+                JsonToken token = nextToken();
+                if (token == null) {
+                    return this;
+                }
+                if (token.isStructStart()) {
+                    open++;
+                } else if (token.isStructEnd()) {
+                    open--;
+                }
+            }
+            return this;
+        }
+    }
+}
@@ -22,12 +22,18 @@ package com.auth0.jwt.algorithms;
 import com.auth0.jwt.creators.EncodeType;
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.Base16;
+import com.auth0.jwt.impl.Base32;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.jwt.interfaces.ECDSAKeyProvider;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
+import org.apache.commons.codec.binary.Base64;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.security.interfaces.*;
+import java.util.Locale;
 
 /**
  * The Algorithm class represents an algorithm to be used in the Signing or Verification process of a Token.
@@ -385,6 +391,25 @@ public abstract class Algorithm {
      */
     public abstract void verify(DecodedJWT jwt, EncodeType encodeType) throws Exception;
 
+    /**
+     * Verify the given token using this Algorithm instance, returning false instead of throwing when the Signature doesn't match.
+     *
+     * @param jwt the already decoded JWT that it's going to be verified.
+     * @return true if the Signature matches.
+     * @throws SignatureVerificationException if the Signature can't be decoded or the Key is invalid.
+     */
+    public boolean isValid(DecodedJWT jwt, EncodeType encodeType) throws Exception {
+        try {
+            verify(jwt, encodeType);
+            return true;
+        } catch (SignatureVerificationException e) {
+            if (e.getCause() != null) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
     /**
      * Sign the given content using this Algorithm instance.
      *
@@ -394,6 +419,113 @@ public abstract class Algorithm {
      */
     public abstract byte[] sign(byte[] contentBytes) throws SignatureGenerationException;
 
+    /**
+     * Verify the given token like {@link #isValid(DecodedJWT, EncodeType)} does, reporting the time taken to the given
+     * metrics as a {@link JWTMetrics.Phase#CRYPTO} phase. Algorithms that get their key from a key provider report the
+     * lookup as a separate {@link JWTMetrics.Phase#KEY_LOOKUP} phase.
+     *
+     * @param jwt        the already decoded JWT that it's going to be verified.
+     * @param encodeType the format the token was encoded with.
+     * @param metrics    the metrics to report to, or null to measure nothing.
+     * @return true if the Signature matches.
+     * @throws SignatureVerificationException if the Signature can't be decoded or the Key is invalid.
+     */
+    public boolean isValid(DecodedJWT jwt, EncodeType encodeType, JWTMetrics metrics) throws Exception {
+        if (metrics == null) {
+            return isValid(jwt, encodeType);
+        }
+        long start = System.nanoTime();
+        boolean isValid = isValid(jwt, encodeType);
+        metrics.recordPhase(JWTMetrics.Phase.CRYPTO, name, jwt.getKeyId(), System.nanoTime() - start);
+        return isValid;
+    }
+
+    /**
+     * Sign the given content like {@link #sign(byte[])} does, reporting the time taken to the given metrics as a
+     * {@link JWTMetrics.Phase#CRYPTO} phase. Algorithms that get their key from a key provider report the lookup as a
+     * separate {@link JWTMetrics.Phase#KEY_LOOKUP} phase.
+     *
+     * @param contentBytes an array of bytes representing the base64 encoded content to be verified against the signature.
+     * @param keyId        the Key Id of the token being signed, to tag the phases with.
+     * @param metrics      the metrics to report to, or null to measure nothing.
+     * @return the signature in a base64 encoded array of bytes
+     * @throws SignatureGenerationException if the Key is invalid.
+     */
+    public byte[] sign(byte[] contentBytes, String keyId, JWTMetrics metrics) throws SignatureGenerationException {
+        if (metrics == null) {
+            return sign(contentBytes);
+        }
+        long start = System.nanoTime();
+        byte[] signature = sign(contentBytes);
+        metrics.recordPhase(JWTMetrics.Phase.CRYPTO, name, keyId, System.nanoTime() - start);
+        return signature;
+    }
+
+    /**
+     * Reads the current time for the given metrics, skipping the clock read when there are none.
+     */
+    static long nanoTime(JWTMetrics metrics) {
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Reports the time taken since the given start as a KEY_LOOKUP phase of the given duration and a CRYPTO phase
+     * for the rest.
+     */
+    void recordPhases(JWTMetrics metrics, String keyId, long start, long keyLookupNanos) {
+        long nanos = System.nanoTime() - start;
+        metrics.recordPhase(JWTMetrics.Phase.KEY_LOOKUP, name, keyId, keyLookupNanos);
+        metrics.recordPhase(JWTMetrics.Phase.CRYPTO, name, keyId, nanos - keyLookupNanos);
+    }
+
+    /**
+     * Get the bytes the Signature of the given token was computed over. Base16 and Base32 parts are decoded in any
+     * case, so they are brought back to the case they were signed in, lower and upper respectively, for a token whose
+     * case changed on the way to still verify.
+     *
+     * @param jwt        the already decoded JWT.
+     * @param encodeType the format the token was encoded with.
+     * @return the Header and Payload parts, joined by a dot.
+     */
+    static byte[] getContentBytes(DecodedJWT jwt, EncodeType encodeType) {
+        String content = jwt.getHeader() + '.' + jwt.getPayload();
+        switch (encodeType) {
+            case Base16:
+                content = content.toLowerCase(Locale.ROOT);
+                break;
+            case Base32:
+                content = content.toUpperCase(Locale.ROOT);
+                break;
+            default:
+                break;
+        }
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode the Signature of the given token from the format used by the given EncodeType.
+     *
+     * @param jwt        the already decoded JWT.
+     * @param encodeType the format the token was encoded with.
+     * @return the Signature bytes.
+     * @throws SignatureVerificationException if the Signature is not valid in the given format.
+     */
+    byte[] decodeSignature(DecodedJWT jwt, EncodeType encodeType) throws SignatureVerificationException {
+        String signature = jwt.getSignature();
+        try {
+            switch (encodeType) {
+                case Base16:
+                    return Base16.decode(signature);
+                case Base32:
+                    return Base32.decode(signature);
+                default:
+                    return Base64.decodeBase64(signature);
+            }
+        } catch (IllegalArgumentException e) {
+            throw new SignatureVerificationException(this, e);
+        }
+    }
+
     @Override
     public boolean equals(Object algorithmParam) {
         if(this == algorithmParam)
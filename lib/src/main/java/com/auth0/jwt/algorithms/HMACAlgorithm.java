@@ -25,15 +25,10 @@ import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.apache.commons.codec.CharEncoding;
-import org.apache.commons.codec.binary.Base32;
-import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.codec.binary.StringUtils;
 
 import java.io.UnsupportedEncodingException;
-import java.net.URLDecoder;
 import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 
@@ -70,30 +65,18 @@ class HMACAlgorithm extends Algorithm {
 
     @Override
     public void verify(DecodedJWT jwt, EncodeType encodeType) throws Exception {
-        byte[] contentBytes = String.format("%s.%s", jwt.getHeader(), jwt.getPayload()).getBytes(StandardCharsets.UTF_8);
-        byte[] signatureBytes = null;
-        String signature = jwt.getSignature();
-        String urlDecoded = null;
-        switch (encodeType) {
-            case Base16:
-                urlDecoded = URLDecoder.decode(signature, "UTF-8");
-                signatureBytes = Hex.decodeHex(urlDecoded);
-                break;
-            case Base32:
-                Base32 base32 = new Base32();
-                urlDecoded = URLDecoder.decode(signature, "UTF-8");
-                signatureBytes = base32.decode(urlDecoded);
-                break;
-            case Base64:
-                signatureBytes = Base64.decodeBase64(signature);
-                break;
+        if (!isValid(jwt, encodeType)) {
+            throw new SignatureVerificationException(this);
         }
+    }
+
+    @Override
+    public boolean isValid(DecodedJWT jwt, EncodeType encodeType) throws Exception {
+        byte[] contentBytes = getContentBytes(jwt, encodeType);
+        byte[] signatureBytes = decodeSignature(jwt, encodeType);
 
         try {
-            boolean valid = crypto.verifySignatureFor(getDescription(), secret, contentBytes, signatureBytes);
-            if (!valid) {
-                throw new SignatureVerificationException(this);
-            }
+            return crypto.verifySignatureFor(getDescription(), secret, contentBytes, signatureBytes);
         } catch (IllegalStateException | InvalidKeyException | NoSuchAlgorithmException e) {
             throw new SignatureVerificationException(this, e);
         }
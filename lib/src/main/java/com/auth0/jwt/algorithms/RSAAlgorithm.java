@@ -23,13 +23,9 @@ import com.auth0.jwt.creators.EncodeType;
 import com.auth0.jwt.exceptions.SignatureGenerationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
-import org.apache.commons.codec.binary.Base32;
-import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.binary.Hex;
 
-import java.net.URLDecoder;
-import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SignatureException;
@@ -57,34 +53,34 @@ class RSAAlgorithm extends Algorithm {
 
     @Override
     public void verify(DecodedJWT jwt, EncodeType encodeType) throws Exception {
-        byte[] contentBytes = String.format("%s.%s", jwt.getHeader(), jwt.getPayload()).getBytes(StandardCharsets.UTF_8);
-        byte[] signatureBytes = null;
-        String signature = jwt.getSignature();
-        String urlDecoded = null;
-        switch (encodeType) {
-            case Base16:
-                urlDecoded = URLDecoder.decode(signature, "UTF-8");
-                signatureBytes = Hex.decodeHex(urlDecoded);
-                break;
-            case Base32:
-                Base32 base32 = new Base32();
-                urlDecoded = URLDecoder.decode(signature, "UTF-8");
-                signatureBytes = base32.decode(urlDecoded);
-                break;
-            case Base64:
-                signatureBytes = Base64.decodeBase64(signature);
-                break;
+        if (!isValid(jwt, encodeType)) {
+            throw new SignatureVerificationException(this);
         }
+    }
+
+    @Override
+    public boolean isValid(DecodedJWT jwt, EncodeType encodeType) throws Exception {
+        return isValid(jwt, encodeType, null);
+    }
+
+    @Override
+    public boolean isValid(DecodedJWT jwt, EncodeType encodeType, JWTMetrics metrics) throws Exception {
+        long start = nanoTime(metrics);
+        byte[] contentBytes = getContentBytes(jwt, encodeType);
+        byte[] signatureBytes = decodeSignature(jwt, encodeType);
 
         try {
+            long lookupStart = nanoTime(metrics);
             RSAPublicKey publicKey = keyProvider.getPublicKeyById(jwt.getKeyId());
+            long keyLookupNanos = nanoTime(metrics) - lookupStart;
             if (publicKey == null) {
                 throw new IllegalStateException("The given Public Key is null.");
             }
-            boolean valid = crypto.verifySignatureFor(getDescription(), publicKey, contentBytes, signatureBytes);
-            if (!valid) {
-                throw new SignatureVerificationException(this);
+            boolean isValid = crypto.verifySignatureFor(getDescription(), publicKey, contentBytes, signatureBytes);
+            if (metrics != null) {
+                recordPhases(metrics, jwt.getKeyId(), start, keyLookupNanos);
             }
+            return isValid;
         } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
             throw new SignatureVerificationException(this, e);
         }
@@ -92,12 +88,23 @@ class RSAAlgorithm extends Algorithm {
 
     @Override
     public byte[] sign(byte[] contentBytes) throws SignatureGenerationException {
+        return sign(contentBytes, null, null);
+    }
+
+    @Override
+    public byte[] sign(byte[] contentBytes, String keyId, JWTMetrics metrics) throws SignatureGenerationException {
         try {
+            long start = nanoTime(metrics);
             RSAPrivateKey privateKey = keyProvider.getPrivateKey();
+            long keyLookupNanos = nanoTime(metrics) - start;
             if (privateKey == null) {
                 throw new IllegalStateException("The given Private Key is null.");
             }
-            return crypto.createSignatureFor(getDescription(), privateKey, contentBytes);
+            byte[] signature = crypto.createSignatureFor(getDescription(), privateKey, contentBytes);
+            if (metrics != null) {
+                recordPhases(metrics, keyId, start, keyLookupNanos);
+            }
+            return signature;
         } catch (NoSuchAlgorithmException | SignatureException | InvalidKeyException | IllegalStateException e) {
             throw new SignatureGenerationException(this, e);
         }
@@ -0,0 +1,346 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.creators;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTCreationException;
+import com.auth0.jwt.impl.PublicClaims;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The BulkJWTCreator class signs large amounts of tokens that share the same Header and Algorithm.
+ * <p>
+ * Claim sets are read from the given Iterator in batches, signed in parallel on a {@link ForkJoinPool} and written
+ * to the output in the same order they were read, one token per line. While a batch is being signed the previous
+ * one is written and the next one is read, so the caller thread, the pool and the output are kept busy at the same time.
+ * <p>
+ * Every claim set follows the same conventions as {@link JWTCreator.Builder}: the "exp", "nbf" and "iat" values must be
+ * {@link java.util.Date} instances and the "aud" value a String or a String array.
+ * <p>
+ * Instances are immutable and can be reused, even concurrently, once built.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class BulkJWTCreator {
+
+    static final int DEFAULT_BATCH_SIZE = 1024;
+    //Below this amount of tokens a task stops splitting and signs sequentially
+    private static final int SEQUENTIAL_THRESHOLD = 16;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final Algorithm algorithm;
+    private final EncodeType encodeType;
+    private final String headerJson;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    private BulkJWTCreator(Algorithm algorithm, EncodeType encodeType, String headerJson, ForkJoinPool pool, int batchSize) {
+        this.algorithm = algorithm;
+        this.encodeType = encodeType;
+        this.headerJson = headerJson;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Initialize a BulkJWTCreator instance.
+     *
+     * @param algorithm used to sign every token.
+     * @return a BulkJWTCreator.Builder instance to configure.
+     * @throws IllegalArgumentException if the provided algorithm is null.
+     */
+    public static BulkJWTCreator.Builder init(Algorithm algorithm) throws IllegalArgumentException {
+        return new Builder(algorithm);
+    }
+
+    /**
+     * The Builder class holds the configuration shared by all the tokens.
+     */
+    public static class Builder {
+        private final Algorithm algorithm;
+        private Map<String, Object> headerClaims;
+        private EncodeType encodeType;
+        private ForkJoinPool pool;
+        private int batchSize;
+
+        Builder(Algorithm algorithm) throws IllegalArgumentException {
+            if (algorithm == null) {
+                throw new IllegalArgumentException("The Algorithm cannot be null.");
+            }
+            this.algorithm = algorithm;
+            this.headerClaims = new HashMap<>();
+            this.encodeType = EncodeType.Base64;
+            this.batchSize = DEFAULT_BATCH_SIZE;
+        }
+
+        /**
+         * Add specific Claims to set as the Header of every token.
+         *
+         * @param headerClaims the values to use as Claims in the token's Header.
+         * @return this same Builder instance.
+         */
+        public Builder withHeader(Map<String, Object> headerClaims) {
+            this.headerClaims = new HashMap<>(headerClaims);
+            return this;
+        }
+
+        /**
+         * Add a specific Key Id ("kid") claim to the Header of every token.
+         * If the {@link Algorithm} was instantiated with a KeyProvider, the 'kid' value will be taken from that provider and this one will be ignored.
+         *
+         * @param keyId the Key Id value.
+         * @return this same Builder instance.
+         */
+        public Builder withKeyId(String keyId) {
+            this.headerClaims.put(PublicClaims.KEY_ID, keyId);
+            return this;
+        }
+
+        /**
+         * Specifies which base encoding the tokens will use. Defaults to {@link EncodeType#Base64}.
+         *
+         * @param encodeType the encoding to use.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the encodeType is null or not supported.
+         */
+        public Builder withEncodeType(EncodeType encodeType) throws IllegalArgumentException {
+            if (encodeType == null || encodeType == EncodeType.JsonEncode) {
+                throw new IllegalArgumentException("The EncodeType must be one of Base16, Base32 or Base64.");
+            }
+            this.encodeType = encodeType;
+            return this;
+        }
+
+        /**
+         * Use the given pool to sign the tokens instead of the shared default one, which has as many threads as available processors.
+         *
+         * @param pool the pool to use.
+         * @return this same Builder instance.
+         */
+        public Builder withPool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        /**
+         * Set how many claim sets are read and signed together. Bigger batches keep the pool busier at the cost of memory.
+         * Defaults to 1024.
+         *
+         * @param batchSize the amount of tokens per batch.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the batchSize is not positive.
+         */
+        public Builder withBatchSize(int batchSize) throws IllegalArgumentException {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("The batch size must be positive.");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Creates a new and reusable instance of the BulkJWTCreator with the configuration already provided.
+         *
+         * @return a new BulkJWTCreator instance.
+         * @throws JWTCreationException if the header claims could not be converted to a valid JSON.
+         */
+        public BulkJWTCreator build() throws JWTCreationException {
+            Map<String, Object> header = new HashMap<>(headerClaims);
+            header.put(PublicClaims.ALGORITHM, algorithm.getName());
+            header.put(PublicClaims.TYPE, "JWT");
+            String signingKeyId = algorithm.getSigningKeyId();
+            if (signingKeyId != null) {
+                header.put(PublicClaims.KEY_ID, signingKeyId);
+            }
+            ForkJoinPool signingPool = pool != null ? pool : SigningPool.get();
+            return new BulkJWTCreator(algorithm, encodeType, JWTCreator.toHeaderJson(header), signingPool, batchSize);
+        }
+    }
+
+    /**
+     * Signs every claim set and writes the resulting tokens to the given stream, in input order and separated by a line break.
+     * The stream is neither flushed nor closed.
+     *
+     * @param claimSets the Payload claims of each token.
+     * @param output    where to write the tokens.
+     * @return the amount of tokens written.
+     * @throws IOException          if the tokens couldn't be written.
+     * @throws JWTCreationException if the claims could not be converted to a valid JSON or there was a problem with the signing key.
+     */
+    public long mint(Iterator<? extends Map<String, Object>> claimSets, final OutputStream output) throws IOException, JWTCreationException {
+        return mint(claimSets, new Sink() {
+            @Override
+            public void write(byte[] bytes, int length) throws IOException {
+                output.write(bytes, 0, length);
+            }
+        });
+    }
+
+    /**
+     * Signs every claim set and writes the resulting tokens to the given channel, in input order and separated by a line break.
+     * The channel is not closed.
+     *
+     * @param claimSets the Payload claims of each token.
+     * @param channel   where to write the tokens.
+     * @return the amount of tokens written.
+     * @throws IOException          if the tokens couldn't be written.
+     * @throws JWTCreationException if the claims could not be converted to a valid JSON or there was a problem with the signing key.
+     */
+    public long mint(Iterator<? extends Map<String, Object>> claimSets, final WritableByteChannel channel) throws IOException, JWTCreationException {
+        return mint(claimSets, new Sink() {
+            @Override
+            public void write(byte[] bytes, int length) throws IOException {
+                ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, length);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        });
+    }
+
+    private long mint(Iterator<? extends Map<String, Object>> claimSets, Sink sink) throws IOException {
+        Batch current = new Batch(batchSize);
+        Batch next = new Batch(batchSize);
+        byte[] buffer = new byte[0];
+        long count = 0;
+
+        ForkJoinTask<Void> inFlight = submit(current.fill(claimSets));
+        while (inFlight != null) {
+            ForkJoinTask<Void> nextInFlight = null;
+            try {
+                nextInFlight = submit(next.fill(claimSets));
+                inFlight.join();
+                buffer = current.writeTo(sink, buffer);
+            } catch (RuntimeException | IOException e) {
+                if (nextInFlight != null) {
+                    nextInFlight.cancel(true);
+                }
+                throw e;
+            }
+            count += current.size;
+
+            Batch written = current;
+            current = next;
+            next = written;
+            inFlight = nextInFlight;
+        }
+        return count;
+    }
+
+    private ForkJoinTask<Void> submit(Batch batch) {
+        if (batch.size == 0) {
+            return null;
+        }
+        return pool.submit(new SignTask(batch, 0, batch.size));
+    }
+
+    private interface Sink {
+        void write(byte[] bytes, int length) throws IOException;
+    }
+
+    /**
+     * A reusable group of claim sets and the tokens signed from them.
+     */
+    private static final class Batch {
+        private final List<Map<String, Object>> claims;
+        private final String[] tokens;
+        private int size;
+
+        Batch(int capacity) {
+            this.claims = new ArrayList<>(capacity);
+            this.tokens = new String[capacity];
+        }
+
+        Batch fill(Iterator<? extends Map<String, Object>> claimSets) {
+            claims.clear();
+            while (claims.size() < tokens.length && claimSets.hasNext()) {
+                claims.add(claimSets.next());
+            }
+            size = claims.size();
+            return this;
+        }
+
+        /**
+         * Copies the tokens into the given buffer, growing it when required, and hands it to the sink in a single write.
+         * Tokens only contain ASCII characters so each char maps to a single byte.
+         */
+        byte[] writeTo(Sink sink, byte[] buffer) throws IOException {
+            int length = 0;
+            for (int i = 0; i < size; i++) {
+                length += tokens[i].length() + 1;
+            }
+            if (buffer.length < length) {
+                buffer = new byte[length];
+            }
+            int offset = 0;
+            for (int i = 0; i < size; i++) {
+                String token = tokens[i];
+                for (int c = 0; c < token.length(); c++) {
+                    buffer[offset++] = (byte) token.charAt(c);
+                }
+                buffer[offset++] = LINE_SEPARATOR;
+                tokens[i] = null;
+            }
+            claims.clear();
+            sink.write(buffer, length);
+            return buffer;
+        }
+    }
+
+    @SuppressWarnings("serial") // only ever run in-process by the pool, never serialized
+    private final class SignTask extends RecursiveAction {
+        private final Batch batch;
+        private final int from;
+        private final int to;
+
+        SignTask(Batch batch, int from, int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    batch.tokens[i] = sign(batch.claims.get(i));
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new SignTask(batch, from, middle), new SignTask(batch, middle, to));
+        }
+    }
+
+    private String sign(Map<String, Object> payloadClaims) throws JWTCreationException {
+        return new JWTCreator(algorithm, headerJson, payloadClaims).sign(encodeType);
+    }
+}
@@ -22,11 +22,12 @@ package com.auth0.jwt.creators;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.jwts.JWT;
 
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,21 +35,17 @@ import java.util.Set;
  */
 public class FbJwtCreator {
 
+    private static final TokenProfile PROFILE = TokenProfile.FB;
+    private static final Algorithm NONE = Algorithm.none();
+
     protected JWTCreator.Builder jwt;
     protected HashMap<String, Boolean> addedClaims;
     protected Set<String> publicClaims;
 
     public FbJwtCreator() {
         jwt = JWT.create();
-        addedClaims = new HashMap<String, Boolean>() {{
-            put("UserId", false);
-            put("AppId", false);
-            put("Iat", false);
-        }};
-        publicClaims = new HashSet<String>() {{
-            add(PublicClaims.ISSUED_AT);
-            add(PublicClaims.EXPIRES_AT);
-        }};
+        addedClaims = PROFILE.newAddedClaims();
+        publicClaims = PROFILE.newPublicClaims();
     }
 
     /**
@@ -81,7 +78,7 @@ public class FbJwtCreator {
      * @return this same Verification instance.
      */
     public FbJwtCreator withUserId(String userId) {
-        jwt.withNonStandardClaim("userId", userId);
+        jwt.withNonStandardClaim(PublicClaims.USER_ID, userId);
         addedClaims.put("UserId", true);
         return this;
     }
@@ -93,7 +90,7 @@ public class FbJwtCreator {
      * @return this same Verification instance.
      */
     public FbJwtCreator withAppId(String appId) {
-        jwt.withNonStandardClaim("appId", appId);
+        jwt.withNonStandardClaim(PublicClaims.APP_ID, appId);
         addedClaims.put("AppId", true);
         return this;
     }
@@ -186,8 +183,9 @@ public class FbJwtCreator {
      */
     public FbJwtCreator withArrayClaim(String name, String... items) throws IllegalArgumentException {
         jwt.withArrayClaim(name, items);
-        if(publicClaims.contains(name))
-            addedClaims.put(name, true);
+        if (publicClaims.contains(name)) {
+            addedClaims.put(PROFILE.getLabel(name), true);
+        }
         return this;
     }
 
@@ -213,12 +211,11 @@ public class FbJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String sign(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm);
     }
 
     /**
@@ -231,12 +228,11 @@ public class FbJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase16Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base16);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base16);
     }
 
     /**
@@ -249,12 +245,11 @@ public class FbJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase32Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base32);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base32);
     }
 
     /**
@@ -262,9 +257,11 @@ public class FbJwtCreator {
      * @throws Exception if all the standard claims weren't provided
      */
     private void verifyClaims() throws Exception {
-        for(String claim : addedClaims.keySet())
-            if(!addedClaims.get(claim))
-                throw new Exception("Standard claim: " + claim + " has not been set");
+        for (Map.Entry<String, Boolean> claim : addedClaims.entrySet()) {
+            if (!claim.getValue()) {
+                throw new Exception("Standard claim: " + claim.getKey() + " has not been set");
+            }
+        }
     }
 
     public static FbJwtCreator build() {
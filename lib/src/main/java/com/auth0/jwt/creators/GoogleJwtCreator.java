@@ -22,11 +22,12 @@ package com.auth0.jwt.creators;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.jwts.JWT;
 
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,29 +35,17 @@ import java.util.Set;
  */
 public class GoogleJwtCreator {
 
+    private static final TokenProfile PROFILE = TokenProfile.GOOGLE;
+    private static final Algorithm NONE = Algorithm.none();
+
     protected JWTCreator.Builder jwt;
     protected HashMap<String, Boolean> addedClaims;
     protected Set<String> publicClaims;
 
     public GoogleJwtCreator() {
         jwt = JWT.create();
-        addedClaims = new HashMap<String, Boolean>() {{
-            put("Name", false);
-            put("Email", false);
-            put("Picture", false);
-            put("Issuer", false);
-            put("Subject", false);
-            put("Iat", false);
-        }};
-        publicClaims = new HashSet<String>() {{
-            add(PublicClaims.ISSUER);
-            add(PublicClaims.SUBJECT);
-            add(PublicClaims.EXPIRES_AT);
-            add(PublicClaims.NOT_BEFORE);
-            add(PublicClaims.ISSUED_AT);
-            add(PublicClaims.JWT_ID);
-            add(PublicClaims.AUDIENCE);
-        }};
+        addedClaims = PROFILE.newAddedClaims();
+        publicClaims = PROFILE.newPublicClaims();
     }
 
 
@@ -67,7 +56,7 @@ public class GoogleJwtCreator {
      * @return this same Builder instance.
      */
     public GoogleJwtCreator withName(String name) {
-        jwt.withNonStandardClaim("name", name);
+        jwt.withNonStandardClaim(PublicClaims.NAME, name);
         addedClaims.put("Name", true);
         return this;
     }
@@ -79,7 +68,7 @@ public class GoogleJwtCreator {
      * @return this same Builder instance.
      */
     public GoogleJwtCreator withEmail(String email) {
-        jwt.withNonStandardClaim("email", email);
+        jwt.withNonStandardClaim(PublicClaims.EMAIL, email);
         addedClaims.put("Email", true);
         return this;
     }
@@ -91,7 +80,7 @@ public class GoogleJwtCreator {
      * @return this same Builder instance.
      */
     public GoogleJwtCreator withPicture(String picture) {
-        jwt.withNonStandardClaim("picture", picture);
+        jwt.withNonStandardClaim(PublicClaims.PICTURE, picture);
         addedClaims.put("Picture", true);
         return this;
     }
@@ -245,8 +234,9 @@ public class GoogleJwtCreator {
      */
     public GoogleJwtCreator withArrayClaim(String name, String... items) throws IllegalArgumentException {
         jwt.withArrayClaim(name, items);
-        if(publicClaims.contains(name))
-            addedClaims.put(name, true);
+        if (publicClaims.contains(name)) {
+            addedClaims.put(PROFILE.getLabel(name), true);
+        }
         return this;
     }
 
@@ -272,12 +262,11 @@ public class GoogleJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String sign(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm);
     }
 
     /**
@@ -290,12 +279,11 @@ public class GoogleJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase16Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base16);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base16);
     }
 
     /**
@@ -308,12 +296,11 @@ public class GoogleJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase32Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base32);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base32);
     }
 
     /**
@@ -321,9 +308,11 @@ public class GoogleJwtCreator {
      * @throws Exception if all the standard claims weren't provided
      */
     private void verifyClaims() throws Exception {
-        for(String claim : addedClaims.keySet())
-            if(!addedClaims.get(claim))
-                throw new Exception("Standard claim: " + claim + " has not been set");
+        for (Map.Entry<String, Boolean> claim : addedClaims.entrySet()) {
+            if (!claim.getValue()) {
+                throw new Exception("Standard claim: " + claim.getKey() + " has not been set");
+            }
+        }
     }
 
     public static GoogleJwtCreator build() {
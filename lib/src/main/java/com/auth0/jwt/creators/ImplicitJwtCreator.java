@@ -21,12 +21,12 @@ package com.auth0.jwt.creators;
 
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
-import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.jwts.JWT;
 
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -34,23 +34,17 @@ import java.util.Set;
  */
 public class ImplicitJwtCreator {
 
+    private static final TokenProfile PROFILE = TokenProfile.IMPLICIT;
+    private static final Algorithm NONE = Algorithm.none();
+
     protected JWTCreator.Builder jwt;
     protected HashMap<String, Boolean> addedClaims;
     protected Set<String> publicClaims;
 
     public ImplicitJwtCreator() {
         jwt = JWT.create();
-        addedClaims = new HashMap<String, Boolean>() {{
-            put("Issuer", false);
-            put("Subject", false);
-            put("Iat", false);
-        }};
-        publicClaims = new HashSet<String>() {{
-            add(PublicClaims.ISSUER);
-            add(PublicClaims.SUBJECT);
-            add(PublicClaims.ISSUED_AT);
-            add(PublicClaims.AUDIENCE);
-        }};
+        addedClaims = PROFILE.newAddedClaims();
+        publicClaims = PROFILE.newPublicClaims();
     }
 
     /**
@@ -191,8 +185,9 @@ public class ImplicitJwtCreator {
      */
     public ImplicitJwtCreator withArrayClaim(String name, String... items) throws IllegalArgumentException {
         jwt.withArrayClaim(name, items);
-        if(publicClaims.contains(name))
-            addedClaims.put(name, true);
+        if (publicClaims.contains(name)) {
+            addedClaims.put(PROFILE.getLabel(name), true);
+        }
         return this;
     }
 
@@ -218,12 +213,11 @@ public class ImplicitJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String sign(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm);
     }
 
     /**
@@ -236,12 +230,11 @@ public class ImplicitJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase16Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base16);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base16);
     }
 
     /**
@@ -254,12 +247,11 @@ public class ImplicitJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase32Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base32);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base32);
     }
 
     /**
@@ -267,9 +259,11 @@ public class ImplicitJwtCreator {
      * @throws Exception if all the standard claims weren't provided
      */
     private void verifyClaims() throws Exception {
-        for(String claim : addedClaims.keySet())
-            if(!addedClaims.get(claim))
-                throw new Exception("Standard claim: " + claim + " has not been set");
+        for (Map.Entry<String, Boolean> claim : addedClaims.entrySet()) {
+            if (!claim.getValue()) {
+                throw new Exception("Standard claim: " + claim.getKey() + " has not been set");
+            }
+        }
     }
 
     public static ImplicitJwtCreator build() {
@@ -19,29 +19,34 @@
 
 package com.auth0.jwt.creators;
 
+import com.auth0.jwt.JWSJsonSerialization;
+import com.auth0.jwt.SecureIdGenerator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.SignatureGenerationException;
+import com.auth0.jwt.impl.Base16;
+import com.auth0.jwt.impl.Base32;
 import com.auth0.jwt.impl.ClaimsHolder;
 import com.auth0.jwt.impl.PayloadSerializer;
 import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.interfaces.JWTMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
-import org.apache.commons.codec.Encoder;
-import org.apache.commons.codec.binary.Base32;
 import org.apache.commons.codec.binary.Base64;
-import org.apache.commons.codec.binary.Hex;
-import org.apache.commons.codec.binary.StringUtils;
 
 import java.io.*;
-import java.net.URLDecoder;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * The JWTCreator class holds the sign method to generate a complete JWT (with Signature) from a given Header and Payload content.
@@ -49,20 +54,59 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public final class JWTCreator {
 
+    private static final ObjectMapper mapper = getDefaultObjectMapper();
+
     private final Algorithm algorithm;
     private final String headerJson;
     private final String payloadJson;
+    private final String keyId;
+    private final JWTMetrics metrics;
+
+    private JWTCreator(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims,
+                       String keyId, JWTMetrics metrics) throws JWTCreationException {
+        this(algorithm, toHeaderJson(headerClaims), payloadClaims, keyId, metrics);
+    }
+
+    JWTCreator(Algorithm algorithm, String headerJson, Map<String, Object> payloadClaims) throws JWTCreationException {
+        this(algorithm, headerJson, payloadClaims, null, null);
+    }
 
-    private JWTCreator(Algorithm algorithm, Map<String, Object> headerClaims, Map<String, Object> payloadClaims) throws JWTCreationException {
+    private JWTCreator(Algorithm algorithm, String headerJson, Map<String, Object> payloadClaims, String keyId,
+                       JWTMetrics metrics) throws JWTCreationException {
         this.algorithm = algorithm;
+        this.headerJson = headerJson;
+        this.payloadJson = toPayloadJson(payloadClaims);
+        this.keyId = keyId;
+        this.metrics = metrics;
+    }
+
+    static ObjectMapper getDefaultObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ClaimsHolder.class, new PayloadSerializer());
+        mapper.registerModule(module);
+        mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
+        return mapper;
+    }
+
+    /**
+     * Serializes the given Header claims once so that it can be shared by several tokens.
+     *
+     * @param headerClaims the values to use as Claims in the token's Header.
+     * @return the Header as a JSON string.
+     * @throws JWTCreationException if the claims could not be converted to a valid JSON.
+     */
+    static String toHeaderJson(Map<String, Object> headerClaims) throws JWTCreationException {
+        try {
+            return mapper.writeValueAsString(headerClaims);
+        } catch (JsonProcessingException e) {
+            throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
+        }
+    }
+
+    private static String toPayloadJson(Map<String, Object> payloadClaims) throws JWTCreationException {
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            SimpleModule module = new SimpleModule();
-            module.addSerializer(ClaimsHolder.class, new PayloadSerializer());
-            mapper.registerModule(module);
-            mapper.configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true);
-            headerJson = mapper.writeValueAsString(headerClaims);
-            payloadJson = mapper.writeValueAsString(new ClaimsHolder(payloadClaims));
+            return mapper.writeValueAsString(new ClaimsHolder(payloadClaims));
         } catch (JsonProcessingException e) {
             throw new JWTCreationException("Some of the Claims couldn't be converted to a valid JSON format.", e);
         }
@@ -85,6 +129,7 @@ public final class JWTCreator {
         private final Map<String, Object> payloadClaims;
         private Map<String, Object> headerClaims;
         private boolean isNoneAlgorithmAllowed;
+        private JWTMetrics metrics;
 
         Builder() {
             this.payloadClaims = new HashMap<>();
@@ -195,6 +240,16 @@ public final class JWTCreator {
             return this;
         }
 
+        /**
+         * Add a randomly generated JWT Id ("jti") claim to the Payload.
+         *
+         * @return this same Builder instance.
+         * @see SecureIdGenerator#newJWTId()
+         */
+        public Builder withGeneratedJWTId() {
+            return withJWTId(SecureIdGenerator.newJWTId());
+        }
+
         /**
          * Developer specifies whether they want to accept
          * NONE algorithms or not.
@@ -366,27 +421,77 @@ public final class JWTCreator {
             if(encodeType == null) {
                 throw new IllegalArgumentException("Encodetype cannot be null.");
             }
-            headerClaims.put(PublicClaims.ALGORITHM, algorithm.getName());
-            headerClaims.put(PublicClaims.TYPE, "JWT");
-            String signingKeyId = algorithm.getSigningKeyId();
-            if (signingKeyId != null) {
-                withKeyId(signingKeyId);
+            addAlgorithmClaims(headerClaims, algorithm);
+            if (metrics != null) {
+                return signTimed(algorithm, encodeType);
             }
-            JWTCreator jwtCreator = new JWTCreator(algorithm, headerClaims, payloadClaims);
+            JWTCreator jwtCreator = new JWTCreator(algorithm, headerClaims, payloadClaims, null, null);
+            return jwtCreator.sign(encodeType);
+        }
+
+        /**
+         * Report the time taken to serialize and to sign each token, and its outcome, to the given metrics.
+         * Without metrics, the default, no time is measured at all.
+         *
+         * @param metrics the metrics to report to, or null to measure nothing.
+         * @return this same Builder instance.
+         */
+        public Builder withMetrics(JWTMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        private String signTimed(Algorithm algorithm, EncodeType encodeType) throws SignatureGenerationException {
+            String algorithmName = algorithm.getName();
+            Object keyId = headerClaims.get(PublicClaims.KEY_ID);
+            String keyIdValue = keyId instanceof String ? (String) keyId : null;
+            long start = System.nanoTime();
             String token = null;
-            switch (encodeType) {
-                case Base16:
-                    token = jwtCreator.signBase16Encoding();
-                    break;
-                case Base32:
-                    token = jwtCreator.signBase32Encoding();
-                    break;
-                case Base64:
-                    token = jwtCreator.defaultSign();
-                    break;
+            try {
+                JWTCreator jwtCreator = new JWTCreator(algorithm, headerClaims, payloadClaims, keyIdValue, metrics);
+                long serialized = System.nanoTime();
+                metrics.recordPhase(JWTMetrics.Phase.SERIALIZE, algorithmName, keyIdValue, serialized - start);
+                token = jwtCreator.sign(encodeType);
+                metrics.recordPhase(JWTMetrics.Phase.SIGN, algorithmName, keyIdValue, System.nanoTime() - serialized);
+                return token;
+            } finally {
+                metrics.recordCreation(algorithmName, keyIdValue, token != null ? token.length() : 0, token != null, System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Creates a new JWT in the general JWS JSON Serialization, with one signature for each of the given algorithms.
+         * The Payload is serialized and encoded once, and when more than one algorithm is given the signatures are computed in parallel.
+         * Use {@link #sign(Algorithm, EncodeType)} with {@link EncodeType#JsonEncode} for the flattened form of a single signature.
+         *
+         * @param algorithms used to sign the JWT, each one with its own protected Header.
+         * @return a new JWT in the general JWS JSON Serialization.
+         * @throws IllegalArgumentException if no algorithm is provided or any of them is null.
+         * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with a signing key.
+         */
+        public String signJson(Algorithm... algorithms) throws JWTCreationException {
+            if (algorithms == null || algorithms.length == 0) {
+                throw new IllegalArgumentException("At least one Algorithm is required.");
+            }
+            String[] headerJsons = new String[algorithms.length];
+            for (int i = 0; i < algorithms.length; i++) {
+                if (algorithms[i] == null) {
+                    throw new IllegalArgumentException("The Algorithm cannot be null.");
+                }
+                Map<String, Object> header = new HashMap<>(headerClaims);
+                addAlgorithmClaims(header, algorithms[i]);
+                headerJsons[i] = toHeaderJson(header);
             }
+            return JWTCreator.signJson(algorithms, headerJsons, payloadClaims);
+        }
 
-            return token;
+        private static void addAlgorithmClaims(Map<String, Object> header, Algorithm algorithm) {
+            header.put(PublicClaims.ALGORITHM, algorithm.getName());
+            header.put(PublicClaims.TYPE, "JWT");
+            String signingKeyId = algorithm.getSigningKeyId();
+            if (signingKeyId != null) {
+                header.put(PublicClaims.KEY_ID, signingKeyId);
+            }
         }
 
         protected void assertNonNull(String name) {
@@ -404,41 +509,117 @@ public final class JWTCreator {
         }
     }
 
-    private String signBase16Encoding() throws UnsupportedEncodingException {
-        String header = URLEncoder.encode(headerJson, "UTF-8");
-        String payload = URLEncoder.encode(payloadJson, "UTF-8");
-
-        byte[] bHeader = header.getBytes("UTF-8");
-        String encodedHeader = Hex.encodeHexString(bHeader);
+    String sign(EncodeType encodeType) throws SignatureGenerationException {
+        String token = null;
+        switch (encodeType) {
+            case Base16:
+                token = signBase16Encoding();
+                break;
+            case Base32:
+                token = signBase32Encoding();
+                break;
+            case Base64:
+                token = defaultSign();
+                break;
+            case JsonEncode:
+                token = signFlattened();
+                break;
+        }
+        return token;
+    }
 
-        byte[] bPayload = payload.getBytes("UTF-8");
-        String encodedPayload = Hex.encodeHexString(bPayload);
+    /**
+     * Signs the given Payload once per algorithm, sharing its serialization and encoding, and writes the general
+     * JWS JSON Serialization.
+     */
+    static String signJson(final Algorithm[] algorithms, String[] headerJsons, Map<String, Object> payloadClaims) throws JWTCreationException {
+        final String payload = encodeBase64(toPayloadJson(payloadClaims));
+        final String[] protectedHeaders = new String[algorithms.length];
+        for (int i = 0; i < algorithms.length; i++) {
+            protectedHeaders[i] = encodeBase64(headerJsons[i]);
+        }
+        String[] signatures = new String[algorithms.length];
+        if (algorithms.length == 1) {
+            signatures[0] = signContent(algorithms[0], protectedHeaders[0], payload, null, null);
+        } else {
+            List<Callable<String>> tasks = new ArrayList<>(algorithms.length);
+            for (int i = 0; i < algorithms.length; i++) {
+                final int index = i;
+                tasks.add(new Callable<String>() {
+                    @Override
+                    public String call() {
+                        return signContent(algorithms[index], protectedHeaders[index], payload, null, null);
+                    }
+                });
+            }
+            List<Future<String>> results;
+            try {
+                results = SigningPool.get().invokeAll(tasks);
+                for (int i = 0; i < signatures.length; i++) {
+                    signatures[i] = results.get(i).get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JWTCreationException("The signing was interrupted.", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new JWTCreationException("The token couldn't be signed.", e.getCause());
+            }
+        }
 
-        String content = String.format("%s.%s", encodedHeader, encodedPayload);
-        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.UTF_8));
-        String signature = Hex.encodeHexString(signatureBytes);
-        String signatureFinal = URLEncoder.encode(signature, "UTF-8");
+        List<Map<String, Object>> entries = new ArrayList<>(algorithms.length);
+        for (int i = 0; i < algorithms.length; i++) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put(JWSJsonSerialization.PROTECTED, protectedHeaders[i]);
+            entry.put(JWSJsonSerialization.SIGNATURE, signatures[i]);
+            entries.add(entry);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(JWSJsonSerialization.PAYLOAD, payload);
+        json.put(JWSJsonSerialization.SIGNATURES, entries);
+        return writeJson(json);
+    }
 
-        return String.format("%s.%s", content, signatureFinal);
+    private String signFlattened() throws SignatureGenerationException {
+        String header = encodeBase64(headerJson);
+        String payload = encodeBase64(payloadJson);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(JWSJsonSerialization.PAYLOAD, payload);
+        json.put(JWSJsonSerialization.PROTECTED, header);
+        json.put(JWSJsonSerialization.SIGNATURE, signContent(algorithm, header, payload, keyId, metrics));
+        return writeJson(json);
     }
 
-    private String signBase32Encoding() throws UnsupportedEncodingException{
-        Base32 base32 = new Base32();
-        String header = URLEncoder.encode(headerJson, "UTF-8");
-        String payload = URLEncoder.encode(payloadJson, "UTF-8");
+    private static String signContent(Algorithm algorithm, String header, String payload, String keyId, JWTMetrics metrics)
+            throws SignatureGenerationException {
+        String content = header + '.' + payload;
+        return Base64.encodeBase64URLSafeString(algorithm.sign(content.getBytes(StandardCharsets.UTF_8), keyId, metrics));
+    }
 
-        byte[] bHeader = header.getBytes("UTF-8");
-        String encodedHeader = base32.encodeAsString(bHeader);
+    private static String encodeBase64(String json) {
+        return Base64.encodeBase64URLSafeString(json.getBytes(StandardCharsets.UTF_8));
+    }
 
-        byte[] bPayload = payload.getBytes("UTF-8");
-        String encodedPayload = base32.encodeAsString(bPayload);
+    private static String writeJson(Map<String, Object> json) throws JWTCreationException {
+        try {
+            return mapper.writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new JWTCreationException("The JWS JSON Serialization couldn't be written.", e);
+        }
+    }
 
-        String content = String.format("%s.%s", encodedHeader, encodedPayload);
-        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.UTF_8));
-        String signature = base32.encodeAsString(signatureBytes);
-        String signatureFinal = URLEncoder.encode(signature, "UTF-8");
+    private String signBase16Encoding() {
+        String content = Base16.encodeJson(headerJson) + '.' + Base16.encodeJson(payloadJson);
+        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.US_ASCII), keyId, metrics);
+        return content + '.' + Base16.encode(signatureBytes);
+    }
 
-        return String.format("%s.%s", content, signatureFinal);
+    private String signBase32Encoding() {
+        String content = Base32.encodeJson(headerJson) + '.' + Base32.encodeJson(payloadJson);
+        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.US_ASCII), keyId, metrics);
+        return content + '.' + Base32.encodeSignature(signatureBytes);
     }
 
     private String defaultSign() throws SignatureGenerationException {
@@ -446,7 +627,7 @@ public final class JWTCreator {
         String payload = Base64.encodeBase64URLSafeString(payloadJson.getBytes(StandardCharsets.UTF_8));
         String content = String.format("%s.%s", header, payload);
 
-        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.UTF_8));
+        byte[] signatureBytes = algorithm.sign(content.getBytes(StandardCharsets.UTF_8), keyId, metrics);
         String signature = Base64.encodeBase64URLSafeString(signatureBytes);
 
         return String.format("%s.%s", content, signature);
@@ -19,11 +19,19 @@
 
 package com.auth0.jwt.creators;
 
+import com.auth0.jwt.exceptions.JWTCreationException;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.Gson;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
@@ -32,6 +40,11 @@ import java.util.Map;
 
 public class Message {
 
+    private static final ObjectMapper mapper = createObjectMapper();
+    //Readers and writers are immutable and can be shared across threads and calls
+    private static final ObjectReader reader = mapper.readerFor(new TypeReference<HashMap<String, Object>>(){});
+    private static final ObjectWriter writer = mapper.writer();
+
     public String toUrlEncoded(String json) throws UnsupportedEncodingException {
         return URLEncoder.encode(json, "UTF-8");
     }
@@ -41,11 +54,47 @@ public class Message {
     }
 
     public String toJSON(HashMap<String,Object> hashMap) {
-        return new Gson().toJson(hashMap);
+        try {
+            return writer.writeValueAsString(hashMap);
+        } catch (JsonProcessingException e) {
+            throw new JWTCreationException("Some of the values couldn't be converted to a valid JSON format.", e);
+        }
     }
 
     public HashMap<String,Object> fromJSON(String json) throws IOException {
-        return new ObjectMapper().readValue(json, new TypeReference<Map<String, Object>>(){});
+        return reader.readValue(json);
+    }
+
+    /**
+     * Writes the given values as a JSON object to the stream, without buffering the whole document in memory.
+     * The stream is not closed.
+     *
+     * @param values the values to write.
+     * @param output where to write the JSON.
+     * @throws IOException if the values couldn't be written.
+     */
+    public void toJSON(Map<String,Object> values, OutputStream output) throws IOException {
+        writer.writeValue(output, values);
     }
 
-}
\ No newline at end of file
+    /**
+     * Reads a JSON object from the stream as it arrives, like a large request object or a discovery document.
+     * The stream is not closed.
+     *
+     * @param input where to read the JSON from.
+     * @return the values of the JSON object.
+     * @throws IOException if the stream couldn't be read or doesn't contain a valid JSON object.
+     */
+    public HashMap<String,Object> fromJSON(InputStream input) throws IOException {
+        return reader.readValue(input);
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        //Null values are left out, as they were when serializing with Gson
+        mapper.setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL, JsonInclude.Include.NON_NULL));
+        mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        mapper.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+        return mapper;
+    }
+}
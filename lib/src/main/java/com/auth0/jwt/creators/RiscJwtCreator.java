@@ -19,15 +19,16 @@
 
 package com.auth0.jwt.creators;
 
+import com.auth0.jwt.SecureIdGenerator;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
-import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Verification;
 import com.auth0.jwt.jwts.JWT;
 
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -35,27 +36,17 @@ import java.util.Set;
  */
 public class RiscJwtCreator {
 
+    private static final TokenProfile PROFILE = TokenProfile.RISC;
+    private static final Algorithm NONE = Algorithm.none();
+
     protected JWTCreator.Builder jwt;
     protected HashMap<String, Boolean> addedClaims;
     protected Set<String> publicClaims;
 
     public RiscJwtCreator() {
         jwt = JWT.create();
-        addedClaims = new HashMap<String, Boolean>() {{
-            put("Jti", false);
-            put("Issuer", false);
-            put("Subject", false);
-            put("Iat", false);
-        }};
-        publicClaims = new HashSet<String>() {{
-            add(PublicClaims.ISSUER);
-            add(PublicClaims.SUBJECT);
-            add(PublicClaims.EXPIRES_AT);
-            add(PublicClaims.NOT_BEFORE);
-            add(PublicClaims.ISSUED_AT);
-            add(PublicClaims.JWT_ID);
-            add(PublicClaims.AUDIENCE);
-        }};
+        addedClaims = PROFILE.newAddedClaims();
+        publicClaims = PROFILE.newPublicClaims();
     }
 
     /**
@@ -70,6 +61,16 @@ public class RiscJwtCreator {
         return this;
     }
 
+    /**
+     * Add a randomly generated JWT Id ("jti") claim.
+     *
+     * @return this same Builder instance.
+     * @see SecureIdGenerator#newJWTId()
+     */
+    public RiscJwtCreator withGeneratedJWTId() {
+        return withJWTId(SecureIdGenerator.newJWTId());
+    }
+
     /**
      * Add a specific Issuer ("issuer") claim to the Payload.
      * Allows for multiple issuers
@@ -230,8 +231,9 @@ public class RiscJwtCreator {
      */
     public RiscJwtCreator withArrayClaim(String name, String... items) throws IllegalArgumentException {
         jwt.withArrayClaim(name, items);
-        if(publicClaims.contains(name))
-            addedClaims.put(name, true);
+        if (publicClaims.contains(name)) {
+            addedClaims.put(PROFILE.getLabel(name), true);
+        }
         return this;
     }
 
@@ -257,12 +259,11 @@ public class RiscJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String sign(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm);
     }
 
     /**
@@ -275,12 +276,11 @@ public class RiscJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase16Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base16);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base16);
     }
 
     /**
@@ -293,12 +293,11 @@ public class RiscJwtCreator {
      * @throws JWTCreationException     if the claims could not be converted to a valid JSON or there was a problem with the signing key.
      */
     public String signBase32Encoding(Algorithm algorithm) throws Exception {
-        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(Algorithm.none())) {
+        if(!jwt.getIsNoneAlgorithmAllowed() && algorithm.equals(NONE)) {
             throw new IllegalAccessException("None algorithm isn't allowed");
         }
-        String JWS = jwt.sign(algorithm, EncodeType.Base32);
         verifyClaims();
-        return JWS;
+        return jwt.sign(algorithm, EncodeType.Base32);
     }
 
     /**
@@ -306,9 +305,11 @@ public class RiscJwtCreator {
      * @throws Exception if all the standard claims weren't provided
      */
     private void verifyClaims() throws Exception {
-        for(String claim : addedClaims.keySet())
-            if(!addedClaims.get(claim))
-                throw new Exception("Standard claim: " + claim + " has not been set");
+        for (Map.Entry<String, Boolean> claim : addedClaims.entrySet()) {
+            if (!claim.getValue()) {
+                throw new Exception("Standard claim: " + claim.getKey() + " has not been set");
+            }
+        }
     }
 
     public static RiscJwtCreator build() {
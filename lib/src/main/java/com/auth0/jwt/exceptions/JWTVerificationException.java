@@ -19,12 +19,36 @@
 
 package com.auth0.jwt.exceptions;
 
+/**
+ * The base class of the exceptions raised when a token can't be decoded or verified.
+ * <p>
+ * Whether these exceptions capture their stack trace is a process-wide setting, see
+ * {@link #setStackTraceEnabled(boolean)}.
+ */
 public class JWTVerificationException extends RuntimeException {
+    private static volatile boolean stackTraceEnabled = true;
+
     public JWTVerificationException(String message) {
         this(message, null);
     }
 
     public JWTVerificationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, true, stackTraceEnabled);
+    }
+
+    /**
+     * Whether the verification exceptions created from now on capture their stack trace. Capturing it is the most
+     * expensive part of creating them, and of little use when rejecting invalid tokens is part of the normal traffic.
+     * <p>
+     * <b>This setting is global:</b> it applies to every exception of this library created by any thread in the JVM,
+     * including the ones raised for other verifiers and by other libraries that use this one, so it should only be
+     * changed by the application, once at startup. To reject invalid tokens cheaply for a single verifier, use
+     * {@link com.auth0.jwt.jwts.JWT#verify(String, com.auth0.jwt.verification.VerificationResult)} instead, which
+     * doesn't create exceptions for a mismatching algorithm, signature or claim.
+     *
+     * @param enabled false to create exceptions without stack trace. It's true by default.
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
     }
 }
@@ -0,0 +1,141 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Table driven hexadecimal codec used by {@link com.auth0.jwt.creators.EncodeType#Base16} tokens.
+ * <p>
+ * The Header and Payload of those tokens are the hexadecimal representation of their form-url-encoded JSON, and the
+ * Signature the hexadecimal representation of its bytes. Encoding produces lower case digits, decoding accepts both cases;
+ * the algorithms verify the Signature over the lower case Header and Payload.
+ */
+public final class Base16 {
+
+    private static final char[] DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = -1;
+        }
+        for (int i = 0; i < 10; i++) {
+            DECODE_TABLE['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DECODE_TABLE['a' + i] = (byte) (10 + i);
+            DECODE_TABLE['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private Base16() {
+    }
+
+    /**
+     * Encodes the given bytes, like a Signature.
+     *
+     * @param bytes the bytes to encode.
+     * @return the lower case hexadecimal representation of the bytes.
+     */
+    public static String encode(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        int c = 0;
+        for (byte b : bytes) {
+            chars[c++] = DIGITS[(b >> 4) & 0x0f];
+            chars[c++] = DIGITS[b & 0x0f];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decodes the given hexadecimal value, like a Signature.
+     *
+     * @param value the hexadecimal value, in any case.
+     * @return the decoded bytes.
+     * @throws IllegalArgumentException if the value has an odd length or contains non hexadecimal characters.
+     */
+    public static byte[] decode(String value) throws IllegalArgumentException {
+        int length = value.length();
+        if ((length & 1) != 0) {
+            throw new IllegalArgumentException("The Base16 value must have an even length.");
+        }
+        byte[] bytes = new byte[length / 2];
+        decodeInto(value, length, bytes);
+        return bytes;
+    }
+
+    /**
+     * Encodes a Header or Payload JSON going from its characters to the hexadecimal ones without intermediate Strings.
+     *
+     * @param json the JSON to encode.
+     * @return the hexadecimal representation of the form-url-encoded JSON.
+     */
+    public static String encodeJson(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        char[] chars = new char[FormUrlEncoding.encodedLength(bytes) * 2];
+        int c = 0;
+        for (byte b : bytes) {
+            if (FormUrlEncoding.isUnreserved(b)) {
+                c = put(chars, c, b);
+            } else if (b == ' ') {
+                c = put(chars, c, (byte) '+');
+            } else {
+                c = put(chars, c, (byte) '%');
+                c = put(chars, c, FormUrlEncoding.UPPER_HEX_DIGITS[(b >> 4) & 0x0f]);
+                c = put(chars, c, FormUrlEncoding.UPPER_HEX_DIGITS[b & 0x0f]);
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Decodes a Header or Payload part back to its JSON.
+     *
+     * @param part the hexadecimal representation of the form-url-encoded JSON.
+     * @return the JSON.
+     * @throws IllegalArgumentException if the part is not valid hexadecimal or form-url-encoded content.
+     */
+    public static String decodeJson(String part) throws IllegalArgumentException {
+        byte[] bytes = decode(part);
+        return FormUrlEncoding.decode(bytes, bytes.length);
+    }
+
+    private static int put(char[] chars, int c, byte b) {
+        chars[c] = DIGITS[(b >> 4) & 0x0f];
+        chars[c + 1] = DIGITS[b & 0x0f];
+        return c + 2;
+    }
+
+    private static void decodeInto(String value, int length, byte[] bytes) throws IllegalArgumentException {
+        for (int i = 0, b = 0; i < length; i += 2, b++) {
+            int high = digit(value.charAt(i));
+            int low = digit(value.charAt(i + 1));
+            if ((high | low) < 0) {
+                throw new IllegalArgumentException("The value contains characters outside of the Base16 alphabet.");
+            }
+            bytes[b] = (byte) ((high << 4) | low);
+        }
+    }
+
+    private static int digit(char c) {
+        return c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+    }
+}
@@ -0,0 +1,176 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+/**
+ * Table driven RFC 4648 Base32 codec used by {@link com.auth0.jwt.creators.EncodeType#Base32} tokens.
+ * <p>
+ * The Header and Payload of those tokens are the Base32 representation of their form-url-encoded JSON, padded with '=',
+ * and the Signature the Base32 representation of its bytes with the padding form-url-encoded as "%3D". Encoding
+ * produces upper case characters, decoding accepts both cases and either form of padding so tokens survive
+ * case-insensitive channels; the algorithms verify the Signature over the upper case Header and Payload.
+ */
+public final class Base32 {
+
+    private static final char[] ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567".toCharArray();
+    private static final byte[] DECODE_TABLE = new byte[128];
+    private static final char PAD = '=';
+    private static final String ENCODED_PAD = "%3D";
+
+    static {
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = -1;
+        }
+        for (int i = 0; i < 26; i++) {
+            DECODE_TABLE['A' + i] = (byte) i;
+            DECODE_TABLE['a' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            DECODE_TABLE['2' + i] = (byte) (26 + i);
+        }
+    }
+
+    private Base32() {
+    }
+
+    /**
+     * Encodes the given bytes, padding the result with '='.
+     *
+     * @param bytes the bytes to encode.
+     * @return the Base32 representation of the bytes.
+     */
+    public static String encode(byte[] bytes) {
+        return new String(encode(bytes, bytes.length, false));
+    }
+
+    /**
+     * Encodes the bytes of a Signature, padding the result with "%3D".
+     *
+     * @param bytes the bytes to encode.
+     * @return the Base32 representation of the bytes.
+     */
+    public static String encodeSignature(byte[] bytes) {
+        return new String(encode(bytes, bytes.length, true));
+    }
+
+    /**
+     * Decodes the given Base32 value. Trailing padding, either '=' or "%3D", is optional.
+     *
+     * @param value the Base32 value, in any case.
+     * @return the decoded bytes.
+     * @throws IllegalArgumentException if the value contains characters outside of the Base32 alphabet.
+     */
+    public static byte[] decode(String value) throws IllegalArgumentException {
+        int length = unpaddedLength(value);
+        byte[] bytes = new byte[length * 5 / 8];
+        int buffer = 0;
+        int bits = 0;
+        int b = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            int digit = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (digit < 0) {
+                throw new IllegalArgumentException("The value contains characters outside of the Base32 alphabet.");
+            }
+            buffer = (buffer << 5) | digit;
+            bits += 5;
+            if (bits >= 8) {
+                bits -= 8;
+                bytes[b++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Encodes a Header or Payload JSON.
+     *
+     * @param json the JSON to encode.
+     * @return the Base32 representation of the form-url-encoded JSON.
+     */
+    public static String encodeJson(String json) {
+        byte[] bytes = FormUrlEncoding.encode(json);
+        return new String(encode(bytes, bytes.length, false));
+    }
+
+    /**
+     * Decodes a Header or Payload part back to its JSON.
+     *
+     * @param part the Base32 representation of the form-url-encoded JSON.
+     * @return the JSON.
+     * @throws IllegalArgumentException if the part is not valid Base32 or form-url-encoded content.
+     */
+    public static String decodeJson(String part) throws IllegalArgumentException {
+        byte[] bytes = decode(part);
+        return FormUrlEncoding.decode(bytes, bytes.length);
+    }
+
+    private static char[] encode(byte[] bytes, int length, boolean encodedPadding) {
+        int blocks = (length + 4) / 5;
+        int dataChars = (length * 8 + 4) / 5;
+        int padding = blocks * 8 - dataChars;
+        char[] chars = new char[dataChars + padding * (encodedPadding ? ENCODED_PAD.length() : 1)];
+        int c = 0;
+        int i = 0;
+        for (; i + 5 <= length; i += 5) {
+            long block = (bytes[i] & 0xffL) << 32 | (bytes[i + 1] & 0xffL) << 24 | (bytes[i + 2] & 0xffL) << 16
+                    | (bytes[i + 3] & 0xffL) << 8 | (bytes[i + 4] & 0xffL);
+            for (int shift = 35; shift >= 0; shift -= 5) {
+                chars[c++] = ALPHABET[(int) (block >>> shift) & 0x1f];
+            }
+        }
+        int remaining = length - i;
+        if (remaining > 0) {
+            long block = 0;
+            for (int r = 0; r < remaining; r++) {
+                block |= (bytes[i + r] & 0xffL) << (32 - 8 * r);
+            }
+            int remainingChars = (remaining * 8 + 4) / 5;
+            for (int shift = 35, r = 0; r < remainingChars; shift -= 5, r++) {
+                chars[c++] = ALPHABET[(int) (block >>> shift) & 0x1f];
+            }
+            for (int p = 0; p < padding; p++) {
+                if (encodedPadding) {
+                    chars[c++] = '%';
+                    chars[c++] = '3';
+                    chars[c++] = 'D';
+                } else {
+                    chars[c++] = PAD;
+                }
+            }
+        }
+        return chars;
+    }
+
+    private static int unpaddedLength(String value) {
+        int length = value.length();
+        while (length > 0) {
+            if (value.charAt(length - 1) == PAD) {
+                length--;
+            } else if (length >= 3 && value.regionMatches(true, length - 3, ENCODED_PAD, 0, 3)) {
+                length -= 3;
+            } else {
+                break;
+            }
+        }
+        return length;
+    }
+}
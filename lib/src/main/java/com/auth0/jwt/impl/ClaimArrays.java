@@ -0,0 +1,90 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
+
+/**
+ * The ClaimArrays class reads Array Claims into arrays of primitives. The Claims of this library are read without
+ * boxing their values, while other Claim implementations are read through {@link Claim#asArray(Class)}.
+ */
+public final class ClaimArrays {
+
+    private ClaimArrays() {
+    }
+
+    /**
+     * Get the given Claim as an Array of longs. If the value isn't an Array, null will be returned.
+     *
+     * @param claim the Claim to read.
+     * @return the value as an Array of longs or null.
+     * @throws JWTDecodeException if the values inside the Array can't be converted to long.
+     */
+    public static long[] asLongArray(Claim claim) throws JWTDecodeException {
+        if (claim instanceof JsonNodeClaim) {
+            return ((JsonNodeClaim) claim).asLongArray();
+        }
+        if (claim instanceof MinimalClaim) {
+            return ((MinimalClaim) claim).asLongArray();
+        }
+        if (claim.isNull()) {
+            return null;
+        }
+        Long[] boxed = claim.asArray(Long.class);
+        if (boxed == null) {
+            return null;
+        }
+        long[] arr = new long[boxed.length];
+        for (int i = 0; i < arr.length; i++) {
+            //Like binding does, nulls become zero
+            arr[i] = boxed[i] != null ? boxed[i] : 0L;
+        }
+        return arr;
+    }
+
+    /**
+     * Get the given Claim as an Array of ints. If the value isn't an Array, null will be returned.
+     *
+     * @param claim the Claim to read.
+     * @return the value as an Array of ints or null.
+     * @throws JWTDecodeException if the values inside the Array can't be converted to int.
+     */
+    public static int[] asIntArray(Claim claim) throws JWTDecodeException {
+        if (claim instanceof JsonNodeClaim) {
+            return ((JsonNodeClaim) claim).asIntArray();
+        }
+        if (claim instanceof MinimalClaim) {
+            return ((MinimalClaim) claim).asIntArray();
+        }
+        if (claim.isNull()) {
+            return null;
+        }
+        Integer[] boxed = claim.asArray(Integer.class);
+        if (boxed == null) {
+            return null;
+        }
+        int[] arr = new int[boxed.length];
+        for (int i = 0; i < arr.length; i++) {
+            //Like binding does, nulls become zero
+            arr[i] = boxed[i] != null ? boxed[i] : 0;
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,59 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.interfaces.MillisClock;
+
+import java.util.Date;
+
+/**
+ * Adapts a plain {@link Clock} to a {@link MillisClock} by reading its Date.
+ */
+public final class ClockAdapter implements MillisClock {
+
+    private final Clock clock;
+
+    private ClockAdapter(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Get the given clock as a MillisClock.
+     *
+     * @param clock the clock to adapt.
+     * @return the same clock if it already is a MillisClock, or an adapter reading its Date otherwise.
+     */
+    public static MillisClock of(Clock clock) {
+        if (clock instanceof MillisClock) {
+            return (MillisClock) clock;
+        }
+        return new ClockAdapter(clock);
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return clock.getToday().getTime();
+    }
+
+    @Override
+    public Date getToday() {
+        return clock.getToday();
+    }
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The application/x-www-form-urlencoded steps of the Base16 and Base32 token formats, working on bytes.
+ * Produces the same output as {@link java.net.URLEncoder} and {@link java.net.URLDecoder} with UTF-8.
+ */
+final class FormUrlEncoding {
+
+    static final byte[] UPPER_HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (int c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        UNRESERVED['.'] = true;
+        UNRESERVED['-'] = true;
+        UNRESERVED['*'] = true;
+        UNRESERVED['_'] = true;
+    }
+
+    private FormUrlEncoding() {
+    }
+
+    /**
+     * Whether the byte is kept as is by the encoding.
+     */
+    static boolean isUnreserved(byte b) {
+        return b >= 0 && UNRESERVED[b];
+    }
+
+    /**
+     * The amount of bytes the encoding of the given bytes takes.
+     */
+    static int encodedLength(byte[] bytes) {
+        int length = 0;
+        for (byte b : bytes) {
+            length += isUnreserved(b) || b == ' ' ? 1 : 3;
+        }
+        return length;
+    }
+
+    /**
+     * Encodes the UTF-8 bytes of the given value.
+     */
+    static byte[] encode(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        byte[] encoded = new byte[encodedLength(bytes)];
+        int e = 0;
+        for (byte b : bytes) {
+            if (isUnreserved(b)) {
+                encoded[e++] = b;
+            } else if (b == ' ') {
+                encoded[e++] = '+';
+            } else {
+                encoded[e++] = '%';
+                encoded[e++] = UPPER_HEX_DIGITS[(b >> 4) & 0x0f];
+                encoded[e++] = UPPER_HEX_DIGITS[b & 0x0f];
+            }
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes the first bytes of the given array, reusing it to hold the result, and reads them as UTF-8.
+     *
+     * @throws IllegalArgumentException if an escape sequence is incomplete or not hexadecimal.
+     */
+    static String decode(byte[] bytes, int length) throws IllegalArgumentException {
+        int d = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (b == '+') {
+                bytes[d++] = ' ';
+            } else if (b == '%') {
+                if (i + 2 >= length) {
+                    throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+                }
+                int high = Character.digit(bytes[i + 1], 16);
+                int low = Character.digit(bytes[i + 2], 16);
+                if (high < 0 || low < 0) {
+                    throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+                }
+                bytes[d++] = (byte) ((high << 4) | low);
+                i += 2;
+            } else {
+                bytes[d++] = b;
+            }
+        }
+        return new String(bytes, 0, d, StandardCharsets.UTF_8);
+    }
+}
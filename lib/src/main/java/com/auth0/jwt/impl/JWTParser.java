@@ -20,10 +20,12 @@
 package com.auth0.jwt.impl;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.Header;
 import com.auth0.jwt.interfaces.JWTPartsParser;
 import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -52,6 +54,16 @@ public class JWTParser implements JWTPartsParser {
         return convertFromJSON(json, Header.class);
     }
 
+    /**
+     * Wraps a JSON value read from a token into a Claim.
+     *
+     * @param node the JSON value, or null if it's missing.
+     * @return a Claim for the value, which is a null Claim if the value is missing or null.
+     */
+    public static Claim parseClaim(JsonNode node) {
+        return JsonNodeClaim.claimFromNode(node);
+    }
+
     private void addDeserializers(ObjectMapper mapper) {
         SimpleModule module = new SimpleModule();
         module.addDeserializer(Payload.class, new PayloadDeserializer());
@@ -22,10 +22,10 @@ package com.auth0.jwt.impl;
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.interfaces.Claim;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.IOException;
 import java.lang.reflect.Array;
@@ -39,12 +39,19 @@ import java.util.Map;
  */
 class JsonNodeClaim implements Claim {
 
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<Map<String, Object>>() {
+    };
+
     private final JsonNode data;
 
     private JsonNodeClaim(JsonNode node) {
         this.data = node;
     }
 
+    JsonNode getNode() {
+        return data;
+    }
+
     @Override
     public Boolean asBoolean() {
         return !data.isBoolean() ? null : data.asBoolean();
@@ -86,13 +93,10 @@ class JsonNodeClaim implements Claim {
             return null;
         }
 
+        ObjectReader reader = ObjectReaders.forClass(tClazz);
         T[] arr = (T[]) Array.newInstance(tClazz, data.size());
         for (int i = 0; i < data.size(); i++) {
-            try {
-                arr[i] = getObjectMapper().treeToValue(data.get(i), tClazz);
-            } catch (JsonProcessingException e) {
-                throw new JWTDecodeException("Couldn't map the Claim's array contents to " + tClazz.getSimpleName(), e);
-            }
+            arr[i] = readElement(reader, data.get(i), tClazz);
         }
         return arr;
     }
@@ -103,17 +107,48 @@ class JsonNodeClaim implements Claim {
             return null;
         }
 
-        List<T> list = new ArrayList<>();
+        ObjectReader reader = ObjectReaders.forClass(tClazz);
+        List<T> list = new ArrayList<>(data.size());
         for (int i = 0; i < data.size(); i++) {
-            try {
-                list.add(getObjectMapper().treeToValue(data.get(i), tClazz));
-            } catch (JsonProcessingException e) {
-                throw new JWTDecodeException("Couldn't map the Claim's array contents to " + tClazz.getSimpleName(), e);
-            }
+            list.add(readElement(reader, data.get(i), tClazz));
         }
         return list;
     }
 
+    /**
+     * Get this Claim as an Array of longs, without boxing its values. Read through {@link ClaimArrays}.
+     */
+    long[] asLongArray() throws JWTDecodeException {
+        if (!data.isArray()) {
+            return null;
+        }
+
+        ObjectReader reader = ObjectReaders.forClass(long.class);
+        long[] arr = new long[data.size()];
+        for (int i = 0; i < arr.length; i++) {
+            JsonNode element = data.get(i);
+            arr[i] = element.isIntegralNumber() && element.canConvertToLong() ? element.longValue() : readElement(reader, element, long.class);
+        }
+        return arr;
+    }
+
+    /**
+     * Get this Claim as an Array of ints, without boxing its values. Read through {@link ClaimArrays}.
+     */
+    int[] asIntArray() throws JWTDecodeException {
+        if (!data.isArray()) {
+            return null;
+        }
+
+        ObjectReader reader = ObjectReaders.forClass(int.class);
+        int[] arr = new int[data.size()];
+        for (int i = 0; i < arr.length; i++) {
+            JsonNode element = data.get(i);
+            arr[i] = element.isInt() ? element.intValue() : readElement(reader, element, int.class);
+        }
+        return arr;
+    }
+
     @Override
     public Map<String, Object> asMap() throws JWTDecodeException {
         if (!data.isObject()) {
@@ -121,11 +156,9 @@ class JsonNodeClaim implements Claim {
         }
 
         try {
-            TypeReference<Map<String, Object>> mapType = new TypeReference<Map<String, Object>>() {
-            };
             ObjectMapper thisMapper = getObjectMapper();
             JsonParser thisParser = thisMapper.treeAsTokens(data);
-            return thisParser.readValueAs(mapType);
+            return thisParser.readValueAs(MAP_TYPE);
         } catch (IOException e) {
             throw new JWTDecodeException("Couldn't map the Claim value to Map", e);
         }
@@ -134,7 +167,7 @@ class JsonNodeClaim implements Claim {
     @Override
     public <T> T as(Class<T> tClazz) throws JWTDecodeException {
         try {
-            return getObjectMapper().treeAsTokens(data).readValueAs(tClazz);
+            return ObjectReaders.forClass(tClazz).readValue(data);
         } catch (IOException e) {
             throw new JWTDecodeException("Couldn't map the Claim value to " + tClazz.getSimpleName(), e);
         }
@@ -170,8 +203,33 @@ class JsonNodeClaim implements Claim {
         return new JsonNodeClaim(node);
     }
 
+    /**
+     * Converts an element of an Array. Strings, ints and longs are read from the node directly, which is what binding
+     * them would return too, and any other value is bound with the given reader.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T readElement(ObjectReader reader, JsonNode element, Class<T> tClazz) throws JWTDecodeException {
+        if (tClazz == String.class && element.isTextual()) {
+            return (T) element.textValue();
+        }
+        if (tClazz == Integer.class && element.isInt()) {
+            return (T) Integer.valueOf(element.intValue());
+        }
+        if (tClazz == Long.class && (element.isInt() || element.isLong())) {
+            return (T) Long.valueOf(element.longValue());
+        }
+        if (element.isNull() && !tClazz.isPrimitive()) {
+            return null;
+        }
+        try {
+            return reader.readValue(element);
+        } catch (IOException e) {
+            throw new JWTDecodeException("Couldn't map the Claim's array contents to " + tClazz.getSimpleName(), e);
+        }
+    }
+
     //Visible for testing
     ObjectMapper getObjectMapper() {
-        return new ObjectMapper();
+        return ObjectReaders.MAPPER;
     }
 }
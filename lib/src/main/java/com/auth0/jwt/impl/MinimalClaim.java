@@ -0,0 +1,263 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The MinimalClaim retrieves a claim value from a value read by the {@link MinimalJsonReader}, with the same results as
+ * a {@link JsonNodeClaim} over the same JSON.
+ * <p>
+ * Jackson is only loaded when a value has to be converted to a type it doesn't already have, like a number to a String
+ * or an object to a custom class.
+ */
+class MinimalClaim implements Claim {
+
+    private final Object value;
+
+    private MinimalClaim(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Boolean asBoolean() {
+        return value instanceof Boolean ? (Boolean) value : null;
+    }
+
+    @Override
+    public Integer asInt() {
+        return value instanceof Number ? ((Number) value).intValue() : null;
+    }
+
+    @Override
+    public Long asLong() {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    @Override
+    public Double asDouble() {
+        return value instanceof Number ? ((Number) value).doubleValue() : null;
+    }
+
+    @Override
+    public String asString() {
+        return value instanceof String ? (String) value : null;
+    }
+
+    @Override
+    public Date asDate() {
+        Long seconds = toLong(value);
+        return seconds == null ? null : new Date(seconds * 1000);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] asArray(Class<T> tClazz) throws JWTDecodeException {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> elements = (List<?>) value;
+        T[] arr = (T[]) Array.newInstance(tClazz, elements.size());
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = convertElement(elements.get(i), tClazz);
+        }
+        return arr;
+    }
+
+    @Override
+    public <T> List<T> asList(Class<T> tClazz) throws JWTDecodeException {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> elements = (List<?>) value;
+        List<T> list = new ArrayList<>(elements.size());
+        for (Object element : elements) {
+            list.add(convertElement(element, tClazz));
+        }
+        return list;
+    }
+
+    /**
+     * Get this Claim as an Array of longs, without boxing its values. Read through {@link ClaimArrays}.
+     */
+    long[] asLongArray() throws JWTDecodeException {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> elements = (List<?>) value;
+        long[] arr = new long[elements.size()];
+        for (int i = 0; i < arr.length; i++) {
+            Object element = elements.get(i);
+            //Like binding does, nulls become zero
+            if (element instanceof Integer || element instanceof Long) {
+                arr[i] = ((Number) element).longValue();
+            } else if (element != null) {
+                arr[i] = convertElement(element, long.class);
+            }
+        }
+        return arr;
+    }
+
+    /**
+     * Get this Claim as an Array of ints, without boxing its values. Read through {@link ClaimArrays}.
+     */
+    int[] asIntArray() throws JWTDecodeException {
+        if (!(value instanceof List)) {
+            return null;
+        }
+        List<?> elements = (List<?>) value;
+        int[] arr = new int[elements.size()];
+        for (int i = 0; i < arr.length; i++) {
+            Object element = elements.get(i);
+            //Like binding does, nulls become zero
+            if (element instanceof Integer) {
+                arr[i] = (Integer) element;
+            } else if (element != null) {
+                arr[i] = convertElement(element, int.class);
+            }
+        }
+        return arr;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> asMap() throws JWTDecodeException {
+        if (!(value instanceof Map)) {
+            return null;
+        }
+        return (Map<String, Object>) copy(value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T as(Class<T> tClazz) throws JWTDecodeException {
+        if (tClazz == Object.class) {
+            return (T) copy(value);
+        }
+        if (isScalar(value) && tClazz.isInstance(value)) {
+            return (T) value;
+        }
+        if (tClazz.isArray() && !tClazz.getComponentType().isPrimitive() && value instanceof List) {
+            return (T) asArray(tClazz.getComponentType());
+        }
+        try {
+            return ObjectReaders.MAPPER.convertValue(value, tClazz);
+        } catch (IllegalArgumentException e) {
+            throw new JWTDecodeException("Couldn't map the Claim value to " + tClazz.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public boolean isNull() {
+        return false;
+    }
+
+    /**
+     * Helper method to create a Claim representation from the given value.
+     *
+     * @param value the value to convert into a Claim.
+     * @return a valid Claim instance. If the value is null, a NullClaim will be returned.
+     */
+    static Claim claimFromValue(Object value) {
+        if (value == null) {
+            return new NullClaim();
+        }
+        return new MinimalClaim(value);
+    }
+
+    /**
+     * Converts the value to a long like {@code JsonNode.canConvertToLong()} and {@code JsonNode.asLong()} do.
+     *
+     * @return the value as a long, or null if it isn't a number within the long range.
+     */
+    static Long toLong(Object value) {
+        if (value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Double) {
+            double d = (Double) value;
+            return d >= Long.MIN_VALUE && d <= Long.MAX_VALUE ? (long) d : null;
+        }
+        //BigIntegers are only read when they don't fit in a long
+        return null;
+    }
+
+    /**
+     * Converts a value the way reading it as the given type from JSON would, which for the values that already have
+     * that type is the value itself.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T convertElement(Object element, Class<T> tClazz) throws JWTDecodeException {
+        if (element == null) {
+            return null;
+        }
+        if (tClazz == Long.class && element instanceof Integer) {
+            return (T) Long.valueOf((Integer) element);
+        }
+        if (tClazz == Object.class) {
+            return (T) copy(element);
+        }
+        if (isScalar(element) && tClazz.isInstance(element)) {
+            return (T) element;
+        }
+        try {
+            return ObjectReaders.MAPPER.convertValue(element, tClazz);
+        } catch (IllegalArgumentException e) {
+            throw new JWTDecodeException("Couldn't map the Claim's array contents to " + tClazz.getSimpleName(), e);
+        }
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof BigInteger;
+    }
+
+    /**
+     * Copies the read objects and arrays, so that callers can't change the claim by changing what they were given.
+     */
+    @SuppressWarnings("unchecked")
+    static Object copy(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> object = (Map<String, Object>) value;
+            Map<String, Object> copy = new LinkedHashMap<>(object.size() * 4 / 3 + 1);
+            for (Map.Entry<String, Object> entry : object.entrySet()) {
+                copy.put(entry.getKey(), copy(entry.getValue()));
+            }
+            return copy;
+        }
+        if (value instanceof List) {
+            List<Object> array = (List<Object>) value;
+            List<Object> copy = new ArrayList<>(array.size());
+            for (Object element : array) {
+                copy.add(copy(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,73 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Header;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The MinimalHeader class implements the Header interface over the values read by the {@link MinimalJsonReader}.
+ */
+class MinimalHeader implements Header {
+    private final String algorithm;
+    private final String type;
+    private final String contentType;
+    private final String keyId;
+    private final Map<String, Object> tree;
+
+    MinimalHeader(String algorithm, String type, String contentType, String keyId, Map<String, Object> tree) {
+        this.algorithm = algorithm;
+        this.type = type;
+        this.contentType = contentType;
+        this.keyId = keyId;
+        this.tree = Collections.unmodifiableMap(tree);
+    }
+
+    Map<String, Object> getTree() {
+        return tree;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getKeyId() {
+        return keyId;
+    }
+
+    @Override
+    public Claim getHeaderClaim(String name) {
+        return MinimalClaim.claimFromValue(tree.get(name));
+    }
+}
@@ -0,0 +1,332 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The MinimalJsonReader class reads the JSON of a token's Header or Payload into plain Java values without Jackson.
+ * <p>
+ * Objects are read as a LinkedHashMap, arrays as an ArrayList, numbers as an Integer, Long or BigInteger when they are
+ * integral and as a Double otherwise, which are the same types Jackson binds untyped values to. JSON nulls are read as
+ * null. Only strict JSON is accepted.
+ */
+final class MinimalJsonReader {
+
+    //Deeper documents are rejected instead of risking a StackOverflowError
+    static final int MAX_DEPTH = 512;
+    //Any integral value with up to 18 digits fits in a long
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final String json;
+    private int pos;
+
+    private MinimalJsonReader(String json) {
+        this.json = json;
+    }
+
+    /**
+     * Reads the given JSON, which must be a single object.
+     *
+     * @param json the JSON to read.
+     * @return the object's members, in the order they appear.
+     * @throws IllegalArgumentException if the json is not a valid JSON object.
+     */
+    static Map<String, Object> readObject(String json) throws IllegalArgumentException {
+        MinimalJsonReader reader = new MinimalJsonReader(json);
+        reader.skipWhitespace();
+        reader.expect('{');
+        Map<String, Object> object = reader.readObjectMembers(1);
+        reader.skipWhitespace();
+        if (reader.pos != json.length()) {
+            throw reader.error("Unexpected content after the object");
+        }
+        return object;
+    }
+
+    private Object readValue(int depth) {
+        skipWhitespace();
+        if (pos >= json.length()) {
+            throw error("Unexpected end of input");
+        }
+        char c = json.charAt(pos);
+        switch (c) {
+            case '{':
+                pos++;
+                return readObjectMembers(depth + 1);
+            case '[':
+                pos++;
+                return readArrayElements(depth + 1);
+            case '"':
+                pos++;
+                return readString();
+            case 't':
+                readLiteral("true");
+                return Boolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return Boolean.FALSE;
+            case 'n':
+                readLiteral("null");
+                return null;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return readNumber();
+                }
+                throw error("Unexpected character '" + c + "'");
+        }
+    }
+
+    private Map<String, Object> readObjectMembers(int depth) {
+        checkDepth(depth);
+        Map<String, Object> object = new LinkedHashMap<>();
+        skipWhitespace();
+        if (peek() == '}') {
+            pos++;
+            return object;
+        }
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            String name = readString();
+            skipWhitespace();
+            expect(':');
+            object.put(name, readValue(depth));
+            skipWhitespace();
+            char c = next();
+            if (c == '}') {
+                return object;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or '}'");
+            }
+        }
+    }
+
+    private List<Object> readArrayElements(int depth) {
+        checkDepth(depth);
+        List<Object> array = new ArrayList<>();
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return array;
+        }
+        while (true) {
+            array.add(readValue(depth));
+            skipWhitespace();
+            char c = next();
+            if (c == ']') {
+                return array;
+            }
+            if (c != ',') {
+                throw error("Expected ',' or ']'");
+            }
+        }
+    }
+
+    /**
+     * Reads a string whose opening quote was already consumed. Strings without escape sequences, the common case for
+     * claims, are returned as a substring of the input.
+     */
+    private String readString() {
+        int start = pos;
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                return json.substring(start, pos++);
+            }
+            if (c == '\\') {
+                return readEscapedString(start);
+            }
+            if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+            pos++;
+        }
+        throw error("Unterminated string");
+    }
+
+    private String readEscapedString(int start) {
+        StringBuilder builder = new StringBuilder(pos - start + 16);
+        builder.append(json, start, pos);
+        while (pos < json.length()) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                return builder.toString();
+            }
+            if (c < 0x20) {
+                throw error("Unescaped control character in string");
+            }
+            if (c != '\\') {
+                builder.append(c);
+                continue;
+            }
+            char escaped = next();
+            switch (escaped) {
+                case '"':
+                case '\\':
+                case '/':
+                    builder.append(escaped);
+                    break;
+                case 'b':
+                    builder.append('\b');
+                    break;
+                case 'f':
+                    builder.append('\f');
+                    break;
+                case 'n':
+                    builder.append('\n');
+                    break;
+                case 'r':
+                    builder.append('\r');
+                    break;
+                case 't':
+                    builder.append('\t');
+                    break;
+                case 'u':
+                    builder.append(readHexChar());
+                    break;
+                default:
+                    throw error("Invalid escape sequence '\\" + escaped + "'");
+            }
+        }
+        throw error("Unterminated string");
+    }
+
+    private char readHexChar() {
+        if (pos + 4 > json.length()) {
+            throw error("Unterminated unicode escape sequence");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(json.charAt(pos++), 16);
+            if (digit < 0) {
+                throw error("Invalid unicode escape sequence");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    private Number readNumber() {
+        int start = pos;
+        if (peek() == '-') {
+            pos++;
+        }
+        int integerStart = pos;
+        if (peek() == '0') {
+            pos++;
+        } else if (!skipDigits()) {
+            throw error("Invalid number");
+        }
+        int integerDigits = pos - integerStart;
+        boolean integral = true;
+        if (peek() == '.') {
+            pos++;
+            integral = false;
+            if (!skipDigits()) {
+                throw error("Invalid number");
+            }
+        }
+        char c = peek();
+        if (c == 'e' || c == 'E') {
+            pos++;
+            integral = false;
+            c = peek();
+            if (c == '+' || c == '-') {
+                pos++;
+            }
+            if (!skipDigits()) {
+                throw error("Invalid number");
+            }
+        }
+        String number = json.substring(start, pos);
+        if (!integral) {
+            return Double.valueOf(number);
+        }
+        if (integerDigits <= MAX_LONG_DIGITS) {
+            return narrow(Long.parseLong(number));
+        }
+        BigInteger value = new BigInteger(number);
+        return value.bitLength() < Long.SIZE ? narrow(value.longValue()) : value;
+    }
+
+    private static Number narrow(long value) {
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return (int) value;
+        }
+        return value;
+    }
+
+    private boolean skipDigits() {
+        int start = pos;
+        while (pos < json.length() && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos > start;
+    }
+
+    private void readLiteral(String literal) {
+        if (!json.startsWith(literal, pos)) {
+            throw error("Invalid literal");
+        }
+        pos += literal.length();
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length()) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private void checkDepth(int depth) {
+        if (depth > MAX_DEPTH) {
+            throw error("Maximum nesting depth exceeded");
+        }
+    }
+
+    private void expect(char expected) {
+        if (next() != expected) {
+            throw error("Expected '" + expected + "'");
+        }
+    }
+
+    private char peek() {
+        return pos < json.length() ? json.charAt(pos) : 0;
+    }
+
+    private char next() {
+        if (pos >= json.length()) {
+            throw error("Unexpected end of input");
+        }
+        return json.charAt(pos++);
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + pos);
+    }
+}
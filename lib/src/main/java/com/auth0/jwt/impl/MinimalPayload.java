@@ -0,0 +1,102 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Payload;
+
+import java.util.*;
+
+/**
+ * The MinimalPayload class implements the Payload interface over the values read by the {@link MinimalJsonReader}.
+ */
+class MinimalPayload implements Payload {
+    private final List<String> issuer;
+    private final List<String> subject;
+    private final List<String> audience;
+    private final Date expiresAt;
+    private final Date notBefore;
+    private final Date issuedAt;
+    private final String jwtId;
+    private final Map<String, Object> tree;
+
+    MinimalPayload(List<String> issuer, List<String> subject, List<String> audience, Date expiresAt, Date notBefore, Date issuedAt, String jwtId, Map<String, Object> tree) {
+        this.issuer = issuer;
+        this.subject = subject;
+        this.audience = audience;
+        this.expiresAt = expiresAt;
+        this.notBefore = notBefore;
+        this.issuedAt = issuedAt;
+        this.jwtId = jwtId;
+        this.tree = Collections.unmodifiableMap(tree);
+    }
+
+    Map<String, Object> getTree() {
+        return tree;
+    }
+
+    @Override
+    public List<String> getIssuer() {
+        return issuer;
+    }
+
+    @Override
+    public List<String> getSubject() {
+        return subject;
+    }
+
+    @Override
+    public List<String> getAudience() {
+        return audience;
+    }
+
+    @Override
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public Date getNotBefore() {
+        return notBefore;
+    }
+
+    @Override
+    public Date getIssuedAt() {
+        return issuedAt;
+    }
+
+    @Override
+    public String getId() {
+        return jwtId;
+    }
+
+    @Override
+    public Claim getClaim(String name) {
+        return MinimalClaim.claimFromValue(tree.get(name));
+    }
+
+    @Override
+    public Map<String, Claim> getClaims() {
+        Map<String, Claim> claims = new HashMap<>();
+        for (Map.Entry<String, Object> entry : tree.entrySet()) {
+            claims.put(entry.getKey(), MinimalClaim.claimFromValue(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(claims);
+    }
+}
@@ -0,0 +1,40 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.verification.VerificationResult;
+
+/**
+ * The {@link NullMetrics} class is a JWTMetrics implementation that ignores every timing. Adapters can extend it to
+ * only override the methods they need.
+ */
+public class NullMetrics implements JWTMetrics {
+    @Override
+    public void recordPhase(Phase phase, String algorithm, String keyId, long nanos) {
+    }
+
+    @Override
+    public void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos) {
+    }
+
+    @Override
+    public void recordCreation(String algorithm, String keyId, int tokenSize, boolean success, long nanos) {
+    }
+}
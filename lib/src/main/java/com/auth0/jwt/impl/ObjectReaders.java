@@ -0,0 +1,80 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Payload;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The ObjectReaders class holds the mapper shared by the Claims to bind their values, and an ObjectReader per bound
+ * class so that the deserializer for a class is looked up once instead of on every binding.
+ * <p>
+ * Building a mapper discards the deserializers it already built, which are most of the cost of binding a value, so the
+ * mapper must never be created per call.
+ */
+public final class ObjectReaders {
+
+    static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ConcurrentMap<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private ObjectReaders() {
+    }
+
+    /**
+     * Getter for the reader that binds JSON to the given class, created on first use.
+     *
+     * @param type the class to bind to.
+     * @return the shared reader for the class.
+     */
+    public static ObjectReader forClass(Class<?> type) {
+        ObjectReader reader = READERS.get(type);
+        if (reader == null) {
+            reader = MAPPER.readerFor(type);
+            ObjectReader existing = READERS.putIfAbsent(type, reader);
+            if (existing != null) {
+                reader = existing;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Binds a parsed Payload to the given class from the JSON values it holds, so that its JSON isn't read again.
+     *
+     * @param payload the Payload, or null if it wasn't parsed yet.
+     * @param type    the class to bind to.
+     * @param <T>     the type of the bound Payload.
+     * @return the Payload as an instance of the given class, or null if the Payload wasn't parsed by a
+     * {@link JWTParser}, since the other parsers don't keep every JSON value.
+     * @throws IOException if the Payload can't be bound to the given class.
+     */
+    public static <T> T readPayload(Payload payload, Class<T> type) throws IOException {
+        if (!(payload instanceof PayloadImpl)) {
+            return null;
+        }
+        ObjectNode node = new ObjectNode(MAPPER.getNodeFactory(), ((PayloadImpl) payload).getTree());
+        return forClass(type).readValue(node);
+    }
+}
@@ -22,11 +22,10 @@ package com.auth0.jwt.impl;
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import com.auth0.jwt.interfaces.Payload;
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 
 import java.io.IOException;
@@ -49,7 +48,17 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
         if (tree == null) {
             throw new JWTDecodeException("Parsing the Payload's JSON resulted on a Null map");
         }
+        return toPayload(tree);
+    }
 
+    /**
+     * Builds a Payload from the given JSON values, reading the registered claims out of them.
+     *
+     * @param tree the Payload's JSON values by claim name.
+     * @return the Payload.
+     * @throws JWTDecodeException if a registered claim has an invalid value.
+     */
+    PayloadImpl toPayload(Map<String, JsonNode> tree) throws JWTDecodeException {
         List<String> issuer = getStringOrArray(tree, PublicClaims.ISSUER);
         List<String> subject = getStringOrArray(tree, PublicClaims.SUBJECT);
         List<String> audience = getStringOrArray(tree, PublicClaims.AUDIENCE);
@@ -70,12 +79,12 @@ class PayloadDeserializer extends StdDeserializer<Payload> {
             return Collections.singletonList(node.asText());
         }
 
-        ObjectMapper mapper = new ObjectMapper();
+        ObjectReader reader = ObjectReaders.forClass(String.class);
         List<String> list = new ArrayList<>(node.size());
         for (int i = 0; i < node.size(); i++) {
             try {
-                list.add(mapper.treeToValue(node.get(i), String.class));
-            } catch (JsonProcessingException e) {
+                list.add(reader.<String>readValue(node.get(i)));
+            } catch (IOException e) {
                 throw new JWTDecodeException("Couldn't map the Claim's array contents to String", e);
             }
         }
@@ -0,0 +1,203 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.interfaces.JWTPartsParser;
+import com.auth0.jwt.interfaces.Payload;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The ProjectingJWTParser class parses only the declared claims of a Payload, skipping over the JSON of every other
+ * claim without building a tree for it. The registered claims ("iss", "sub", "aud", "exp", "nbf", "iat" and "jti") are
+ * always parsed.
+ * <p>
+ * The claims that weren't declared are still available: asking the Payload for one of them, or for all of them, parses
+ * the whole Payload once. Instances are immutable and can be shared between threads.
+ */
+public class ProjectingJWTParser implements JWTPartsParser {
+
+    private static final Collection<String> REGISTERED_CLAIMS = Arrays.asList(PublicClaims.ISSUER, PublicClaims.SUBJECT,
+            PublicClaims.AUDIENCE, PublicClaims.EXPIRES_AT, PublicClaims.NOT_BEFORE, PublicClaims.ISSUED_AT, PublicClaims.JWT_ID);
+
+    private final ObjectMapper mapper;
+    private final JWTParser parser;
+    private final PayloadDeserializer deserializer;
+    private final Set<String> claims;
+
+    /**
+     * Creates a parser for Payloads of which only the given claims, besides the registered ones, are needed.
+     *
+     * @param claims the names of the claims to parse.
+     * @throws IllegalArgumentException if any of the names is null.
+     */
+    public ProjectingJWTParser(String... claims) throws IllegalArgumentException {
+        this(Arrays.asList(claims));
+    }
+
+    /**
+     * Creates a parser for Payloads of which only the given claims, besides the registered ones, are needed.
+     *
+     * @param claims the names of the claims to parse.
+     * @throws IllegalArgumentException if any of the names is null.
+     */
+    public ProjectingJWTParser(Collection<String> claims) throws IllegalArgumentException {
+        Set<String> projection = new HashSet<>(REGISTERED_CLAIMS);
+        for (String claim : claims) {
+            if (claim == null) {
+                throw new IllegalArgumentException("The Claim's name can't be null.");
+            }
+            projection.add(claim);
+        }
+        this.mapper = JWTParser.getDefaultObjectMapper();
+        this.parser = new JWTParser(mapper);
+        this.deserializer = new PayloadDeserializer();
+        this.claims = Collections.unmodifiableSet(projection);
+    }
+
+    /**
+     * Getter for the names of the claims this parser parses.
+     *
+     * @return the declared claims together with the registered ones.
+     */
+    public Set<String> getClaims() {
+        return claims;
+    }
+
+    @Override
+    public Payload parsePayload(String json) throws JWTDecodeException {
+        if (json == null) {
+            throw exceptionForInvalidJson(null);
+        }
+        Map<String, JsonNode> tree = new LinkedHashMap<>();
+        try (JsonParser p = mapper.getFactory().createParser(json)) {
+            if (p.nextToken() != JsonToken.START_OBJECT) {
+                throw exceptionForInvalidJson(json);
+            }
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                String name = p.getCurrentName();
+                p.nextToken();
+                if (claims.contains(name)) {
+                    JsonNode node = mapper.readValue(p, JsonNode.class);
+                    tree.put(name, node != null ? node : NullNode.getInstance());
+                } else {
+                    p.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw exceptionForInvalidJson(json);
+        }
+        return new ProjectedPayload(deserializer.toPayload(tree), json);
+    }
+
+    @Override
+    public Header parseHeader(String json) throws JWTDecodeException {
+        return parser.parseHeader(json);
+    }
+
+    private static JWTDecodeException exceptionForInvalidJson(String json) {
+        return new JWTDecodeException(String.format("The string '%s' doesn't have a valid JSON format.", json));
+    }
+
+    /**
+     * The Payload of a projected parse, which parses the whole JSON the first time a claim outside the projection is
+     * asked for.
+     */
+    private final class ProjectedPayload implements Payload {
+        private final PayloadImpl projected;
+        private final String json;
+        private volatile Payload full;
+
+        ProjectedPayload(PayloadImpl projected, String json) {
+            this.projected = projected;
+            this.json = json;
+        }
+
+        private Payload full() throws JWTDecodeException {
+            Payload full = this.full;
+            if (full == null) {
+                full = parser.parsePayload(json);
+                this.full = full;
+            }
+            return full;
+        }
+
+        @Override
+        public List<String> getIssuer() {
+            return projected.getIssuer();
+        }
+
+        @Override
+        public List<String> getSubject() {
+            return projected.getSubject();
+        }
+
+        @Override
+        public List<String> getAudience() {
+            return projected.getAudience();
+        }
+
+        @Override
+        public Date getExpiresAt() {
+            return projected.getExpiresAt();
+        }
+
+        @Override
+        public Date getNotBefore() {
+            return projected.getNotBefore();
+        }
+
+        @Override
+        public Date getIssuedAt() {
+            return projected.getIssuedAt();
+        }
+
+        @Override
+        public String getId() {
+            return projected.getId();
+        }
+
+        @Override
+        public Claim getClaim(String name) {
+            return claims.contains(name) ? projected.getClaim(name) : full().getClaim(name);
+        }
+
+        @Override
+        public Map<String, Claim> getClaims() {
+            return full().getClaims();
+        }
+    }
+}
@@ -37,4 +37,12 @@ public interface PublicClaims {
     String JWT_ID = "jti";
     String AUDIENCE = "aud";
 
+    //Profiles
+    String NAME = "name";
+    String EMAIL = "email";
+    String PICTURE = "picture";
+    String SCOPE = "scope";
+    String USER_ID = "userId";
+    String APP_ID = "appId";
+
 }
@@ -0,0 +1,150 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RequiredValues class holds the values a verifier requires in an array claim, hashed once when the verifier is
+ * built, so that checking a token costs one lookup per value in the token instead of a scan of the required values.
+ */
+public final class RequiredValues {
+
+    private final Map<Object, Integer> indexes;
+    private final int size;
+
+    private RequiredValues(Object[] values) {
+        this.indexes = new HashMap<>(values.length * 2);
+        for (Object value : values) {
+            if (!indexes.containsKey(value)) {
+                indexes.put(value, indexes.size());
+            }
+        }
+        this.size = values.length;
+    }
+
+    /**
+     * Hash the given required values.
+     *
+     * @param values the required values.
+     * @return the hashed values.
+     */
+    public static RequiredValues of(Object[] values) {
+        return new RequiredValues(values);
+    }
+
+    /**
+     * Hash the given required values.
+     *
+     * @param values the required values.
+     * @return the hashed values.
+     */
+    public static RequiredValues of(List<?> values) {
+        return new RequiredValues(values.toArray());
+    }
+
+    /**
+     * Whether the given list holds all the required values and as many items as they were given.
+     *
+     * @param actual the values found in the token.
+     * @return true if they match.
+     */
+    public boolean matches(List<?> actual) {
+        if (actual == null || actual.size() != size) {
+            return false;
+        }
+        Seen seen = new Seen(indexes.size());
+        for (Object value : actual) {
+            seen.mark(indexes.get(value));
+        }
+        return seen.isComplete();
+    }
+
+    /**
+     * Whether the given array claim holds all the required values. The JSON elements are compared as they are, without
+     * converting the claim to a Java array.
+     *
+     * @param claim the claim found in the token.
+     * @return true if it holds all the values.
+     */
+    public boolean isContainedIn(Claim claim) {
+        if (claim instanceof JsonNodeClaim) {
+            JsonNode node = ((JsonNodeClaim) claim).getNode();
+            if (!node.isArray()) {
+                return false;
+            }
+            Seen seen = new Seen(indexes.size());
+            for (int i = 0; i < node.size(); i++) {
+                JsonNode element = node.get(i);
+                if (element.isTextual()) {
+                    seen.mark(indexes.get(element.textValue()));
+                } else if (element.isInt()) {
+                    seen.mark(indexes.get(element.intValue()));
+                }
+            }
+            return seen.isComplete();
+        }
+        if (claim.isNull()) {
+            return false;
+        }
+        Object[] values = claim.as(Object[].class);
+        return values != null && Arrays.asList(values).containsAll(indexes.keySet());
+    }
+
+    /**
+     * Tracks which of the distinct required values were found, in a single word when there are at most 64 of them.
+     */
+    private static final class Seen {
+        private final int count;
+        private final boolean[] found;
+        private long mask;
+        private int marked;
+
+        Seen(int count) {
+            this.count = count;
+            this.found = count > 64 ? new boolean[count] : null;
+        }
+
+        void mark(Integer index) {
+            if (index == null) {
+                return;
+            }
+            if (found == null) {
+                long bit = 1L << index;
+                if ((mask & bit) == 0) {
+                    mask |= bit;
+                    marked++;
+                }
+            } else if (!found[index]) {
+                found[index] = true;
+                marked++;
+            }
+        }
+
+        boolean isComplete() {
+            return marked == count;
+        }
+    }
+}
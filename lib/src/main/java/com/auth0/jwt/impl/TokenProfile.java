@@ -0,0 +1,153 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable description of the claims a token profile (Google, Access, Scoped...) requires, shared by the
+ * creators and the verifiers of that profile.
+ * <p>
+ * Creators track the required claims by their label, like "Issuer", and verifiers by their name in the Payload, like "iss".
+ */
+public final class TokenProfile {
+
+    private static final int EMAIL = 1;
+    private static final int SCOPE = 1 << 1;
+    private static final int APP_ID = 1 << 2;
+    private static final int ISSUER = 1 << 3;
+    private static final int PICTURE = 1 << 4;
+    private static final int USER_ID = 1 << 5;
+    private static final int ISSUED_AT = 1 << 6;
+    private static final int SUBJECT = 1 << 7;
+    private static final int JWT_ID = 1 << 8;
+    private static final int NAME = 1 << 9;
+
+    private static final String[] LABELS = {"Email", "Scope", "AppId", "Issuer", "Picture", "UserId", "Iat", "Subject", "Jti", "Name"};
+    private static final String[] CLAIM_NAMES = {PublicClaims.EMAIL, PublicClaims.SCOPE, PublicClaims.APP_ID, PublicClaims.ISSUER,
+            PublicClaims.PICTURE, PublicClaims.USER_ID, PublicClaims.ISSUED_AT, PublicClaims.SUBJECT, PublicClaims.JWT_ID, PublicClaims.NAME};
+
+    private static final String[] REGISTERED_CLAIMS = {PublicClaims.ISSUER, PublicClaims.SUBJECT, PublicClaims.EXPIRES_AT,
+            PublicClaims.NOT_BEFORE, PublicClaims.ISSUED_AT, PublicClaims.JWT_ID, PublicClaims.AUDIENCE};
+
+    public static final TokenProfile GOOGLE = new TokenProfile("Google", NAME | EMAIL | PICTURE | ISSUER | SUBJECT | ISSUED_AT, REGISTERED_CLAIMS);
+    public static final TokenProfile ACCESS = new TokenProfile("Access", ISSUER | SUBJECT | ISSUED_AT, REGISTERED_CLAIMS);
+    public static final TokenProfile SCOPED = new TokenProfile("Scoped", SCOPE | ISSUER | SUBJECT | ISSUED_AT, REGISTERED_CLAIMS);
+    public static final TokenProfile IMPLICIT = new TokenProfile("Implicit", ISSUER | SUBJECT | ISSUED_AT,
+            new String[]{PublicClaims.ISSUER, PublicClaims.SUBJECT, PublicClaims.ISSUED_AT, PublicClaims.AUDIENCE});
+    public static final TokenProfile FB = new TokenProfile("Fb", USER_ID | APP_ID | ISSUED_AT,
+            new String[]{PublicClaims.ISSUED_AT, PublicClaims.EXPIRES_AT});
+    public static final TokenProfile RISC = new TokenProfile("Risc", JWT_ID | ISSUER | SUBJECT | ISSUED_AT, REGISTERED_CLAIMS);
+
+    private final String name;
+    private final int requiredClaims;
+    private final Set<String> publicClaims;
+    private final List<String> requiredClaimNames;
+
+    private TokenProfile(String name, int requiredClaims, String[] publicClaims) {
+        this.name = name;
+        this.requiredClaims = requiredClaims;
+        this.publicClaims = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(publicClaims)));
+        List<String> names = new ArrayList<>(Integer.bitCount(requiredClaims));
+        for (int i = 0; i < CLAIM_NAMES.length; i++) {
+            if ((requiredClaims & (1 << i)) != 0) {
+                names.add(CLAIM_NAMES[i]);
+            }
+        }
+        this.requiredClaimNames = Collections.unmodifiableList(names);
+    }
+
+    /**
+     * Getter for the name of this profile.
+     *
+     * @return the profile name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Getter for the names of the claims that must be present in a token of this profile, as they appear in the Payload.
+     *
+     * @return the names of the required claims.
+     */
+    public List<String> getRequiredClaimNames() {
+        return requiredClaimNames;
+    }
+
+    /**
+     * Getter for the registered claims that a creator of this profile can also set through an Array Claim.
+     *
+     * @return the names of the claims, as they appear in the Payload.
+     */
+    public Set<String> getPublicClaims() {
+        return publicClaims;
+    }
+
+    /**
+     * Creates the map a creator uses to track the required claims, with every label, like "Issuer", set to false.
+     *
+     * @return a new mutable map.
+     */
+    public HashMap<String, Boolean> newAddedClaims() {
+        HashMap<String, Boolean> addedClaims = new HashMap<>();
+        for (int i = 0; i < LABELS.length; i++) {
+            if ((requiredClaims & (1 << i)) != 0) {
+                addedClaims.put(LABELS[i], false);
+            }
+        }
+        return addedClaims;
+    }
+
+    /**
+     * Creates a copy of the {@link #getPublicClaims()} that a creator can modify.
+     *
+     * @return a new mutable set.
+     */
+    public Set<String> newPublicClaims() {
+        return new HashSet<>(publicClaims);
+    }
+
+    /**
+     * Get the label a creator tracks a claim by, like "Issuer" for "iss".
+     *
+     * @param claimName the Claim's name.
+     * @return the label of the claim if this profile requires it, or the given name otherwise.
+     */
+    public String getLabel(String claimName) {
+        for (int i = 0; i < CLAIM_NAMES.length; i++) {
+            if ((requiredClaims & (1 << i)) != 0 && CLAIM_NAMES[i].equals(claimName)) {
+                return LABELS[i];
+            }
+        }
+        return claimName;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
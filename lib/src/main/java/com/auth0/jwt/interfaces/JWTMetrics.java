@@ -0,0 +1,109 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.interfaces;
+
+import com.auth0.jwt.verification.VerificationResult;
+
+/**
+ * The JWTMetrics class receives the timings of decoding, verifying and signing tokens, to feed them to a metrics
+ * library. Set it with {@link Verification#withMetrics(JWTMetrics)} or
+ * {@link com.auth0.jwt.creators.JWTCreator.Builder#withMetrics(JWTMetrics)}.
+ * <p>
+ * Every timing is in nanoseconds and tagged with the token's algorithm and Key Id, which are null when the token
+ * couldn't be decoded or has no Key Id. Implementations are called on the verifying or signing thread, so they must be
+ * thread-safe and cheap. Extend {@link com.auth0.jwt.impl.NullMetrics} to only override some of the methods.
+ */
+public interface JWTMetrics {
+
+    /**
+     * The phases timed separately.
+     */
+    enum Phase {
+        /**
+         * Checking the token's length against the limits and splitting it into its parts.
+         */
+        SPLIT,
+        /**
+         * Decoding the Header and Payload parts from their encoding. When the Payload parsing is deferred, the Payload
+         * is decoded in a second BASE64 phase after {@link #CRYPTO}.
+         */
+        BASE64,
+        /**
+         * Checking the decoded Header and Payload against the limits and parsing their JSON. When the Payload parsing
+         * is deferred, it's recorded as a second PARSE phase after {@link #CRYPTO}. For a JWS JSON Serialization, the
+         * document and the Header and Payload of the verified signature are each recorded as a PARSE phase, decoding
+         * included.
+         */
+        PARSE,
+        /**
+         * Getting the key from the {@link RSAKeyProvider} or {@link ECDSAKeyProvider}, to verify or to sign a token.
+         * Algorithms without a key provider don't record it.
+         */
+        KEY_LOOKUP,
+        /**
+         * Decoding the Signature and checking it, or computing the Signature of a new token.
+         */
+        CRYPTO,
+        /**
+         * Checking the claims, revocation and replay.
+         */
+        CLAIMS,
+        /**
+         * Serializing the Header and Payload to JSON.
+         */
+        SERIALIZE,
+        /**
+         * Encoding and signing the serialized Header and Payload. The {@link #KEY_LOOKUP} and {@link #CRYPTO} phases
+         * of the signing are recorded too, within this one.
+         */
+        SIGN
+    }
+
+    /**
+     * Records how long a phase took.
+     *
+     * @param phase     the phase.
+     * @param algorithm the token's algorithm.
+     * @param keyId     the token's Key Id.
+     * @param nanos     the duration in nanoseconds.
+     */
+    void recordPhase(Phase phase, String algorithm, String keyId, long nanos);
+
+    /**
+     * Records the outcome of a whole verification.
+     *
+     * @param algorithm the token's algorithm.
+     * @param keyId     the token's Key Id.
+     * @param tokenSize the token's length.
+     * @param reason    {@link VerificationResult.Reason#VALID}, or the reason the token was rejected for.
+     * @param nanos     the duration in nanoseconds.
+     */
+    void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos);
+
+    /**
+     * Records the outcome of a whole token creation.
+     *
+     * @param algorithm the token's algorithm.
+     * @param keyId     the token's Key Id.
+     * @param tokenSize the created token's length, or 0 if it wasn't created.
+     * @param success   whether the token was created.
+     * @param nanos     the duration in nanoseconds.
+     */
+    void recordCreation(String algorithm, String keyId, int tokenSize, boolean success, long nanos);
+}
@@ -20,6 +20,9 @@
 package com.auth0.jwt.interfaces;
 
 import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.ReplayCache;
+import com.auth0.jwt.verification.RevocationList;
+import com.auth0.jwt.verification.TokenLimits;
 
 import java.util.Date;
 import java.util.List;
@@ -59,6 +62,22 @@ public interface Verification {
 
     Verification withNbf(long nbf);
 
+    Verification withReplayCache(ReplayCache replayCache);
+
+    Verification withRevocationList(RevocationList revocationList);
+
+    Verification withDeferredPayloadParsing();
+
+    Verification withTokenLimits(TokenLimits limits);
+
+    Verification withMetrics(JWTMetrics metrics);
+
+    Verification withPartsParser(JWTPartsParser parser);
+
+    Verification withProjectedClaims(String... claims) throws IllegalArgumentException;
+
+    Verification withRequiredProfileClaims();
+
     Verification createVerifierForScoped(String scope, List<String> issuer,
                                          List<String> audience, long expLeeway, long iatLeeway);
 
@@ -78,4 +97,6 @@ public interface Verification {
                                        List<String> audience, long iatLeeway, long expLeeway, long nbf);
 
     JWT build();
+
+    JWT build(Clock clock);
 }
@@ -19,9 +19,8 @@
 
 package com.auth0.jwt.jwts;
 
-import com.auth0.jwt.ClockImpl;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Verification;
 
 import java.util.List;
@@ -29,7 +28,7 @@ import java.util.List;
 public class AccessJWT extends JWT.BaseVerification implements Verification {
 
     AccessJWT(Algorithm algorithm) throws IllegalArgumentException {
-        super(algorithm);
+        super(algorithm, TokenProfile.ACCESS);
     }
 
     /**
@@ -67,26 +66,4 @@ public class AccessJWT extends JWT.BaseVerification implements Verification {
     static Verification init(Algorithm algorithm) throws IllegalArgumentException {
         return new AccessJWT(algorithm);
     }
-
-    /**
-     * Creates a new and reusable instance of the JWT with the configuration already provided.
-     *
-     * @return a new JWT instance.
-     */
-    @Override
-    public JWT build() {
-        return this.build(new ClockImpl());
-    }
-
-    /**
-     * Creates a new and reusable instance of the JWT the configuration already provided.
-     * ONLY FOR TEST PURPOSES.
-     *
-     * @param clock the instance that will handle the current time.
-     * @return a new JWT instance with a custom Clock.
-     */
-    public JWT build(Clock clock) {
-        addLeewayToDateClaims();
-        return new JWT(algorithm, claims, clock);
-    }
 }
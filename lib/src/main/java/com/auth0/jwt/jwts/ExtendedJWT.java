@@ -20,6 +20,7 @@
 package com.auth0.jwt.jwts;
 
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.impl.PublicClaims;
 import com.auth0.jwt.interfaces.GoogleVerification;
 import com.auth0.jwt.interfaces.Verification;
 
@@ -31,7 +32,6 @@ public class ExtendedJWT extends GoogleJWT implements GoogleVerification{
         super(algorithm);
     }
 
-
     public Verification createVerifierForExtended(String picture, String email, List<String> issuer,
                                                 List<String> audience, String name, long nbf, long expLeeway, long iatLeeway) {
         Verification verification = createVerifierForGoogle(picture, email, issuer, audience, name, expLeeway, iatLeeway);
@@ -54,8 +54,7 @@ public class ExtendedJWT extends GoogleJWT implements GoogleVerification{
      */
     @Override
     public Verification withNbf(long nbf) {
-        requireClaim("nbf", nbf);
+        requireClaim(PublicClaims.NOT_BEFORE, nbf);
         return this;
     }
-
 }
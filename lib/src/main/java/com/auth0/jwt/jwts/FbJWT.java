@@ -19,15 +19,15 @@
 
 package com.auth0.jwt.jwts;
 
-import com.auth0.jwt.ClockImpl;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Verification;
 
 public class FbJWT extends JWT.BaseVerification implements Verification{
 
     FbJWT(Algorithm algorithm) throws IllegalArgumentException {
-        super(algorithm);
+        super(algorithm, TokenProfile.FB);
     }
 
     /**
@@ -47,7 +47,7 @@ public class FbJWT extends JWT.BaseVerification implements Verification{
      * @return this same Verification instance.
      */
     public Verification withUserId(String userId) {
-        requireClaim("userId", userId);
+        requireClaim(PublicClaims.USER_ID, userId);
         return this;
     }
 
@@ -58,7 +58,7 @@ public class FbJWT extends JWT.BaseVerification implements Verification{
      * @return this same Verification instance.
      */
     public Verification withAppId(String appId) {
-        requireClaim("appId", appId);
+        requireClaim(PublicClaims.APP_ID, appId);
         return this;
     }
 
@@ -83,26 +83,4 @@ public class FbJWT extends JWT.BaseVerification implements Verification{
     static Verification init(Algorithm algorithm) throws IllegalArgumentException {
         return new FbJWT(algorithm);
     }
-
-    /**
-     * Creates a new and reusable instance of the JWT with the configuration already provided.
-     *
-     * @return a new JWT instance.
-     */
-    @Override
-    public JWT build() {
-        return this.build(new ClockImpl());
-    }
-
-    /**
-     * Creates a new and reusable instance of the JWT the configuration already provided.
-     * ONLY FOR TEST PURPOSES.
-     *
-     * @param clock the instance that will handle the current time.
-     * @return a new JWT instance with a custom Clock.
-     */
-    public JWT build(Clock clock) {
-        addLeewayToDateClaims();
-        return new JWT(algorithm, claims, clock);
-    }
 }
@@ -19,9 +19,9 @@
 
 package com.auth0.jwt.jwts;
 
-import com.auth0.jwt.ClockImpl;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.GoogleVerification;
 import com.auth0.jwt.interfaces.Verification;
 
@@ -30,7 +30,7 @@ import java.util.List;
 public class GoogleJWT extends JWT.BaseVerification implements GoogleVerification{
 
     GoogleJWT(Algorithm algorithm) throws IllegalArgumentException {
-        super(algorithm);
+        super(algorithm, TokenProfile.GOOGLE);
     }
 
     /**
@@ -56,7 +56,7 @@ public class GoogleJWT extends JWT.BaseVerification implements GoogleVerificatio
      */
     @Override
     public GoogleVerification withPicture(String picture) {
-        requireClaim("picture", picture);
+        requireClaim(PublicClaims.PICTURE, picture);
         return this;
     }
 
@@ -68,7 +68,7 @@ public class GoogleJWT extends JWT.BaseVerification implements GoogleVerificatio
      */
     @Override
     public GoogleVerification withEmail(String email) {
-        requireClaim("email", email);
+        requireClaim(PublicClaims.EMAIL, email);
         return this;
     }
 
@@ -80,7 +80,7 @@ public class GoogleJWT extends JWT.BaseVerification implements GoogleVerificatio
      */
     @Override
     public GoogleVerification withName(String name) {
-        requireClaim("name", name);
+        requireClaim(PublicClaims.NAME, name);
         return this;
     }
 
@@ -110,26 +110,4 @@ public class GoogleJWT extends JWT.BaseVerification implements GoogleVerificatio
     static GoogleVerification init(Algorithm algorithm) throws IllegalArgumentException {
         return new GoogleJWT(algorithm);
     }
-
-    /**
-     * Creates a new and reusable instance of the JWT with the configuration already provided.
-     *
-     * @return a new JWT instance.
-     */
-    @Override
-    public JWT build() {
-        return this.build(new ClockImpl());
-    }
-
-    /**
-     * Creates a new and reusable instance of the JWT the configuration already provided.
-     * ONLY FOR TEST PURPOSES.
-     *
-     * @param clock the instance that will handle the current time.
-     * @return a new JWT instance with a custom Clock.
-     */
-    public JWT build(Clock clock) {
-        addLeewayToDateClaims();
-        return new JWT(algorithm, claims, clock);
-    }
 }
@@ -19,17 +19,30 @@
 
 package com.auth0.jwt.jwts;
 
+import com.auth0.jwt.CachedClock;
 import com.auth0.jwt.ClockImpl;
 import com.auth0.jwt.creators.EncodeType;
 import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.JWSJsonSerialization;
 import com.auth0.jwt.JWTDecoder;
+import com.auth0.jwt.TokenView;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.*;
+import com.auth0.jwt.impl.ClockAdapter;
+import com.auth0.jwt.impl.ProjectingJWTParser;
 import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Clock;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.interfaces.JWTPartsParser;
+import com.auth0.jwt.interfaces.MillisClock;
 import com.auth0.jwt.interfaces.Verification;
+import com.auth0.jwt.verification.ReplayCache;
+import com.auth0.jwt.verification.RevocationList;
+import com.auth0.jwt.verification.TokenLimits;
 import com.auth0.jwt.verification.VerificationAndAssertion;
+import com.auth0.jwt.verification.VerificationResult;
 
 import java.util.*;
 
@@ -38,12 +51,27 @@ public class JWT {
 
     private final Algorithm algorithm;
     final Map<String, Object> claims;
-    private final Clock clock;
-
-    JWT(Algorithm algorithm, Map<String, Object> claims, Clock clock) {
+    private final MillisClock clock;
+    private final ReplayCache replayCache;
+    private final RevocationList revocationList;
+    private final boolean deferPayloadParsing;
+    private final TokenLimits limits;
+    private final JWTMetrics metrics;
+    private final JWTPartsParser parser;
+    private final TokenProfile profile;
+
+    JWT(Algorithm algorithm, Map<String, Object> claims, Clock clock, ReplayCache replayCache, RevocationList revocationList,
+        boolean deferPayloadParsing, TokenLimits limits, JWTMetrics metrics, JWTPartsParser parser, TokenProfile profile) {
         this.algorithm = algorithm;
         this.claims = Collections.unmodifiableMap(claims);
-        this.clock = clock;
+        this.clock = ClockAdapter.of(clock);
+        this.replayCache = replayCache;
+        this.revocationList = revocationList;
+        this.deferPayloadParsing = deferPayloadParsing;
+        this.limits = limits;
+        this.metrics = metrics;
+        this.parser = parser;
+        this.profile = profile;
     }
 
     /**
@@ -59,11 +87,7 @@ public class JWT {
      * @throws InvalidClaimException          if a claim contained a different value than the expected one.
      */
     public DecodedJWT decode(String token) throws Exception {
-        DecodedJWT jwt = new JWTDecoder(token, EncodeType.Base64);
-        VerificationAndAssertion.verifyAlgorithm(jwt, algorithm);
-        algorithm.verify(jwt, EncodeType.Base64);
-        VerificationAndAssertion.verifyClaims(clock, jwt, claims);
-        return jwt;
+        return decode(token, EncodeType.Base64);
     }
 
     /**
@@ -79,11 +103,7 @@ public class JWT {
      * @throws InvalidClaimException          if a claim contained a different value than the expected one.
      */
     public DecodedJWT decode16Bytes(String token) throws Exception {
-        DecodedJWT jwt = new JWTDecoder(token, EncodeType.Base16);
-        VerificationAndAssertion.verifyAlgorithm(jwt, algorithm);
-        algorithm.verify(jwt, EncodeType.Base16);
-        VerificationAndAssertion.verifyClaims(clock, jwt, claims);
-        return jwt;
+        return decode(token, EncodeType.Base16);
     }
 
     /**
@@ -99,13 +119,234 @@ public class JWT {
      * @throws InvalidClaimException          if a claim contained a different value than the expected one.
      */
     public DecodedJWT decode32Bytes(String token) throws Exception {
-        DecodedJWT jwt = new JWTDecoder(token, EncodeType.Base32);
+        return decode(token, EncodeType.Base32);
+    }
+
+    /**
+     * Verify the given token like {@link #decode(String)} does and bind its Payload to the given class. The Payload's
+     * JSON is read once, and the class bound from the same values the claims were checked against, unless this
+     * instance parses the Payload with a projection or another parser than the default one.
+     *
+     * @param token       with jwt format as string.
+     * @param payloadType the class to bind the Payload to.
+     * @param <T>         the type of the bound Payload.
+     * @return the Payload as an instance of the given class.
+     * @throws AlgorithmMismatchException     if the algorithm stated in the token's header it's not equal to the one defined in the {@link JWT}.
+     * @throws SignatureVerificationException if the signature is invalid.
+     * @throws TokenExpiredException          if the token has expired.
+     * @throws InvalidClaimException          if a claim contained a different value than the expected one.
+     * @throws JWTDecodeException             if the Payload can't be bound to the given class.
+     * @see JWTDecoder#getPayloadAs(Class)
+     */
+    public <T> T decodeAs(String token, Class<T> payloadType) throws Exception {
+        return ((JWTDecoder) decode(token, EncodeType.Base64)).getPayloadAs(payloadType);
+    }
+
+    /**
+     * Verify the given token without throwing when it's invalid.
+     *
+     * @param token with jwt format as string.
+     * @return the outcome of the verification.
+     * @see #verify(String, VerificationResult)
+     */
+    public VerificationResult verify(String token) {
+        return verify(token, new VerificationResult());
+    }
+
+    /**
+     * Verify the given token without throwing when it's invalid, which makes rejecting a token much cheaper than
+     * {@link #decode(String)} does: no exception is created for a mismatching algorithm, signature or claim, and the
+     * failure message is only formatted if asked for. A token that can't be decoded is recorded with the exception
+     * the decoder raised, and any other error raised while verifying the signature is recorded as is, without
+     * wrapping it.
+     *
+     * @param token  with jwt format as string.
+     * @param result the instance to record the outcome in, which is reset first.
+     * @return the given result, holding the decoded JWT when the token could be decoded.
+     */
+    public VerificationResult verify(String token, VerificationResult result) {
+        result.reset();
+        try {
+            if (metrics != null) {
+                verifyTimed(token, null, EncodeType.Base64, result);
+                return result;
+            }
+            JWTDecoder jwt = new JWTDecoder(token, EncodeType.Base64, deferPayloadParsing, limits, parser);
+            result.setJWT(jwt);
+            if (VerificationAndAssertion.checkAlgorithm(jwt, algorithm, result)
+                    && VerificationAndAssertion.checkSignature(algorithm, jwt, EncodeType.Base64, result)) {
+                checkClaims(jwt.decodePayload(), result);
+            }
+        } catch (JWTVerificationException e) {
+            result.fail(e);
+        } catch (Exception e) {
+            result.failSignature(algorithm, e);
+        }
+        return result;
+    }
+
+    private DecodedJWT decode(String token, EncodeType encodeType) throws Exception {
+        if (metrics == null) {
+            return verify(new JWTDecoder(token, encodeType, deferPayloadParsing, limits, parser), encodeType);
+        }
+        VerificationResult result = new VerificationResult();
+        verifyTimed(token, null, encodeType, result);
+        if (!result.isValid()) {
+            throw result.toException();
+        }
+        return result.getJWT();
+    }
+
+    /**
+     * Verifies the token of the given view like {@link #decode(String)} does, reusing the Header and Payload the view
+     * already decoded and the Header it already parsed.
+     */
+    DecodedJWT decode(TokenView view) throws Exception {
+        if (metrics == null) {
+            return verify(new JWTDecoder(view, deferPayloadParsing, limits, parser, null), EncodeType.Base64);
+        }
+        VerificationResult result = new VerificationResult();
+        verifyTimed(view.getToken(), view, EncodeType.Base64, result);
+        if (!result.isValid()) {
+            throw result.toException();
+        }
+        return result.getJWT();
+    }
+
+    /**
+     * Verifies the given token like {@link #verify(String, VerificationResult)} does, reporting the time taken by each
+     * phase and the outcome to the metrics. Exceptions other than verification failures are reported as an invalid
+     * signature and rethrown. The token is decoded from its view when one is given.
+     */
+    private void verifyTimed(String token, TokenView view, EncodeType encodeType, VerificationResult result) throws Exception {
+        long start = System.nanoTime();
+        String algorithmName = null;
+        String keyId = null;
+        try {
+            JWTDecoder jwt = view != null ? new JWTDecoder(view, deferPayloadParsing, limits, parser, metrics)
+                    : new JWTDecoder(token, encodeType, deferPayloadParsing, limits, parser, metrics);
+            result.setJWT(jwt);
+            algorithmName = jwt.getAlgorithm();
+            keyId = jwt.getKeyId();
+            if (VerificationAndAssertion.checkAlgorithm(jwt, algorithm, result)
+                    && VerificationAndAssertion.checkSignature(algorithm, jwt, encodeType, metrics, result)) {
+                jwt.decodePayload();
+                long phaseStart = System.nanoTime();
+                checkClaims(jwt, result);
+                metrics.recordPhase(JWTMetrics.Phase.CLAIMS, algorithmName, keyId, System.nanoTime() - phaseStart);
+            }
+        } catch (JWTVerificationException e) {
+            result.fail(e);
+        } catch (Exception e) {
+            metrics.recordVerification(algorithmName, keyId, token.length(), VerificationResult.Reason.INVALID_SIGNATURE, System.nanoTime() - start);
+            throw e;
+        }
+        metrics.recordVerification(algorithmName, keyId, token.length(), result.getReason(), System.nanoTime() - start);
+    }
+
+    private DecodedJWT verify(JWTDecoder jwt, EncodeType encodeType) throws Exception {
         VerificationAndAssertion.verifyAlgorithm(jwt, algorithm);
-        algorithm.verify(jwt, EncodeType.Base32);
-        VerificationAndAssertion.verifyClaims(clock, jwt, claims);
+        algorithm.verify(jwt, encodeType);
+        verifyClaims(jwt.decodePayload());
         return jwt;
     }
 
+    private void verifyClaims(DecodedJWT jwt) {
+        VerificationResult result = new VerificationResult();
+        if (!checkClaims(jwt, result)) {
+            throw result.toException();
+        }
+    }
+
+    private boolean checkClaims(DecodedJWT jwt, VerificationResult result) {
+        return (profile == null || VerificationAndAssertion.checkProfile(profile, jwt, result))
+                && VerificationAndAssertion.checkClaims(clock, jwt, claims, result)
+                && (revocationList == null || VerificationAndAssertion.checkRevocation(revocationList, jwt, result))
+                && (replayCache == null || VerificationAndAssertion.checkReplay(replayCache, clock, jwt, claims, result));
+    }
+
+    Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    private long nanoTime() {
+        return metrics != null ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Convert the given JWS JSON Serialization to a DecodedJWT, verifying the signature made with this instance's Algorithm.
+     * <p>
+     * The JSON is parsed and its Payload decoded only once, after checking them against this instance's limits. Signatures whose Header states a different algorithm are skipped,
+     * and when several signatures state the same algorithm the first one that verifies is used.
+     * The time taken by each phase and the outcome are reported to this instance's metrics, if any.
+     *
+     * @param json the general or flattened JWS JSON Serialization.
+     * @return a decoded JWT for the verified signature.
+     * @throws AlgorithmMismatchException     if none of the signatures states the algorithm defined in the {@link JWT}.
+     * @throws SignatureVerificationException if none of the signatures with that algorithm is valid.
+     * @throws TokenExpiredException          if the token has expired.
+     * @throws InvalidClaimException          if a claim contained a different value than the expected one.
+     */
+    public DecodedJWT decodeJson(String json) throws Exception {
+        if (metrics == null) {
+            return verifyJson(json);
+        }
+        long start = System.nanoTime();
+        VerificationResult result = new VerificationResult();
+        try {
+            result.setJWT(verifyJson(json));
+            return result.getJWT();
+        } catch (JWTVerificationException e) {
+            result.fail(e);
+            throw e;
+        } catch (Exception e) {
+            result.failSignature(algorithm, e);
+            throw e;
+        } finally {
+            DecodedJWT jwt = result.getJWT();
+            metrics.recordVerification(jwt != null ? jwt.getAlgorithm() : null, jwt != null ? jwt.getKeyId() : null, json.length(),
+                    result.getReason(), System.nanoTime() - start);
+        }
+    }
+
+    private DecodedJWT verifyJson(String json) throws Exception {
+        long start = nanoTime();
+        JWSJsonSerialization serialization = JWSJsonSerialization.parse(json, limits);
+        if (metrics != null) {
+            metrics.recordPhase(JWTMetrics.Phase.PARSE, null, null, System.nanoTime() - start);
+        }
+        SignatureVerificationException failure = null;
+        for (int i = 0; i < serialization.getSignatureCount(); i++) {
+            long phaseStart = nanoTime();
+            DecodedJWT jwt = serialization.decode(i);
+            if (!algorithm.getName().equals(jwt.getAlgorithm())) {
+                continue;
+            }
+            if (metrics != null) {
+                metrics.recordPhase(JWTMetrics.Phase.PARSE, jwt.getAlgorithm(), jwt.getKeyId(), System.nanoTime() - phaseStart);
+            }
+            try {
+                if (!algorithm.isValid(jwt, EncodeType.JsonEncode, metrics)) {
+                    failure = new SignatureVerificationException(algorithm);
+                    continue;
+                }
+            } catch (SignatureVerificationException e) {
+                failure = e;
+                continue;
+            }
+            phaseStart = nanoTime();
+            verifyClaims(jwt);
+            if (metrics != null) {
+                metrics.recordPhase(JWTMetrics.Phase.CLAIMS, jwt.getAlgorithm(), jwt.getKeyId(), System.nanoTime() - phaseStart);
+            }
+            return jwt;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        throw new AlgorithmMismatchException("The provided Algorithm doesn't match the one defined in the JWT's Header.");
+    }
+
     /**
      * Returns a {Verification} to be used to validate token signature.
      *
@@ -145,18 +386,139 @@ public class JWT {
     public static class BaseVerification implements Verification {
         protected final Algorithm algorithm;
         protected final Map<String, Object> claims;
+        private final TokenProfile profile;
         private long defaultLeeway;
+        private ReplayCache replayCache;
+        private RevocationList revocationList;
+        private boolean deferPayloadParsing;
+        private TokenLimits limits;
+        private JWTMetrics metrics;
+        private JWTPartsParser parser;
+        private Set<String> projectedClaims;
+        private boolean requireProfileClaims;
 
         BaseVerification(Algorithm algorithm) throws IllegalArgumentException {
+            this(algorithm, null);
+        }
+
+        BaseVerification(Algorithm algorithm, TokenProfile profile) throws IllegalArgumentException {
             if (algorithm == null) {
                 throw new IllegalArgumentException("The Algorithm cannot be null.");
             }
 
             this.algorithm = algorithm;
+            this.profile = profile;
             this.claims = new HashMap<>();
             this.defaultLeeway = 0;
         }
 
+        /**
+         * Reject the tokens whose JWT Id ("jti") was already accepted by a verifier sharing the given cache.
+         * Tokens without a JWT Id or an Expires At date are rejected too.
+         *
+         * @param replayCache the cache that remembers the accepted JWT Ids, or null to accept replayed tokens.
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withReplayCache(ReplayCache replayCache) {
+            this.replayCache = replayCache;
+            return this;
+        }
+
+        /**
+         * Reject the tokens whose JWT Id ("jti") or Subject ("sub") was revoked in the given list.
+         *
+         * @param revocationList the revoked values, or null to skip the check.
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withRevocationList(RevocationList revocationList) {
+            this.revocationList = revocationList;
+            return this;
+        }
+
+        /**
+         * Verify the signature over the raw token before parsing its Payload, so tokens with a forged signature are
+         * rejected without paying for parsing their Payload. An invalid Payload is then reported after the signature
+         * check instead of before it.
+         *
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withDeferredPayloadParsing() {
+            this.deferPayloadParsing = true;
+            return this;
+        }
+
+        /**
+         * Reject the tokens that exceed the given size and shape limits before decoding them.
+         *
+         * @param limits the limits the tokens must be within, or null to accept tokens of any size.
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withTokenLimits(TokenLimits limits) {
+            this.limits = limits;
+            return this;
+        }
+
+        /**
+         * Report the time taken by each phase of decoding and verifying a token, and its outcome, to the given metrics.
+         * Without metrics, the default, no time is measured at all.
+         *
+         * @param metrics the metrics to report to, or null to measure nothing.
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withMetrics(JWTMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Parse the tokens' Header and Payload with the given parser instead of the default Jackson based one. Using a
+         * {@link com.auth0.jwt.impl.MinimalJWTParser} avoids loading Jackson to verify the first tokens after start up.
+         *
+         * @param parser the parser to use, or null to use the default one.
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withPartsParser(JWTPartsParser parser) {
+            this.parser = parser;
+            return this;
+        }
+
+        /**
+         * Only parse the given claims out of the tokens' Payload, besides the registered ones and the ones this instance
+         * requires, and skip over the JSON of the rest. The skipped claims are still available from the decoded token,
+         * at the cost of parsing the whole Payload the first time one of them is asked for.
+         * Ignored if a parser was given with {@link #withPartsParser(JWTPartsParser)}.
+         *
+         * @param claims the names of the claims that will be read from the decoded tokens.
+         * @return this same Verification instance.
+         * @throws IllegalArgumentException if any of the names is null.
+         */
+        @Override
+        public Verification withProjectedClaims(String... claims) throws IllegalArgumentException {
+            for (String claim : claims) {
+                VerificationAndAssertion.assertNonNull(claim);
+            }
+            this.projectedClaims = new HashSet<>(Arrays.asList(claims));
+            return this;
+        }
+
+        /**
+         * Reject the tokens missing a claim their profile requires, like the "picture" of a {@link GoogleJWT}, even if
+         * this instance doesn't expect any value for it. Has no effect on verifiers without a token profile.
+         *
+         * @return this same Verification instance.
+         */
+        @Override
+        public Verification withRequiredProfileClaims() {
+            this.requireProfileClaims = true;
+            return this;
+        }
+
         @Override
         public Verification withNbf(long nbf) {
             throw new UnsupportedOperationException("you shouldn't be calling this method");
@@ -441,14 +803,28 @@ public class JWT {
 
         /**
          * Creates a new and reusable instance of the JWT the configuration already provided.
-         * ONLY FOR TEST PURPOSES.
+         * Use {@link CachedClock#getDefault()} to avoid reading the system time on every verification.
          *
          * @param clock the instance that will handle the current time.
          * @return a new JWT instance with a custom Clock.
          */
+        @Override
         public JWT build(Clock clock) {
             addLeewayToDateClaims();
-            return new JWT(algorithm, claims, clock);
+            return new JWT(algorithm, VerificationAndAssertion.prepareClaims(claims), clock, replayCache, revocationList, deferPayloadParsing, limits, metrics, buildParser(),
+                    requireProfileClaims ? profile : null);
+        }
+
+        private JWTPartsParser buildParser() {
+            if (parser != null || projectedClaims == null) {
+                return parser;
+            }
+            Set<String> needed = new HashSet<>(projectedClaims);
+            needed.addAll(claims.keySet());
+            if (requireProfileClaims && profile != null) {
+                needed.addAll(profile.getRequiredClaimNames());
+            }
+            return new ProjectingJWTParser(needed);
         }
 
         protected void addLeewayToDateClaims() {
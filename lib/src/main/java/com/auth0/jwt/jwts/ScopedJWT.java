@@ -19,17 +19,19 @@
 
 package com.auth0.jwt.jwts;
 
-import com.auth0.jwt.ClockImpl;
 import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Verification;
+import com.auth0.jwt.verification.ScopeDictionary;
+import com.auth0.jwt.verification.ScopeSet;
 
 import java.util.List;
 
 public class ScopedJWT extends JWT.BaseVerification implements Verification{
 
     ScopedJWT(Algorithm algorithm) throws IllegalArgumentException {
-        super(algorithm);
+        super(algorithm, TokenProfile.SCOPED);
     }
 
     /**
@@ -52,7 +54,19 @@ public class ScopedJWT extends JWT.BaseVerification implements Verification{
      * @return this same Verification instance.
      */
     public Verification withScope(String scope) {
-        requireClaim("scope", scope);
+        requireClaim(PublicClaims.SCOPE, scope);
+        return this;
+    }
+
+    /**
+     * Require the Scope ("scope") claim to grant at least the given scopes. The claim is parsed once against the
+     * dictionary of the scopes, and the check is a bitwise AND of the two sets.
+     *
+     * @param scopes the required scopes, created with {@link ScopeDictionary#scopes(String...)}.
+     * @return this same Verification instance.
+     */
+    public Verification withScopes(ScopeSet scopes) {
+        requireClaim(PublicClaims.SCOPE, scopes);
         return this;
     }
 
@@ -77,26 +91,4 @@ public class ScopedJWT extends JWT.BaseVerification implements Verification{
     static Verification init(Algorithm algorithm) throws IllegalArgumentException {
         return new ScopedJWT(algorithm);
     }
-
-    /**
-     * Creates a new and reusable instance of the JWT with the configuration already provided.
-     *
-     * @return a new JWT instance.
-     */
-    @Override
-    public JWT build() {
-        return this.build(new ClockImpl());
-    }
-
-    /**
-     * Creates a new and reusable instance of the JWT the configuration already provided.
-     * ONLY FOR TEST PURPOSES.
-     *
-     * @param clock the instance that will handle the current time.
-     * @return a new JWT instance with a custom Clock.
-     */
-    public JWT build(Clock clock) {
-        addLeewayToDateClaims();
-        return new JWT(algorithm, claims, clock);
-    }
 }
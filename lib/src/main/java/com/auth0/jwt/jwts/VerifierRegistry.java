@@ -0,0 +1,248 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jwts;
+
+import com.auth0.jwt.TokenView;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.verification.TokenLimits;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The VerifierRegistry class routes each token to the {@link JWT} verifier registered for its algorithm ("alg"),
+ * Key Id ("kid") and Issuer ("iss").
+ * <p>
+ * Only the Header is decoded to route a token, and the Issuer is read from the Payload only when a verifier was
+ * registered for a specific Issuer of that algorithm and Key Id. The verifier is found with at most four hash lookups,
+ * from the most specific route to the one that accepts any Key Id and any Issuer, so the cost doesn't grow with the
+ * amount of registered verifiers. The token is then verified by that verifier alone, with its own limits, parser and
+ * metrics, reusing the Header and Payload decoded to route it. Instances are immutable and safe to share between threads.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class VerifierRegistry {
+
+    private final Map<Route, JWT> verifiers;
+    private final Set<Route> issuerRoutes;
+    private final TokenLimits limits;
+
+    private VerifierRegistry(Map<Route, JWT> verifiers, Set<Route> issuerRoutes, TokenLimits limits) {
+        this.verifiers = verifiers;
+        this.issuerRoutes = issuerRoutes;
+        this.limits = limits;
+    }
+
+    /**
+     * Initialize a VerifierRegistry.Builder instance.
+     *
+     * @return a VerifierRegistry.Builder instance to configure.
+     */
+    public static Builder init() {
+        return new Builder();
+    }
+
+    /**
+     * Decode the given token with the verifier registered for its algorithm, Key Id and Issuer, which verifies it like
+     * {@link JWT#decode(String)} does.
+     *
+     * @param token with jwt format as string.
+     * @return a decoded and verified JWT.
+     * @throws JWTDecodeException             if the token is not a valid JWT or exceeds the registry's or the verifier's limits.
+     * @throws JWTVerificationException       if no verifier was registered for the token.
+     * @throws SignatureVerificationException if the signature is invalid.
+     * @throws TokenExpiredException          if the token has expired.
+     * @throws InvalidClaimException          if a claim contained a different value than the expected one.
+     */
+    public DecodedJWT decode(String token) throws Exception {
+        TokenView view = TokenView.of(token, limits);
+        return find(view).decode(view);
+    }
+
+    /**
+     * Getter for the verifier a token with the given Header and Issuer would be routed to.
+     *
+     * @param algorithm the token's algorithm.
+     * @param keyId     the token's Key Id, or null if it has none.
+     * @param issuer    the token's Issuer, or null if it has none.
+     * @return the verifier, or null if none matches.
+     */
+    public JWT getVerifier(String algorithm, String keyId, String issuer) {
+        JWT verifier = verifiers.get(new Route(algorithm, keyId, issuer));
+        if (verifier == null && issuer != null) {
+            verifier = verifiers.get(new Route(algorithm, keyId, null));
+        }
+        if (verifier == null && keyId != null) {
+            verifier = verifiers.get(new Route(algorithm, null, issuer));
+            if (verifier == null && issuer != null) {
+                verifier = verifiers.get(new Route(algorithm, null, null));
+            }
+        }
+        return verifier;
+    }
+
+    private JWT find(TokenView view) throws JWTVerificationException {
+        String algorithm = view.getAlgorithm();
+        String keyId = view.getKeyId();
+        boolean routesByIssuer = issuerRoutes.contains(new Route(algorithm, keyId, null))
+                || keyId != null && issuerRoutes.contains(new Route(algorithm, null, null));
+        String issuer = routesByIssuer ? getIssuer(view) : null;
+        JWT verifier = getVerifier(algorithm, keyId, issuer);
+        if (verifier == null) {
+            if (!routesByIssuer) {
+                issuer = getIssuer(view);
+            }
+            throw new JWTVerificationException(String.format("There is no verifier registered for the algorithm '%s', Key Id '%s' and Issuer '%s'.",
+                    algorithm, keyId, issuer));
+        }
+        return verifier;
+    }
+
+    /**
+     * Reads the first Issuer of the token, which can be either a String or an Array of Strings.
+     */
+    private static String getIssuer(TokenView view) {
+        Claim claim = view.getClaim(PublicClaims.ISSUER);
+        String issuer = claim.asString();
+        if (issuer == null) {
+            List<String> issuers = claim.asList(String.class);
+            issuer = issuers == null || issuers.isEmpty() ? null : issuers.get(0);
+        }
+        return issuer;
+    }
+
+    /**
+     * The Builder class holds the verifiers and the routes they are registered for.
+     */
+    public static final class Builder {
+        private final Map<Route, JWT> verifiers = new HashMap<>();
+        private final Set<Route> issuerRoutes = new HashSet<>();
+        private TokenLimits limits;
+
+        private Builder() {
+        }
+
+        /**
+         * Reject the tokens that exceed the given limits before reading what they are routed by. The verifier a token
+         * is routed to still checks it against its own limits.
+         *
+         * @param limits the limits the tokens must be within to be routed, or null to route tokens of any size.
+         * @return this same Builder instance.
+         */
+        public Builder withTokenLimits(TokenLimits limits) {
+            this.limits = limits;
+            return this;
+        }
+
+        /**
+         * Register a verifier for the tokens signed with its algorithm and the given Key Id and Issuer.
+         *
+         * @param verifier the verifier to route the tokens to.
+         * @param keyId    the Key Id the tokens must state in their Header, or null to accept any.
+         * @param issuer   the first Issuer the tokens must state in their Payload, or null to accept any.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the verifier is null or another one was registered for the same route.
+         */
+        public Builder register(JWT verifier, String keyId, String issuer) throws IllegalArgumentException {
+            if (verifier == null) {
+                throw new IllegalArgumentException("The verifier cannot be null.");
+            }
+            Route route = new Route(verifier.getAlgorithm().getName(), keyId, issuer);
+            if (verifiers.containsKey(route)) {
+                throw new IllegalArgumentException(String.format("A verifier is already registered for the algorithm '%s', Key Id '%s' and Issuer '%s'.",
+                        route.algorithm, keyId, issuer));
+            }
+            verifiers.put(route, verifier);
+            if (issuer != null) {
+                issuerRoutes.add(new Route(route.algorithm, keyId, null));
+            }
+            return this;
+        }
+
+        /**
+         * Register a verifier for the tokens signed with its algorithm and the given Key Id, from any Issuer.
+         *
+         * @param verifier the verifier to route the tokens to.
+         * @param keyId    the Key Id the tokens must state in their Header, or null to accept any.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the verifier is null or another one was registered for the same route.
+         */
+        public Builder register(JWT verifier, String keyId) throws IllegalArgumentException {
+            return register(verifier, keyId, null);
+        }
+
+        /**
+         * Creates a new and reusable instance of the VerifierRegistry with the verifiers already registered.
+         *
+         * @return a new VerifierRegistry instance.
+         */
+        public VerifierRegistry build() {
+            return new VerifierRegistry(new HashMap<>(verifiers), new HashSet<>(issuerRoutes), limits);
+        }
+    }
+
+    private static final class Route {
+        private final String algorithm;
+        private final String keyId;
+        private final String issuer;
+        private final int hash;
+
+        Route(String algorithm, String keyId, String issuer) {
+            this.algorithm = algorithm;
+            this.keyId = keyId;
+            this.issuer = issuer;
+            int result = algorithm != null ? algorithm.hashCode() : 0;
+            result = 31 * result + (keyId != null ? keyId.hashCode() : 0);
+            this.hash = 31 * result + (issuer != null ? issuer.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Route)) {
+                return false;
+            }
+            Route route = (Route) o;
+            return hash == route.hash
+                    && equals(algorithm, route.algorithm)
+                    && equals(keyId, route.keyId)
+                    && equals(issuer, route.issuer);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static boolean equals(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The ReplayCache class remembers the JWT Ids ("jti") of the tokens already accepted, so that a verifier built with
+ * {@link com.auth0.jwt.interfaces.Verification#withReplayCache(ReplayCache)} rejects any token presented twice.
+ * <p>
+ * Each Id is kept until its token can no longer be accepted, which is its Expires At ("exp") date plus the verifier's
+ * leeway. Ids are grouped in buckets by that date, so a whole bucket is dropped at once when its time has passed instead
+ * of scanning the Ids one by one. The buckets form a ring covering {@code bucketMillis * bucketCount} milliseconds; a
+ * token whose Id would have to be kept longer than that can't be tracked and is rejected.
+ * <p>
+ * The Ids are spread over independently locked segments by hash, so threads recording different Ids rarely contend.
+ * The amount of Ids is bounded by {@code maxEntries}: once a segment is full, new Ids are refused until its oldest
+ * bucket expires, which keeps the memory bounded at the cost of rejecting valid tokens under a flood.
+ * <p>
+ * On a 64-bit JVM with compressed references each Id takes about 130 bytes for a 22 characters jti, like the ones of
+ * {@link com.auth0.jwt.SecureIdGenerator}: the String and its characters, the hash set entry and its table slot. A cache
+ * of one million Ids, enough for 100k tokens per second living ten seconds, needs about 130 MB; size {@code maxEntries}
+ * as the expected rate times the token lifetime plus leeway.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ReplayCache {
+
+    private static final int DEFAULT_SEGMENTS = 64;
+
+    private final long bucketMillis;
+    private final int bucketCount;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    /**
+     * Creates a new ReplayCache.
+     *
+     * @param bucketMillis the span of expiry dates grouped in a single bucket, in milliseconds.
+     * @param bucketCount  the amount of buckets, which times {@code bucketMillis} is the longest an Id can be kept.
+     * @param maxEntries   the maximum amount of Ids kept at the same time.
+     * @throws IllegalArgumentException if any of the values is not positive.
+     */
+    public ReplayCache(long bucketMillis, int bucketCount, int maxEntries) throws IllegalArgumentException {
+        if (bucketMillis <= 0 || bucketCount <= 0 || maxEntries <= 0) {
+            throw new IllegalArgumentException("The bucket span, bucket count and maximum amount of entries must be positive.");
+        }
+        this.bucketMillis = bucketMillis;
+        this.bucketCount = bucketCount;
+        int segmentCount = 1;
+        while (segmentCount < DEFAULT_SEGMENTS && segmentCount * 2 <= maxEntries) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        this.segmentMask = segmentCount - 1;
+        int capacity = (maxEntries + segmentCount - 1) / segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(bucketCount, capacity);
+        }
+    }
+
+    /**
+     * Getter for the longest an Id can be kept, measured from the moment it's recorded.
+     *
+     * @return the time covered by the buckets, in milliseconds.
+     */
+    public long getHorizon() {
+        return bucketMillis * bucketCount;
+    }
+
+    /**
+     * Records the given Id unless it was already recorded.
+     *
+     * @param jwtId       the Id of the token.
+     * @param retainUntil the date after which the token can no longer be accepted, in milliseconds.
+     * @param now         the current date, in milliseconds, with the same precision used to decide whether the token
+     *                    can still be accepted, so that every accepted token is kept in the bucket of its retainUntil.
+     * @return true if the Id was recorded, false if it was already present.
+     * @throws IllegalArgumentException if the Id is null or must be kept beyond the horizon.
+     * @throws IllegalStateException    if the cache is full.
+     */
+    public boolean add(String jwtId, long retainUntil, long now) throws IllegalArgumentException, IllegalStateException {
+        if (jwtId == null) {
+            throw new IllegalArgumentException("The JWT Id cannot be null.");
+        }
+        long currentEpoch = now / bucketMillis;
+        long epoch = Math.max(retainUntil / bucketMillis, currentEpoch);
+        if (epoch - currentEpoch >= bucketCount) {
+            throw new IllegalArgumentException("The Token must be kept longer than the cache horizon.");
+        }
+        int hash = jwtId.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & segmentMask].add(jwtId, epoch, currentEpoch);
+    }
+
+    /**
+     * Getter for the amount of Ids kept, including the ones in buckets that expired but weren't dropped yet.
+     *
+     * @return the amount of Ids.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size;
+            }
+        }
+        return size;
+    }
+
+    private static final class Segment {
+        private final long[] epochs;
+        private final List<Set<String>> buckets;
+        private final int capacity;
+        private int size;
+
+        Segment(int bucketCount, int capacity) {
+            this.epochs = new long[bucketCount];
+            this.buckets = new ArrayList<>(Collections.<Set<String>>nCopies(bucketCount, null));
+            this.capacity = capacity;
+        }
+
+        synchronized boolean add(String jwtId, long epoch, long currentEpoch) {
+            int slot = (int) (epoch % epochs.length);
+            Set<String> bucket = buckets.get(slot);
+            if (bucket != null && epochs[slot] != epoch) {
+                // Every epoch accepted is within the ring, so a slot holding another one holds an expired bucket.
+                size -= bucket.size();
+                bucket = null;
+                buckets.set(slot, null);
+            }
+            if (bucket != null && bucket.contains(jwtId)) {
+                return false;
+            }
+            if (size >= capacity) {
+                dropExpired(currentEpoch);
+                if (size >= capacity) {
+                    throw new IllegalStateException("The replay cache is full.");
+                }
+            }
+            if (bucket == null) {
+                bucket = new HashSet<>();
+                buckets.set(slot, bucket);
+                epochs[slot] = epoch;
+            }
+            bucket.add(jwtId);
+            size++;
+            return true;
+        }
+
+        private void dropExpired(long currentEpoch) {
+            for (int i = 0; i < epochs.length; i++) {
+                Set<String> bucket = buckets.get(i);
+                if (bucket != null && epochs[i] < currentEpoch) {
+                    size -= bucket.size();
+                    buckets.set(i, null);
+                }
+            }
+        }
+    }
+}
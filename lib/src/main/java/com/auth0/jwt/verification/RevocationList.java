@@ -0,0 +1,368 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The RevocationList class checks tokens against a snapshot of revoked JWT Ids ("jti") and Subjects ("sub") stored in a
+ * file written by {@link #write(File, Collection, Collection, double)}.
+ * <p>
+ * The file is memory mapped, so several JVMs on the same host share its pages and none of the revoked values is held on
+ * the heap. A Bloom filter answers most lookups with a few reads; only its positives are confirmed against the exact
+ * list of values stored after it, using a binary search over their hashes.
+ * <p>
+ * {@link #reload()} maps the file again when it changed and swaps the snapshot atomically: checks in progress finish on
+ * the previous snapshot, which is unmapped once it's garbage collected. New snapshots should be written next to the
+ * file and renamed over it, as {@link #write(File, Collection, Collection, double)} does, so a partial file is never mapped.
+ * Snapshots are limited to 2 GB, and are validated when mapped so a corrupt file is rejected by {@link #open(File)} or
+ * {@link #reload()} instead of failing the checks.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class RevocationList {
+
+    private static final int MAGIC = 0x4A575452;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int INDEX_ENTRY_SIZE = 12;
+    private static final char JWT_ID = 'j';
+    private static final char SUBJECT = 's';
+
+    private final File file;
+    private volatile Snapshot snapshot;
+
+    private RevocationList(File file, Snapshot snapshot) {
+        this.file = file;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Map the given snapshot file.
+     *
+     * @param file the snapshot file.
+     * @return a RevocationList backed by the file.
+     * @throws IOException if the file can't be read or is not a valid snapshot.
+     */
+    public static RevocationList open(File file) throws IOException {
+        return new RevocationList(file, Snapshot.map(file));
+    }
+
+    /**
+     * Map the snapshot file again if it was replaced, or its size or modification date changed, since it was last mapped.
+     *
+     * @return true if a new snapshot was swapped in.
+     * @throws IOException if the new file can't be read or is not a valid snapshot, in which case the current snapshot is kept.
+     */
+    public synchronized boolean reload() throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        if (snapshot.isMappedFrom(attributes)) {
+            return false;
+        }
+        snapshot = Snapshot.map(file);
+        return true;
+    }
+
+    /**
+     * Whether the token's JWT Id or any of its Subjects was revoked.
+     *
+     * @param jwt the decoded token.
+     * @return true if the token was revoked.
+     */
+    public boolean isRevoked(DecodedJWT jwt) {
+        Snapshot current = snapshot;
+        if (jwt.getId() != null && current.contains(JWT_ID, jwt.getId())) {
+            return true;
+        }
+        List<String> subjects = jwt.getSubject();
+        if (subjects != null) {
+            for (String subject : subjects) {
+                if (subject != null && current.contains(SUBJECT, subject)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the given JWT Id was revoked.
+     *
+     * @param jwtId the JWT Id.
+     * @return true if it was revoked.
+     */
+    public boolean isJWTIdRevoked(String jwtId) {
+        return snapshot.contains(JWT_ID, jwtId);
+    }
+
+    /**
+     * Whether the given Subject was revoked.
+     *
+     * @param subject the Subject.
+     * @return true if it was revoked.
+     */
+    public boolean isSubjectRevoked(String subject) {
+        return snapshot.contains(SUBJECT, subject);
+    }
+
+    /**
+     * Write a snapshot with the given revoked values. The snapshot is written to a temporary file in the same directory
+     * and then renamed over the given file, so readers never map a partial snapshot.
+     *
+     * @param file              the snapshot file.
+     * @param jwtIds            the revoked JWT Ids.
+     * @param subjects          the revoked Subjects.
+     * @param falsePositiveRate the rate of lookups the Bloom filter sends to the exact list although they're not revoked.
+     * @throws IOException              if the file can't be written.
+     * @throws IllegalArgumentException if the false positive rate is not between 0 and 1 or the snapshot would exceed 2 GB.
+     */
+    public static void write(File file, Collection<String> jwtIds, Collection<String> subjects, double falsePositiveRate) throws IOException {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("The false positive rate must be between 0 and 1.");
+        }
+        List<Entry> entries = new ArrayList<>(jwtIds.size() + subjects.size());
+        long dataSize = 0;
+        for (String jwtId : jwtIds) {
+            entries.add(new Entry(JWT_ID, jwtId));
+            dataSize += 6 + 2L * jwtId.length();
+        }
+        for (String subject : subjects) {
+            entries.add(new Entry(SUBJECT, subject));
+            dataSize += 6 + 2L * subject.length();
+        }
+        Entry[] sorted = entries.toArray(new Entry[entries.size()]);
+        Arrays.sort(sorted);
+
+        int n = Math.max(sorted.length, 1);
+        long bitCount = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bitCount = Math.max(64, (bitCount + 63) & ~63L);
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        long indexOffset = HEADER_SIZE + bitCount / 8;
+        long dataOffset = indexOffset + (long) INDEX_ENTRY_SIZE * sorted.length;
+        long size = dataOffset + dataSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The snapshot would exceed 2 GB.");
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(hashCount).putInt(sorted.length).putLong(bitCount);
+        long[] bits = new long[(int) (bitCount / 64)];
+        for (Entry entry : sorted) {
+            long h2 = secondHash(entry.hash);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((entry.hash + i * h2) & Long.MAX_VALUE) % bitCount;
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+        for (long word : bits) {
+            buffer.putLong(word);
+        }
+        int offset = (int) dataOffset;
+        for (Entry entry : sorted) {
+            buffer.putLong(entry.hash).putInt(offset);
+            offset += 4 + 2 * entry.value.length();
+        }
+        for (Entry entry : sorted) {
+            buffer.putInt(entry.value.length());
+            for (int i = 0; i < entry.value.length(); i++) {
+                buffer.putChar(entry.value.charAt(i));
+            }
+        }
+        buffer.flip();
+
+        File parent = file.getAbsoluteFile().getParentFile();
+        File temp = File.createTempFile(file.getName(), ".tmp", parent);
+        try {
+            try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    static long hash(char kind, String value) {
+        long hash = 0xcbf29ce484222325L;
+        hash = (hash ^ kind) * 0x100000001b3L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long secondHash(long hash) {
+        return mix(hash + 0x9e3779b97f4a7c15L) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final long hash;
+        private final String value;
+
+        Entry(char kind, String value) {
+            this.hash = hash(kind, value);
+            this.value = kind + value;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return hash < other.hash ? -1 : (hash == other.hash ? 0 : 1);
+        }
+    }
+
+    private static final class Snapshot {
+        private final MappedByteBuffer buffer;
+        private final int hashCount;
+        private final int entryCount;
+        private final long bitCount;
+        private final int indexOffset;
+        private final BasicFileAttributes attributes;
+
+        private Snapshot(MappedByteBuffer buffer, BasicFileAttributes attributes) throws IOException {
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("The file is not a valid revocation snapshot.");
+            }
+            this.buffer = buffer;
+            this.hashCount = buffer.getInt(8);
+            this.entryCount = buffer.getInt(12);
+            this.bitCount = buffer.getLong(16);
+            this.attributes = attributes;
+            long indexOffset = HEADER_SIZE + bitCount / 8;
+            if (hashCount <= 0 || bitCount <= 0 || bitCount % 64 != 0 || entryCount < 0
+                    || indexOffset + (long) INDEX_ENTRY_SIZE * entryCount > buffer.capacity()) {
+                throw new IOException("The file is not a valid revocation snapshot.");
+            }
+            this.indexOffset = (int) indexOffset;
+            checkIndex();
+        }
+
+        /**
+         * Checks that the index is sorted and that every value it points to lies within the file, so that a truncated or
+         * corrupt snapshot is rejected when it's mapped rather than failing the lookups.
+         */
+        private void checkIndex() throws IOException {
+            long dataOffset = indexOffset + (long) INDEX_ENTRY_SIZE * entryCount;
+            long previousHash = Long.MIN_VALUE;
+            for (int i = 0; i < entryCount; i++) {
+                int position = indexOffset + i * INDEX_ENTRY_SIZE;
+                long hash = buffer.getLong(position);
+                long offset = buffer.getInt(position + 8);
+                if (hash < previousHash || offset < dataOffset || offset + 4 > buffer.capacity()) {
+                    throw new IOException("The file is not a valid revocation snapshot.");
+                }
+                long length = buffer.getInt((int) offset);
+                if (length < 1 || offset + 4 + 2 * length > buffer.capacity()) {
+                    throw new IOException("The file is not a valid revocation snapshot.");
+                }
+                previousHash = hash;
+            }
+        }
+
+        static Snapshot map(File file) throws IOException {
+            // Read before opening: if the file is replaced in between, the next reload maps it again.
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+                long length = channel.size();
+                if (length > Integer.MAX_VALUE) {
+                    throw new IOException("The revocation snapshot exceeds 2 GB.");
+                }
+                return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, length), attributes);
+            }
+        }
+
+        boolean isMappedFrom(BasicFileAttributes current) {
+            Object fileKey = attributes.fileKey();
+            return (fileKey == null ? current.fileKey() == null : fileKey.equals(current.fileKey()))
+                    && attributes.lastModifiedTime().equals(current.lastModifiedTime())
+                    && attributes.size() == current.size();
+        }
+
+        boolean contains(char kind, String value) {
+            long hash = hash(kind, value);
+            long h2 = secondHash(hash);
+            for (int i = 0; i < hashCount; i++) {
+                long bit = ((hash + i * h2) & Long.MAX_VALUE) % bitCount;
+                if ((buffer.getLong(HEADER_SIZE + (int) (bit >>> 6) * 8) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return containsExactly(hash, kind, value);
+        }
+
+        private boolean containsExactly(long hash, char kind, String value) {
+            int low = 0;
+            int high = entryCount;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (buffer.getLong(indexOffset + middle * INDEX_ENTRY_SIZE) < hash) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < entryCount; i++) {
+                int position = indexOffset + i * INDEX_ENTRY_SIZE;
+                if (buffer.getLong(position) != hash) {
+                    return false;
+                }
+                if (matches(buffer.getInt(position + 8), kind, value)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean matches(int offset, char kind, String value) {
+            if (buffer.getInt(offset) != value.length() + 1 || buffer.getChar(offset + 4) != kind) {
+                return false;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                if (buffer.getChar(offset + 6 + 2 * i) != value.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The ScopeDictionary class numbers the OAuth scopes a service knows about, so that the space delimited Scope ("scope")
+ * claim of a token can be parsed once into a {@link ScopeSet} bitset. Checking whether a token was granted one or many
+ * scopes is then a bitwise AND instead of splitting and comparing strings on every request.
+ * <p>
+ * Scopes that aren't in the dictionary are ignored when parsing, as no check can require them. Instances are immutable
+ * and can be shared by any amount of threads.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ScopeDictionary {
+
+    private final String[] scopes;
+    private final Map<String, Integer> indexes;
+
+    private ScopeDictionary(String[] scopes, Map<String, Integer> indexes) {
+        this.scopes = scopes;
+        this.indexes = indexes;
+    }
+
+    /**
+     * Creates a dictionary of the given scopes.
+     *
+     * @param scopes the scopes to register.
+     * @return a new ScopeDictionary instance.
+     * @throws IllegalArgumentException if any of the scopes is null, empty, contains a space or is repeated.
+     */
+    public static ScopeDictionary of(String... scopes) throws IllegalArgumentException {
+        Map<String, Integer> indexes = new HashMap<>(scopes.length * 4 / 3 + 1);
+        for (int i = 0; i < scopes.length; i++) {
+            String scope = scopes[i];
+            if (scope == null || scope.isEmpty() || scope.indexOf(' ') >= 0) {
+                throw new IllegalArgumentException("The scope can't be null, empty or contain spaces.");
+            }
+            if (indexes.put(scope, i) != null) {
+                throw new IllegalArgumentException(String.format("The scope '%s' is registered twice.", scope));
+            }
+        }
+        return new ScopeDictionary(scopes.clone(), indexes);
+    }
+
+    /**
+     * Getter for the amount of registered scopes.
+     *
+     * @return the amount of scopes in this dictionary.
+     */
+    public int size() {
+        return scopes.length;
+    }
+
+    /**
+     * Creates the set of the given scopes, to compile the scopes a check requires once.
+     *
+     * @param scopes the scopes to include.
+     * @return the set of the given scopes.
+     * @throws IllegalArgumentException if any of the scopes isn't registered in this dictionary.
+     */
+    public ScopeSet scopes(String... scopes) throws IllegalArgumentException {
+        long[] words = newWords();
+        for (String scope : scopes) {
+            int index = indexOf(scope);
+            if (index < 0) {
+                throw new IllegalArgumentException(String.format("The scope '%s' is not registered in the dictionary.", scope));
+            }
+            words[index >>> 6] |= 1L << index;
+        }
+        return new ScopeSet(this, words);
+    }
+
+    /**
+     * Parses a space delimited list of scopes, like the value of the Scope ("scope") claim.
+     *
+     * @param scope the scopes to parse, or null.
+     * @return the set of the registered scopes found, which is empty if the value is null.
+     */
+    public ScopeSet parse(String scope) {
+        long[] words = newWords();
+        if (scope != null) {
+            addAll(scope, words);
+        }
+        return new ScopeSet(this, words);
+    }
+
+    /**
+     * Parses the value of a scope Claim, which can be either a space delimited String or an Array of Strings.
+     *
+     * @param claim the Claim to parse.
+     * @return the set of the registered scopes found, which is empty if the Claim is null or of another type.
+     */
+    public ScopeSet parse(Claim claim) {
+        long[] words = newWords();
+        String scope = claim.asString();
+        if (scope != null) {
+            addAll(scope, words);
+        } else {
+            List<String> list = claim.asList(String.class);
+            if (list != null) {
+                for (String item : list) {
+                    if (item != null) {
+                        addAll(item, words);
+                    }
+                }
+            }
+        }
+        return new ScopeSet(this, words);
+    }
+
+    /**
+     * Parses the Scope ("scope") claim of the given token.
+     *
+     * @param jwt the token whose scopes to parse.
+     * @return the set of the registered scopes the token was granted.
+     */
+    public ScopeSet parse(DecodedJWT jwt) {
+        return parse(jwt.getClaim(PublicClaims.SCOPE));
+    }
+
+    int indexOf(String scope) {
+        Integer index = indexes.get(scope);
+        return index != null ? index : -1;
+    }
+
+    String getScope(int index) {
+        return scopes[index];
+    }
+
+    private long[] newWords() {
+        return new long[Math.max(1, (scopes.length + 63) >>> 6)];
+    }
+
+    private void addAll(String scope, long[] words) {
+        int length = scope.length();
+        int start = 0;
+        while (start < length) {
+            int end = scope.indexOf(' ', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                int index = indexOf(scope.substring(start, end));
+                if (index >= 0) {
+                    words[index >>> 6] |= 1L << index;
+                }
+            }
+            start = end + 1;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.interfaces.Claim;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The ScopeSet class holds a set of the scopes of a {@link ScopeDictionary} as a bitset, with one bit per registered
+ * scope. Up to 64 scopes fit in a single word, so comparing two sets is a single bitwise AND.
+ * <p>
+ * Instances are immutable and can be shared by any amount of threads.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class ScopeSet {
+
+    private final ScopeDictionary dictionary;
+    private final long[] words;
+
+    ScopeSet(ScopeDictionary dictionary, long[] words) {
+        this.dictionary = dictionary;
+        this.words = words;
+    }
+
+    /**
+     * Whether the given scope is in this set.
+     *
+     * @param scope the scope to look for.
+     * @return whether this set contains the scope, which is never the case for scopes that aren't registered.
+     */
+    public boolean hasScope(String scope) {
+        int index = dictionary.indexOf(scope);
+        return index >= 0 && (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Whether all the scopes of the given set are in this set.
+     *
+     * @param scopes the scopes to look for, from the same dictionary.
+     * @return whether this set contains every scope of the given one.
+     * @throws IllegalArgumentException if the given set comes from another dictionary.
+     */
+    public boolean hasAllScopes(ScopeSet scopes) throws IllegalArgumentException {
+        checkDictionary(scopes);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & scopes.words[i]) != scopes.words[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether any of the scopes of the given set is in this set.
+     *
+     * @param scopes the scopes to look for, from the same dictionary.
+     * @return whether this set contains at least one scope of the given one.
+     * @throws IllegalArgumentException if the given set comes from another dictionary.
+     */
+    public boolean hasAnyScope(ScopeSet scopes) throws IllegalArgumentException {
+        checkDictionary(scopes);
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & scopes.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether this set has no scopes.
+     *
+     * @return whether this set is empty.
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Getter for the scopes in this set.
+     *
+     * @return the scopes, in the order they were registered in the dictionary.
+     */
+    public List<String> getScopes() {
+        List<String> scopes = new ArrayList<>();
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                scopes.add(dictionary.getScope((i << 6) + bit));
+                word &= word - 1;
+            }
+        }
+        return scopes;
+    }
+
+    /**
+     * Whether the given scope Claim was granted all the scopes of this set.
+     */
+    boolean isGrantedBy(Claim claim) {
+        return dictionary.parse(claim).hasAllScopes(this);
+    }
+
+    private void checkDictionary(ScopeSet scopes) {
+        if (scopes.dictionary != dictionary) {
+            throw new IllegalArgumentException("The scopes must come from the same dictionary.");
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        ScopeSet scopeSet = (ScopeSet) o;
+
+        return dictionary == scopeSet.dictionary && Arrays.equals(words, scopeSet.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (String scope : getScopes()) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(scope);
+        }
+        return builder.toString();
+    }
+}
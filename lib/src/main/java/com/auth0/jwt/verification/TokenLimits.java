@@ -0,0 +1,455 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+
+/**
+ * The TokenLimits class bounds the size and shape of the tokens a verifier built with
+ * {@link com.auth0.jwt.interfaces.Verification#withTokenLimits(TokenLimits)} accepts to decode.
+ * <p>
+ * The token length and the size the Header and Payload would have once decoded are checked in a single pass over the
+ * token, before any of its parts is decoded. The JSON depth, the amount of claims and the length of the numbers are
+ * checked in a single pass over each decoded part, before it's handed to the JSON parser. Oversized or deeply nested
+ * input is therefore rejected before paying for decoding or parsing it.
+ * <p>
+ * A {@link com.auth0.jwt.TokenView} checks its Payload while scanning it instead, so that only the part scanned for
+ * the claims asked for is checked.
+ * <p>
+ * A JWS JSON Serialization is checked as a whole before it's parsed, and the Header and Payload of each signature
+ * once decoded, like those of a compact token.
+ * <p>
+ * Limits that aren't set aren't checked. Instances are immutable and can be shared by any amount of verifiers.
+ */
+@SuppressWarnings("WeakerAccess")
+public final class TokenLimits {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+    private static final String HEADER = "Header";
+    private static final String PAYLOAD = "Payload";
+    private static final String SERIALIZATION = "JSON Serialization";
+    // A Header in the "signatures" array of a JWS JSON Serialization is nested 3 levels deep
+    private static final int SERIALIZATION_DEPTH = 3;
+
+    private final int maxTokenLength;
+    private final int maxHeaderSize;
+    private final int maxPayloadSize;
+    private final int maxDepth;
+    private final int maxClaimCount;
+    private final int maxNumberLength;
+
+    private TokenLimits(Builder builder) {
+        this.maxTokenLength = builder.maxTokenLength;
+        this.maxHeaderSize = builder.maxHeaderSize;
+        this.maxPayloadSize = builder.maxPayloadSize;
+        this.maxDepth = builder.maxDepth;
+        this.maxClaimCount = builder.maxClaimCount;
+        this.maxNumberLength = builder.maxNumberLength;
+    }
+
+    /**
+     * Initialize a TokenLimits instance.
+     *
+     * @return a TokenLimits.Builder instance to configure.
+     */
+    public static Builder init() {
+        return new Builder();
+    }
+
+    /**
+     * The Builder class holds the limits to set, none of them by default.
+     */
+    public static class Builder {
+        private int maxTokenLength = UNLIMITED;
+        private int maxHeaderSize = UNLIMITED;
+        private int maxPayloadSize = UNLIMITED;
+        private int maxDepth = UNLIMITED;
+        private int maxClaimCount = UNLIMITED;
+        private int maxNumberLength = UNLIMITED;
+
+        Builder() {
+        }
+
+        /**
+         * Limit the length of the whole token, in characters.
+         *
+         * @param maxTokenLength the maximum length.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxTokenLength(int maxTokenLength) throws IllegalArgumentException {
+            this.maxTokenLength = assertPositive(maxTokenLength);
+            return this;
+        }
+
+        /**
+         * Limit the size of the decoded Header, in bytes.
+         *
+         * @param maxHeaderSize the maximum size.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxHeaderSize(int maxHeaderSize) throws IllegalArgumentException {
+            this.maxHeaderSize = assertPositive(maxHeaderSize);
+            return this;
+        }
+
+        /**
+         * Limit the size of the decoded Payload, in bytes.
+         *
+         * @param maxPayloadSize the maximum size.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxPayloadSize(int maxPayloadSize) throws IllegalArgumentException {
+            this.maxPayloadSize = assertPositive(maxPayloadSize);
+            return this;
+        }
+
+        /**
+         * Limit how deep objects and arrays can be nested in the Header and Payload. The top level object has depth 1.
+         *
+         * @param maxDepth the maximum depth.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxDepth(int maxDepth) throws IllegalArgumentException {
+            this.maxDepth = assertPositive(maxDepth);
+            return this;
+        }
+
+        /**
+         * Limit the amount of top level claims of the Header and of the Payload.
+         *
+         * @param maxClaimCount the maximum amount of claims.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxClaimCount(int maxClaimCount) throws IllegalArgumentException {
+            this.maxClaimCount = assertPositive(maxClaimCount);
+            return this;
+        }
+
+        /**
+         * Limit the length of the numbers in the Header and Payload, in characters, which bounds the cost of
+         * converting them to big numbers.
+         *
+         * @param maxNumberLength the maximum length.
+         * @return this same Builder instance.
+         * @throws IllegalArgumentException if the value is not positive.
+         */
+        public Builder withMaxNumberLength(int maxNumberLength) throws IllegalArgumentException {
+            this.maxNumberLength = assertPositive(maxNumberLength);
+            return this;
+        }
+
+        /**
+         * Creates a new and reusable instance of the TokenLimits with the limits already provided.
+         *
+         * @return a new TokenLimits instance.
+         */
+        public TokenLimits build() {
+            return new TokenLimits(this);
+        }
+
+        private static int assertPositive(int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException("The limit must be positive.");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Checks the token length and the decoded size of its Header and Payload, without decoding them.
+     *
+     * @param token      with jwt format as string.
+     * @param encodeType the encoding of the token's parts.
+     * @throws JWTDecodeException if any of the limits is exceeded.
+     */
+    public void checkToken(String token, EncodeType encodeType) throws JWTDecodeException {
+        int length = token.length();
+        if (length > maxTokenLength) {
+            throw new JWTDecodeException(String.format("The token exceeds the maximum length of %d characters.", maxTokenLength));
+        }
+        if (maxHeaderSize == UNLIMITED && maxPayloadSize == UNLIMITED) {
+            return;
+        }
+        int part = 0;
+        int start = 0;
+        int padding = 0;
+        for (int i = 0; i <= length && part < 2; i++) {
+            char c = i < length ? token.charAt(i) : '.';
+            if (c == '=') {
+                padding++;
+            } else if (c == '.') {
+                int size = decodedSize(i - start - padding, encodeType);
+                if (part == 0 && size > maxHeaderSize) {
+                    throw exceedsSize(HEADER, maxHeaderSize);
+                } else if (part == 1 && size > maxPayloadSize) {
+                    throw exceedsSize(PAYLOAD, maxPayloadSize);
+                }
+                part++;
+                start = i + 1;
+                padding = 0;
+            }
+        }
+    }
+
+    /**
+     * Checks the length, depth and number lengths of a JWS JSON Serialization before parsing it. The depth allowed is
+     * that of a Header nested in the serialization, as the Header and Payload are checked on their own once decoded.
+     *
+     * @param json the JWS JSON Serialization.
+     * @throws JWTDecodeException if any of the limits is exceeded.
+     */
+    public void checkSerialization(String json) throws JWTDecodeException {
+        if (json.length() > maxTokenLength) {
+            throw new JWTDecodeException(String.format("The token exceeds the maximum length of %d characters.", maxTokenLength));
+        }
+        int depth = maxDepth == UNLIMITED ? UNLIMITED : maxDepth + SERIALIZATION_DEPTH;
+        checkJson(json, SERIALIZATION, maxTokenLength, depth, UNLIMITED);
+    }
+
+    /**
+     * Checks the size an encoded Header would have once decoded, without decoding it.
+     *
+     * @param header     the encoded Header.
+     * @param encodeType the encoding of the Header.
+     * @throws JWTDecodeException if the Header would exceed the maximum size.
+     */
+    public void checkEncodedHeader(String header, EncodeType encodeType) throws JWTDecodeException {
+        if (decodedSize(header, encodeType) > maxHeaderSize) {
+            throw exceedsSize(HEADER, maxHeaderSize);
+        }
+    }
+
+    /**
+     * Checks the size an encoded Payload would have once decoded, without decoding it.
+     *
+     * @param payload    the encoded Payload.
+     * @param encodeType the encoding of the Payload.
+     * @throws JWTDecodeException if the Payload would exceed the maximum size.
+     */
+    public void checkEncodedPayload(String payload, EncodeType encodeType) throws JWTDecodeException {
+        if (decodedSize(payload, encodeType) > maxPayloadSize) {
+            throw exceedsSize(PAYLOAD, maxPayloadSize);
+        }
+    }
+
+    /**
+     * Checks the depth, amount of claims and number lengths of a decoded Header.
+     *
+     * @param json the decoded Header.
+     * @throws JWTDecodeException if any of the limits is exceeded.
+     */
+    public void checkHeader(String json) throws JWTDecodeException {
+        checkJson(json, HEADER, maxHeaderSize, maxDepth, maxClaimCount);
+    }
+
+    /**
+     * Checks the depth, amount of claims and number lengths of a decoded Payload.
+     *
+     * @param json the decoded Payload.
+     * @throws JWTDecodeException if any of the limits is exceeded.
+     */
+    public void checkPayload(String json) throws JWTDecodeException {
+        checkJson(json, PAYLOAD, maxPayloadSize, maxDepth, maxClaimCount);
+    }
+
+    /**
+     * Checks the size, depth, amount of claims and number lengths of a decoded Payload that wasn't turned into a
+     * string, like one bound straight to a class. The JSON structure is only made of ASCII characters, which never
+     * occur within the multi-byte UTF-8 sequences, so the bytes are checked as they are.
+     *
+     * @param json the decoded Payload, as UTF-8 bytes.
+     * @throws JWTDecodeException if any of the limits is exceeded.
+     */
+    public void checkPayload(byte[] json) throws JWTDecodeException {
+        if (json != null) {
+            checkJson(new Utf8Sequence(json), PAYLOAD, maxPayloadSize, maxDepth, maxClaimCount);
+        }
+    }
+
+    /**
+     * Checks the size of a decoded Payload that is checked while it's being read, like by a streaming scan, rather
+     * than scanned as a whole beforehand.
+     *
+     * @param size the size of the decoded Payload, in bytes.
+     * @throws JWTDecodeException if the Payload exceeds the maximum size.
+     */
+    public void checkPayloadSize(int size) throws JWTDecodeException {
+        if (size > maxPayloadSize) {
+            throw exceedsSize(PAYLOAD, maxPayloadSize);
+        }
+    }
+
+    /**
+     * Checks the depth a Payload being read reached, the top level object having depth 1.
+     *
+     * @param depth the depth of the object or array just opened.
+     * @throws JWTDecodeException if the Payload exceeds the maximum depth.
+     */
+    public void checkPayloadDepth(int depth) throws JWTDecodeException {
+        if (depth > maxDepth) {
+            throw exceedsDepth(PAYLOAD, maxDepth);
+        }
+    }
+
+    /**
+     * Checks the amount of top level claims read from a Payload so far.
+     *
+     * @param claimCount the amount of claims read.
+     * @throws JWTDecodeException if the Payload has more than the maximum amount of claims.
+     */
+    public void checkPayloadClaimCount(int claimCount) throws JWTDecodeException {
+        if (claimCount > maxClaimCount) {
+            throw exceedsClaimCount(PAYLOAD, maxClaimCount);
+        }
+    }
+
+    /**
+     * Checks the length of a number read from a Payload.
+     *
+     * @param length the length of the number, in characters.
+     * @throws JWTDecodeException if the number is longer than the maximum length.
+     */
+    public void checkPayloadNumberLength(int length) throws JWTDecodeException {
+        if (length > maxNumberLength) {
+            throw exceedsNumberLength(PAYLOAD, maxNumberLength);
+        }
+    }
+
+    private void checkJson(CharSequence json, String part, int maxSize, int maxDepth, int maxClaimCount) throws JWTDecodeException {
+        if (json == null) {
+            return;
+        }
+        // Every char takes at least one byte, so longer strings are already known to be oversized
+        if (json.length() > maxSize) {
+            throw exceedsSize(part, maxSize);
+        }
+        if (maxDepth == UNLIMITED && maxClaimCount == UNLIMITED && maxNumberLength == UNLIMITED) {
+            return;
+        }
+        int depth = 0;
+        int claims = 0;
+        int number = 0;
+        boolean inString = false;
+        for (int i = 0; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (inString) {
+                if (c == '\\') {
+                    i++;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                if (++number > maxNumberLength) {
+                    throw exceedsNumberLength(part, maxNumberLength);
+                }
+                continue;
+            }
+            number = 0;
+            switch (c) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    if (++depth > maxDepth) {
+                        throw exceedsDepth(part, maxDepth);
+                    }
+                    break;
+                case '}':
+                case ']':
+                    depth--;
+                    break;
+                case ':':
+                    if (depth == 1 && ++claims > maxClaimCount) {
+                        throw exceedsClaimCount(part, maxClaimCount);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private static int decodedSize(String part, EncodeType encodeType) {
+        int length = part.length();
+        while (length > 0 && part.charAt(length - 1) == '=') {
+            length--;
+        }
+        return decodedSize(length, encodeType);
+    }
+
+    private static int decodedSize(int encodedLength, EncodeType encodeType) {
+        switch (encodeType) {
+            case Base16:
+                return encodedLength / 2;
+            case Base32:
+                return (int) (encodedLength * 5L / 8);
+            default:
+                return (int) (encodedLength * 3L / 4);
+        }
+    }
+
+    private static JWTDecodeException exceedsSize(String part, int maxSize) {
+        return new JWTDecodeException(String.format("The token's %s exceeds the maximum size of %d bytes.", part, maxSize));
+    }
+
+    private static JWTDecodeException exceedsDepth(String part, int maxDepth) {
+        return new JWTDecodeException(String.format("The token's %s exceeds the maximum depth of %d.", part, maxDepth));
+    }
+
+    private static JWTDecodeException exceedsClaimCount(String part, int maxClaimCount) {
+        return new JWTDecodeException(String.format("The token's %s has more than %d claims.", part, maxClaimCount));
+    }
+
+    private static JWTDecodeException exceedsNumberLength(String part, int maxNumberLength) {
+        return new JWTDecodeException(String.format("The token's %s has a number longer than %d characters.", part, maxNumberLength));
+    }
+
+    /**
+     * Reads UTF-8 bytes one char per byte, which is enough for finding the JSON structure.
+     */
+    private static final class Utf8Sequence implements CharSequence {
+        private final byte[] bytes;
+
+        Utf8Sequence(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
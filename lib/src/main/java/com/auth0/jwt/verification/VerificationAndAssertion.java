@@ -20,16 +20,25 @@
 package com.auth0.jwt.verification;
 
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
 import com.auth0.jwt.exceptions.AlgorithmMismatchException;
 import com.auth0.jwt.exceptions.InvalidClaimException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.exceptions.TokenRevokedException;
+import com.auth0.jwt.impl.ClockAdapter;
 import com.auth0.jwt.impl.PublicClaims;
+import com.auth0.jwt.impl.RequiredValues;
+import com.auth0.jwt.impl.TokenProfile;
 import com.auth0.jwt.interfaces.Claim;
 import com.auth0.jwt.interfaces.Clock;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.interfaces.MillisClock;
+import com.auth0.jwt.verification.VerificationResult.Reason;
 
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -48,104 +57,229 @@ public class VerificationAndAssertion {
     }
 
     public static void verifyAlgorithm(DecodedJWT jwt, Algorithm expectedAlgorithm) throws AlgorithmMismatchException {
+        VerificationResult result = new VerificationResult();
+        if (!checkAlgorithm(jwt, expectedAlgorithm, result)) {
+            throw result.toException();
+        }
+    }
+
+    public static boolean checkAlgorithm(DecodedJWT jwt, Algorithm expectedAlgorithm, VerificationResult result) {
         if (!expectedAlgorithm.getName().equals(jwt.getAlgorithm())) {
-            throw new AlgorithmMismatchException("The provided Algorithm doesn't match the one defined in the JWT's Header.");
+            return result.fail(Reason.ALGORITHM_MISMATCH, "The provided Algorithm doesn't match the one defined in the JWT's Header.", null);
+        }
+        return true;
+    }
+
+    public static boolean checkSignature(Algorithm algorithm, DecodedJWT jwt, EncodeType encodeType, VerificationResult result) throws Exception {
+        return checkSignature(algorithm, jwt, encodeType, null, result);
+    }
+
+    /**
+     * Checks the token's signature, reporting the time taken to the given metrics, or measuring nothing if they are null.
+     */
+    public static boolean checkSignature(Algorithm algorithm, DecodedJWT jwt, EncodeType encodeType, JWTMetrics metrics,
+                                         VerificationResult result) throws Exception {
+        if (!algorithm.isValid(jwt, encodeType, metrics)) {
+            return result.fail(Reason.INVALID_SIGNATURE, "The Token's Signature resulted invalid when verified using the Algorithm: %s", algorithm);
         }
+        return true;
+    }
+
+    /**
+     * Records the token's JWT Id in the given cache, rejecting tokens whose Id was already recorded.
+     * The Id is kept until the token expires, plus the leeway accepted for the Expires At claim.
+     */
+    public static void verifyReplay(ReplayCache replayCache, MillisClock clock, DecodedJWT jwt, Map<String, Object> claims) throws InvalidClaimException {
+        VerificationResult result = new VerificationResult();
+        if (!checkReplay(replayCache, clock, jwt, claims, result)) {
+            throw result.toException();
+        }
+    }
+
+    public static boolean checkReplay(ReplayCache replayCache, MillisClock clock, DecodedJWT jwt, Map<String, Object> claims, VerificationResult result) {
+        if (jwt.getId() == null) {
+            return result.fail(Reason.REPLAYED, "The Token must have a JWT Id to be checked for replay.", null);
+        }
+        Date expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return result.fail(Reason.REPLAYED, "The Token must have an Expires At date to be checked for replay.", null);
+        }
+        Long leeway = (Long) claims.get(PublicClaims.EXPIRES_AT);
+        long retainUntil = expiresAt.getTime() + (leeway != null ? leeway * 1000 : 0);
+        // Same time base as the date checks, so that a token they accepted always falls in the bucket of its retainUntil
+        long now = currentTime(clock);
+        boolean recorded;
+        try {
+            recorded = replayCache.add(jwt.getId(), retainUntil, now);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return result.fail(Reason.REPLAYED, "The Token can't be checked for replay: %s", e.getMessage());
+        }
+        if (!recorded) {
+            return result.fail(Reason.REPLAYED, "The Token with JWT Id '%s' has already been used.", jwt.getId());
+        }
+        return true;
+    }
+
+    public static void verifyRevocation(RevocationList revocationList, DecodedJWT jwt) throws TokenRevokedException {
+        VerificationResult result = new VerificationResult();
+        if (!checkRevocation(revocationList, jwt, result)) {
+            throw result.toException();
+        }
+    }
+
+    /**
+     * Checks that the token contains every claim its profile requires, whatever their values.
+     */
+    public static boolean checkProfile(TokenProfile profile, DecodedJWT jwt, VerificationResult result) {
+        for (String name : profile.getRequiredClaimNames()) {
+            if (jwt.getClaim(name).isNull()) {
+                return result.fail(Reason.INVALID_CLAIM, "The Claim '%s' is required by the token profile.", name);
+            }
+        }
+        return true;
+    }
+
+    public static boolean checkRevocation(RevocationList revocationList, DecodedJWT jwt, VerificationResult result) {
+        if (revocationList.isRevoked(jwt)) {
+            return result.fail(Reason.REVOKED, "The Token has been revoked.", null);
+        }
+        return true;
+    }
+
+    /**
+     * Copies the required claims, hashing the values of the "aud" and "iss" claims and of the array claims so that
+     * {@link #verifyClaims(MillisClock, DecodedJWT, Map)} compares them with lookups instead of scans.
+     */
+    public static Map<String, Object> prepareClaims(Map<String, Object> claims) {
+        Map<String, Object> prepared = new HashMap<>(claims);
+        for (Map.Entry<String, Object> entry : prepared.entrySet()) {
+            Object value = entry.getValue();
+            if (value instanceof List && (PublicClaims.AUDIENCE.equals(entry.getKey()) || PublicClaims.ISSUER.equals(entry.getKey()))) {
+                entry.setValue(RequiredValues.of((List<?>) value));
+            } else if (value instanceof Object[]) {
+                entry.setValue(RequiredValues.of((Object[]) value));
+            }
+        }
+        return prepared;
     }
 
     public static void verifyClaims(Clock clock, DecodedJWT jwt, Map<String, Object> claims) throws TokenExpiredException, InvalidClaimException {
+        verifyClaims(ClockAdapter.of(clock), jwt, claims);
+    }
+
+    public static void verifyClaims(MillisClock clock, DecodedJWT jwt, Map<String, Object> claims) throws TokenExpiredException, InvalidClaimException {
+        VerificationResult result = new VerificationResult();
+        if (!checkClaims(clock, jwt, claims, result)) {
+            throw result.toException();
+        }
+    }
+
+    public static boolean checkClaims(MillisClock clock, DecodedJWT jwt, Map<String, Object> claims, VerificationResult result) {
+        long now = currentTime(clock);
         for (Map.Entry<String, Object> entry : claims.entrySet()) {
+            boolean isValid;
             switch (entry.getKey()) {
                 case PublicClaims.AUDIENCE:
-                    //noinspection unchecked
-                    VerificationAndAssertion.assertValidAudienceClaim(jwt.getAudience(), (List<String>) entry.getValue());
+                    if (entry.getValue() instanceof RequiredValues) {
+                        isValid = ((RequiredValues) entry.getValue()).matches(jwt.getAudience());
+                    } else {
+                        //noinspection unchecked
+                        isValid = isValidListClaim(jwt.getAudience(), (List<String>) entry.getValue());
+                    }
+                    if (!isValid) {
+                        return result.fail(Reason.INVALID_CLAIM, "The Claim 'aud' value doesn't contain the required audience.", null);
+                    }
                     break;
                 case PublicClaims.EXPIRES_AT:
-                    assertValidDateClaim(clock, jwt.getExpiresAt(), (Long) entry.getValue(), true);
+                    if (!checkDateClaim(now, jwt.getExpiresAt(), (Long) entry.getValue(), true, result)) {
+                        return false;
+                    }
                     break;
                 case PublicClaims.ISSUED_AT:
-                    assertValidDateClaim(clock, jwt.getIssuedAt(), (Long) entry.getValue(), false);
+                    if (!checkDateClaim(now, jwt.getIssuedAt(), (Long) entry.getValue(), false, result)) {
+                        return false;
+                    }
                     break;
                 case PublicClaims.NOT_BEFORE:
-                    assertValidDateClaim(clock, jwt.getNotBefore(), (Long) entry.getValue(), false);
+                    if (!checkDateClaim(now, jwt.getNotBefore(), (Long) entry.getValue(), false, result)) {
+                        return false;
+                    }
                     break;
                 case PublicClaims.ISSUER:
-                    VerificationAndAssertion.assertValidIssuerClaim(jwt.getIssuer(), (List<String>) entry.getValue());
+                    if (entry.getValue() instanceof RequiredValues) {
+                        isValid = ((RequiredValues) entry.getValue()).matches(jwt.getIssuer());
+                    } else {
+                        //noinspection unchecked
+                        isValid = isValidListClaim(jwt.getIssuer(), (List<String>) entry.getValue());
+                    }
+                    if (!isValid) {
+                        return result.fail(Reason.INVALID_CLAIM, "The Claim 'iss' value doesn't match the required one.", null);
+                    }
                     break;
                 case PublicClaims.JWT_ID:
-                    VerificationAndAssertion.assertValidStringClaim(entry.getKey(), jwt.getId(), (String) entry.getValue());
+                    if (!entry.getValue().equals(jwt.getId())) {
+                        return result.fail(Reason.INVALID_CLAIM, "The Claim '%s' value doesn't match the required one.", entry.getKey());
+                    }
                     break;
                 default:
-                    VerificationAndAssertion.assertValidClaim(jwt.getClaim(entry.getKey()), entry.getKey(), entry.getValue());
+                    if (!isValidClaim(jwt.getClaim(entry.getKey()), entry.getValue())) {
+                        return result.fail(Reason.INVALID_CLAIM, "The Claim '%s' value doesn't match the required one.", entry.getKey());
+                    }
                     break;
             }
         }
+        return true;
     }
 
-    private static void assertValidDateClaim(Clock clock, Date date, long leeway, boolean shouldBeFuture) {
-        Date today = clock.getToday();
-        today.setTime((long) Math.floor((today.getTime() / 1000) * 1000)); // truncate millis
+    /**
+     * Reads the current time truncated to seconds, the precision of the date claims.
+     */
+    private static long currentTime(MillisClock clock) {
+        return (clock.currentTimeMillis() / 1000) * 1000;
+    }
+
+    private static boolean checkDateClaim(long today, Date date, long leeway, boolean shouldBeFuture, VerificationResult result) {
+        boolean isValid;
         if (shouldBeFuture) {
-            VerificationAndAssertion.assertDateIsFuture(date, leeway, today);
+            isValid = date == null || today - leeway * 1000 <= date.getTime();
         } else {
-            VerificationAndAssertion.assertDateIsPast(date, leeway, today);
+            isValid = date == null || today + leeway * 1000 >= date.getTime();
         }
+        if (!isValid) {
+            if (shouldBeFuture) {
+                return result.fail(Reason.EXPIRED, "The Token has expired on %s.", date);
+            }
+            return result.fail(Reason.NOT_YET_VALID, "The Token can't be used before %s.", date);
+        }
+        return true;
     }
 
-    private static void assertValidClaim(Claim claim, String claimName, Object value) {
-        boolean isValid = false;
+    private static boolean isValidClaim(Claim claim, Object value) {
         if (value instanceof String) {
-            isValid = value.equals(claim.asString());
+            return value.equals(claim.asString());
         } else if (value instanceof Integer) {
-            isValid = value.equals(claim.asInt());
+            return value.equals(claim.asInt());
         } else if (value instanceof Long) {
-            isValid = value.equals(claim.asLong());
+            return value.equals(claim.asLong());
         } else if (value instanceof Boolean) {
-            isValid = value.equals(claim.asBoolean());
+            return value.equals(claim.asBoolean());
         } else if (value instanceof Double) {
-            isValid = value.equals(claim.asDouble());
+            return value.equals(claim.asDouble());
         } else if (value instanceof Date) {
-            isValid = value.equals(claim.asDate());
+            return value.equals(claim.asDate());
+        } else if (value instanceof RequiredValues) {
+            return ((RequiredValues) value).isContainedIn(claim);
+        } else if (value instanceof ScopeSet) {
+            return ((ScopeSet) value).isGrantedBy(claim);
         } else if (value instanceof Object[]) {
             List<Object> claimArr = Arrays.asList(claim.as(Object[].class));
             List<Object> valueArr = Arrays.asList((Object[]) value);
-            isValid = claimArr.containsAll(valueArr);
-        }
-
-        if (!isValid) {
-            throw new InvalidClaimException(String.format("The Claim '%s' value doesn't match the required one.", claimName));
-        }
-    }
-
-    private static void assertValidStringClaim(String claimName, String value, String expectedValue) {
-        if (!expectedValue.equals(value)) {
-            throw new InvalidClaimException(String.format("The Claim '%s' value doesn't match the required one.", claimName));
-        }
-    }
-
-    private static void assertDateIsFuture(Date date, long leeway, Date today) {
-        today.setTime(today.getTime() - leeway * 1000);
-        if (date != null && today.after(date)) {
-            throw new TokenExpiredException(String.format("The Token has expired on %s.", date));
+            return claimArr.containsAll(valueArr);
         }
+        return false;
     }
 
-    private static void assertDateIsPast(Date date, long leeway, Date today) {
-        today.setTime(today.getTime() + leeway * 1000);
-        if (date != null && today.before(date)) {
-            throw new InvalidClaimException(String.format("The Token can't be used before %s.", date));
-        }
-    }
-
-    private static void assertValidAudienceClaim(List<String> audience, List<String> value) {
-        if (audience == null || !audience.containsAll(value) || audience.size() != value.size()) {
-            throw new InvalidClaimException("The Claim 'aud' value doesn't contain the required audience.");
-        }
-    }
-
-    private static void assertValidIssuerClaim(List<String> issuer, List<String> value) {
-        if (issuer == null || !issuer.containsAll(value) || issuer.size() != value.size()) {
-            throw new InvalidClaimException("The Claim 'iss' value doesn't match the required one.");
-        }
+    private static boolean isValidListClaim(List<String> actual, List<String> value) {
+        return actual != null && actual.containsAll(value) && actual.size() == value.size();
     }
 }
@@ -0,0 +1,208 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.exceptions.TokenRevokedException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+/**
+ * The VerificationResult class holds the outcome of a verification that doesn't throw, like
+ * {@link com.auth0.jwt.jwts.JWT#verify(String, VerificationResult)}.
+ * <p>
+ * A failure is recorded as a {@link Reason} and the values needed to describe it; the message is only formatted when
+ * {@link #getMessage()} is called, and an exception only built by {@link #toException()}. A single instance can be
+ * reused for many verifications, but not shared between threads.
+ */
+public final class VerificationResult {
+
+    /**
+     * The reasons a verification can fail for.
+     */
+    public enum Reason {
+        VALID,
+        MALFORMED,
+        ALGORITHM_MISMATCH,
+        INVALID_SIGNATURE,
+        EXPIRED,
+        NOT_YET_VALID,
+        INVALID_CLAIM,
+        REVOKED,
+        REPLAYED
+    }
+
+    private Reason reason = Reason.VALID;
+    private DecodedJWT jwt;
+    private String format;
+    private Object argument;
+    private JWTVerificationException cause;
+    private Throwable error;
+    private String message;
+
+    /**
+     * Clears the outcome of a previous verification.
+     *
+     * @return this same VerificationResult instance.
+     */
+    public VerificationResult reset() {
+        reason = Reason.VALID;
+        jwt = null;
+        format = null;
+        argument = null;
+        cause = null;
+        error = null;
+        message = null;
+        return this;
+    }
+
+    /**
+     * Whether the token passed every check.
+     *
+     * @return true if the token is valid.
+     */
+    public boolean isValid() {
+        return reason == Reason.VALID;
+    }
+
+    /**
+     * Getter for the reason the verification failed.
+     *
+     * @return the reason, or {@link Reason#VALID} if it didn't fail.
+     */
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * Getter for the decoded token. It's also available when a check after decoding failed.
+     *
+     * @return the decoded token, or null if it couldn't be decoded.
+     */
+    public DecodedJWT getJWT() {
+        return jwt;
+    }
+
+    /**
+     * Sets the decoded token the following checks apply to.
+     *
+     * @param jwt the decoded token.
+     */
+    public void setJWT(DecodedJWT jwt) {
+        this.jwt = jwt;
+    }
+
+    /**
+     * Getter for the description of the failure, formatted on the first call.
+     *
+     * @return the description, or null if the verification didn't fail.
+     */
+    public String getMessage() {
+        if (message == null && reason != Reason.VALID) {
+            if (cause != null) {
+                message = cause.getMessage();
+            } else {
+                message = argument == null ? format : String.format(format, argument);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * Builds the exception {@link com.auth0.jwt.jwts.JWT#decode(String)} would have thrown for this failure.
+     *
+     * @return the exception, or null if the verification didn't fail.
+     */
+    public JWTVerificationException toException() {
+        if (cause != null) {
+            return cause;
+        }
+        switch (reason) {
+            case VALID:
+                return null;
+            case MALFORMED:
+                return new JWTDecodeException(getMessage());
+            case ALGORITHM_MISMATCH:
+                return new AlgorithmMismatchException(getMessage());
+            case INVALID_SIGNATURE:
+                return new SignatureVerificationException((Algorithm) argument, error);
+            case EXPIRED:
+                return new TokenExpiredException(getMessage());
+            case REVOKED:
+                return new TokenRevokedException(getMessage());
+            default:
+                return new InvalidClaimException(getMessage());
+        }
+    }
+
+    /**
+     * Records the given exception as the failure.
+     *
+     * @param exception the failure.
+     * @return false, so that checks can return this call.
+     */
+    public boolean fail(JWTVerificationException exception) {
+        if (exception instanceof JWTDecodeException) {
+            reason = Reason.MALFORMED;
+        } else if (exception instanceof AlgorithmMismatchException) {
+            reason = Reason.ALGORITHM_MISMATCH;
+        } else if (exception instanceof SignatureVerificationException) {
+            reason = Reason.INVALID_SIGNATURE;
+        } else if (exception instanceof TokenExpiredException) {
+            reason = Reason.EXPIRED;
+        } else if (exception instanceof TokenRevokedException) {
+            reason = Reason.REVOKED;
+        } else {
+            reason = Reason.INVALID_CLAIM;
+        }
+        cause = exception;
+        error = null;
+        message = null;
+        return false;
+    }
+
+    /**
+     * Records an invalid signature caused by the given error, like a key that can't be used with the algorithm.
+     * The error is kept as is and only wrapped if {@link #toException()} is called.
+     *
+     * @param algorithm the algorithm the signature was verified with.
+     * @param error     the error raised while verifying it.
+     * @return false, so that checks can return this call.
+     */
+    public boolean failSignature(Algorithm algorithm, Throwable error) {
+        fail(Reason.INVALID_SIGNATURE, "The Token's Signature resulted invalid when verified using the Algorithm: %s", algorithm);
+        this.error = error;
+        return false;
+    }
+
+    boolean fail(Reason reason, String format, Object argument) {
+        this.reason = reason;
+        this.format = format;
+        this.argument = argument;
+        this.cause = null;
+        this.error = null;
+        this.message = null;
+        return false;
+    }
+}
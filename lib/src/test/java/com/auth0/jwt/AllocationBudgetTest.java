@@ -0,0 +1,187 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.impl.ClaimArrays;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that the hot paths stay within a fixed amount of bytes allocated per operation, measured with the per-thread
+ * allocation counters of the HotSpot {@link com.sun.management.ThreadMXBean} once the operation has warmed up.
+ * <p>
+ * The budgets leave about 50% of headroom over the allocation measured when they were set, so that they catch
+ * regressions without failing on JVM differences. Lower them when an optimization makes them loose.
+ */
+public class AllocationBudgetTest {
+
+    private static final String PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+    private static final int WARMUP_OPERATIONS = 20000;
+    private static final int MEASURED_OPERATIONS = 5000;
+
+    private com.sun.management.ThreadMXBean threads;
+    private Object sink;
+
+    @Before
+    public void setUp() throws Exception {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) threadMXBean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void decodeHS256() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        final String token = typicalToken().sign(algorithm);
+        final JWT verifier = JWT.require(algorithm).build();
+        assertWithinBudget("JWT.decode HS256", 48 * 1024, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return verifier.decode(token);
+            }
+        });
+    }
+
+    @Test
+    public void decodeAsHS256() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        final String token = typicalToken().sign(algorithm);
+        final JWT verifier = JWT.require(algorithm).build();
+        //Tighter than the other budgets, so that reading the Payload's JSON a second time, about 9 KB more, exceeds it
+        assertWithinBudget("JWT.decodeAs HS256", 40 * 1024, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return verifier.decodeAs(token, Map.class);
+            }
+        });
+    }
+
+    @Test
+    public void decodeRS256() throws Exception {
+        Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE, "RSA"), (RSAPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE, "RSA"));
+        final String token = typicalToken().sign(algorithm);
+        final JWT verifier = JWT.require(algorithm).build();
+        assertWithinBudget("JWT.decode RS256", 60 * 1024, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return verifier.decode(token);
+            }
+        });
+    }
+
+    @Test
+    public void signHS256() throws Exception {
+        final Algorithm algorithm = Algorithm.HMAC256("secret");
+        final JWTCreator.Builder builder = typicalToken();
+        assertWithinBudget("JWTCreator sign HS256", 48 * 1024, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return builder.sign(algorithm);
+            }
+        });
+    }
+
+    @Test
+    public void claimAsString() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        final Claim claim = JWT.require(algorithm).build().decode(typicalToken().sign(algorithm)).getClaim("name");
+        assertWithinBudget("Claim.asString", 64, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return claim.asString();
+            }
+        });
+    }
+
+    @Test
+    public void claimAsList() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        final Claim claim = JWT.require(algorithm).build().decode(typicalToken().sign(algorithm)).getClaim("roles");
+        assertWithinBudget("Claim.asList", 128, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return claim.asList(String.class);
+            }
+        });
+    }
+
+    @Test
+    public void claimAsLongArray() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        final Claim claim = JWT.require(algorithm).build().decode(typicalToken().sign(algorithm)).getClaim("groups");
+        assertWithinBudget("ClaimArrays.asLongArray", 64, new Operation() {
+            @Override
+            public Object run() throws Exception {
+                return ClaimArrays.asLongArray(claim);
+            }
+        });
+    }
+
+    private static JWTCreator.Builder typicalToken() {
+        long now = System.currentTimeMillis();
+        return JWT.create()
+                .withIssuer("https://auth.example.com/")
+                .withSubject("auth0|5a0d3d6c9f1b2c4e8a7b6c5d")
+                .withAudience("https://api.example.com")
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                .withNonStandardClaim("name", "John Doe")
+                .withArrayClaim("roles", new String[]{"admin", "editor", "viewer"})
+                .withArrayClaim("groups", new Long[]{1001L, 1002L, 4294967296L});
+    }
+
+    private void assertWithinBudget(String name, long budget, Operation operation) throws Exception {
+        for (int i = 0; i < WARMUP_OPERATIONS; i++) {
+            sink = operation.run();
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_OPERATIONS; i++) {
+            sink = operation.run();
+        }
+        long allocated = (threads.getThreadAllocatedBytes(threadId) - before) / MEASURED_OPERATIONS;
+        if (allocated > budget) {
+            fail(String.format("%s allocated %d bytes per operation, over its budget of %d.", name, allocated, budget));
+        }
+    }
+
+    private interface Operation {
+        Object run() throws Exception;
+    }
+}
@@ -0,0 +1,110 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class CachedClockTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldGetToday() throws Exception {
+        long before = System.currentTimeMillis();
+        try (CachedClock clock = new CachedClock(10)) {
+            Date today = clock.getToday();
+            assertTrue(Math.abs(today.getTime() - before) < 1000);
+            assertThat(clock.currentTimeMillis(), is(today.getTime()));
+        }
+    }
+
+    @Test
+    public void shouldRefreshTime() throws Exception {
+        try (CachedClock clock = new CachedClock(10)) {
+            long first = clock.currentTimeMillis();
+            Thread.sleep(100);
+            assertTrue(clock.currentTimeMillis() > first);
+        }
+    }
+
+    @Test
+    public void shouldStopRefreshingWhenClosed() throws Exception {
+        CachedClock clock = new CachedClock(10);
+        clock.close();
+        Thread.sleep(20);
+        long last = clock.currentTimeMillis();
+        Thread.sleep(50);
+        assertThat(clock.currentTimeMillis(), is(last));
+    }
+
+    @Test
+    public void shouldShareDefaultInstance() throws Exception {
+        CachedClock clock = CachedClock.getDefault();
+        clock.close();
+        assertThat(CachedClock.getDefault(), is(sameInstance(clock)));
+        long first = clock.currentTimeMillis();
+        Thread.sleep(250);
+        assertTrue(clock.currentTimeMillis() > first);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidResolution() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The resolution must be positive.");
+        new CachedClock(0);
+    }
+
+    @Test
+    public void shouldRejectExpiredToken() throws Exception {
+        exception.expect(TokenExpiredException.class);
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withExpiresAt(new Date(System.currentTimeMillis() - 5000))
+                .sign(algorithm);
+        JWT.require(algorithm)
+                .build(CachedClock.getDefault())
+                .decode(token);
+    }
+
+    @Test
+    public void shouldAcceptTokenWithinLeeway() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withExpiresAt(new Date(System.currentTimeMillis() - 5000))
+                .withNotBefore(new Date(System.currentTimeMillis() + 5000))
+                .sign(algorithm);
+        JWT.require(algorithm)
+                .acceptLeeway(10)
+                .build(CachedClock.getDefault())
+                .decode(token);
+    }
+}
@@ -37,4 +37,11 @@ public class ClockImplTest {
         assertThat(clockToday, is(notNullValue()));
     }
 
+    @Test
+    public void shouldGetCurrentTimeMillis() throws Exception {
+        long before = System.currentTimeMillis();
+        long now = new ClockImpl().currentTimeMillis();
+        assertThat(now >= before && now <= System.currentTimeMillis(), is(true));
+    }
+
 }
\ No newline at end of file
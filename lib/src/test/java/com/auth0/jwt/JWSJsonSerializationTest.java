@@ -0,0 +1,193 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class JWSJsonSerializationTest {
+
+    private static final String PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldSignAndVerifyFlattenedSerialization() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .withKeyId("my-key")
+                .sign(algorithm, EncodeType.JsonEncode);
+
+        JWSJsonSerialization serialization = JWSJsonSerialization.parse(json);
+        assertThat(serialization.getSignatureCount(), is(1));
+
+        DecodedJWT jwt = JWT.require(algorithm).build().decodeJson(json);
+        assertThat(jwt.getIssuer().get(0), is("auth0"));
+        assertThat(jwt.getKeyId(), is("my-key"));
+        assertThat(jwt.getAlgorithm(), is("HS256"));
+    }
+
+    @Test
+    public void shouldSignAndVerifyGeneralSerialization() throws Exception {
+        Algorithm hmac = Algorithm.HMAC256("secret");
+        Algorithm rsaSigner = Algorithm.RSA256((RSAPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE, "RSA"));
+        Algorithm rsaVerifier = Algorithm.RSA256((RSAPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE, "RSA"));
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .signJson(hmac, rsaSigner, Algorithm.HMAC512("secret"));
+
+        JWSJsonSerialization serialization = JWSJsonSerialization.parse(json);
+        assertThat(serialization.getSignatureCount(), is(3));
+        assertThat(serialization.decode(0).getAlgorithm(), is("HS256"));
+        assertThat(serialization.decode(1).getAlgorithm(), is("RS256"));
+        assertThat(serialization.decode(2).getAlgorithm(), is("HS512"));
+
+        assertThat(JWT.require(hmac).build().decodeJson(json).getIssuer().get(0), is("auth0"));
+        assertThat(JWT.require(rsaVerifier).build().decodeJson(json).getAlgorithm(), is("RS256"));
+        assertThat(JWT.require(Algorithm.HMAC512("secret")).build().decodeJson(json).getAlgorithm(), is("HS512"));
+    }
+
+    @Test
+    public void shouldMatchCompactTokenSignature() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .signJson(algorithm);
+
+        DecodedJWT jwt = JWSJsonSerialization.parse(json).decode(0);
+        String token = JWT.require(algorithm).build().decode(jwt.getToken()).getToken();
+        assertThat(token, is(jwt.getToken()));
+    }
+
+    @Test
+    public void shouldMergeUnprotectedHeader() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .sign(algorithm, EncodeType.JsonEncode);
+        json = json.substring(0, json.length() - 1) + ",\"header\":{\"kid\":\"unprotected\"}}";
+
+        DecodedJWT jwt = JWT.require(algorithm).build().decodeJson(json);
+        assertThat(jwt.getKeyId(), is("unprotected"));
+    }
+
+    @Test
+    public void shouldThrowOnDuplicatedHeaderParameter() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The Header parameter 'alg' can't be both protected and unprotected.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String json = JWT.create()
+                .sign(algorithm, EncodeType.JsonEncode);
+        json = json.substring(0, json.length() - 1) + ",\"header\":{\"alg\":\"none\"}}";
+
+        JWT.require(algorithm).build().decodeJson(json);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidSignature() throws Exception {
+        exception.expect(SignatureVerificationException.class);
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .signJson(Algorithm.HMAC256("secret"), Algorithm.HMAC256("other"));
+
+        JWT.require(Algorithm.HMAC256("wrong")).build().decodeJson(json);
+    }
+
+    @Test
+    public void shouldVerifyAnyMatchingSignature() throws Exception {
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .signJson(Algorithm.HMAC256("other"), Algorithm.HMAC256("secret"));
+
+        DecodedJWT jwt = JWT.require(Algorithm.HMAC256("secret")).build().decodeJson(json);
+        assertThat(jwt.getIssuer().get(0), is("auth0"));
+    }
+
+    @Test
+    public void shouldThrowOnTamperedPayload() throws Exception {
+        exception.expect(SignatureVerificationException.class);
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String json = JWT.create()
+                .withIssuer("auth0")
+                .sign(algorithm, EncodeType.JsonEncode);
+        String payload = JWSJsonSerialization.parse(json).getPayload();
+        String tampered = JWT.create()
+                .withIssuer("attacker")
+                .sign(algorithm, EncodeType.JsonEncode);
+        json = json.replace(payload, JWSJsonSerialization.parse(tampered).getPayload());
+
+        JWT.require(algorithm).build().decodeJson(json);
+    }
+
+    @Test
+    public void shouldThrowOnAlgorithmMismatch() throws Exception {
+        exception.expect(AlgorithmMismatchException.class);
+        exception.expectMessage("The provided Algorithm doesn't match the one defined in the JWT's Header.");
+        String json = JWT.create()
+                .signJson(Algorithm.HMAC256("secret"), Algorithm.HMAC384("secret"));
+
+        JWT.require(Algorithm.HMAC512("secret")).build().decodeJson(json);
+    }
+
+    @Test
+    public void shouldThrowOnMissingPayload() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The JWS JSON Serialization is missing the 'payload' member.");
+        JWSJsonSerialization.parse("{\"protected\":\"e30\",\"signature\":\"\"}");
+    }
+
+    @Test
+    public void shouldThrowOnEmptySignatures() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The 'signatures' member must be a non empty array.");
+        JWSJsonSerialization.parse("{\"payload\":\"e30\",\"signatures\":[]}");
+    }
+
+    @Test
+    public void shouldThrowOnInvalidJson() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        JWSJsonSerialization.parse("{\"payload\":");
+    }
+
+    @Test
+    public void shouldThrowWhenNoAlgorithmIsGiven() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("At least one Algorithm is required.");
+        JWT.create().signJson();
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class SecureIdGeneratorTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldGenerateUrlSafeJWTId() throws Exception {
+        String jwtId = SecureIdGenerator.newJWTId();
+        assertThat(jwtId.length(), is(22));
+        assertTrue(jwtId.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    public void shouldGenerateDistinctValues() throws Exception {
+        Set<String> values = new HashSet<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add(SecureIdGenerator.newNonce());
+            values.add(SecureIdGenerator.newState());
+        }
+        assertThat(values.size(), is(20000));
+    }
+
+    @Test
+    public void shouldGenerateValuesOfCustomLength() throws Exception {
+        assertThat(SecureIdGenerator.generate(1).length(), is(2));
+        assertThat(SecureIdGenerator.generate(2).length(), is(3));
+        assertThat(SecureIdGenerator.generate(3).length(), is(4));
+        assertThat(SecureIdGenerator.generate(32).length(), is(43));
+    }
+
+    @Test
+    public void shouldThrowOnNonPositiveLength() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The amount of bytes must be positive.");
+        SecureIdGenerator.generate(0);
+    }
+
+    @Test
+    public void shouldEncodeLikeBase64UrlWithoutPadding() throws Exception {
+        byte[] bytes = new byte[]{(byte) 0xfb, (byte) 0xff, 0x00, 0x10, 0x7e};
+        String expected = org.apache.commons.codec.binary.Base64.encodeBase64URLSafeString(bytes);
+        assertThat(SecureIdGenerator.encode(bytes, bytes.length), is(expected));
+    }
+
+    @Test
+    public void shouldGenerateDistinctValuesAcrossThreads() throws Exception {
+        final Set<String> values = new HashSet<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 1000; i++) {
+                        String value = SecureIdGenerator.newJWTId();
+                        synchronized (values) {
+                            values.add(value);
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(values.size(), is(4000));
+    }
+}
@@ -0,0 +1,182 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.TokenLimits;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TokenViewTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldSliceTheParts() throws Exception {
+        TokenView view = TokenView.of("header.payload.signature");
+        assertThat(view.getToken(), is("header.payload.signature"));
+        assertThat(view.getHeader(), is("header"));
+        assertThat(view.getPayload(), is("payload"));
+        assertThat(view.getSignature(), is("signature"));
+    }
+
+    @Test
+    public void shouldAcceptAnEmptySignature() throws Exception {
+        TokenView view = TokenView.of("header.payload.");
+        assertThat(view.getSignature(), is(""));
+    }
+
+    @Test
+    public void shouldThrowIfLessThan3Parts() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token was expected to have 3 parts.");
+        TokenView.of("two.parts");
+    }
+
+    @Test
+    public void shouldThrowIfMoreThan3Parts() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token was expected to have 3 parts.");
+        TokenView.of("this.has.four.parts");
+    }
+
+    @Test
+    public void shouldNotParseTheHeaderUntilRequested() throws Exception {
+        TokenView view = TokenView.of(encode("}{") + "." + encode("{\"sub\":\"me\"}") + ".signature");
+        assertThat(view.getClaim("sub").asString(), is("me"));
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
+        view.getAlgorithm();
+    }
+
+    @Test
+    public void shouldGetHeaderValues() throws Exception {
+        String token = JWT.create().withKeyId("key-1").sign(Algorithm.HMAC256("secret"));
+        TokenView view = TokenView.of(token);
+        assertThat(view.getAlgorithm(), is("HS256"));
+        assertThat(view.getKeyId(), is("key-1"));
+        assertThat(view.getParsedHeader(), is(sameInstance(view.getParsedHeader())));
+    }
+
+    @Test
+    public void shouldGetClaimsByName() throws Exception {
+        String payload = "{\"nested\":{\"a\":[1,{\"b\":2}]},\"iss\":\"auth0\",\"count\":3,\"roles\":[\"admin\",\"user\"]}";
+        TokenView view = TokenView.of(encode("{}") + "." + encode(payload) + ".signature");
+
+        Map<String, Claim> claims = view.getClaims("iss", "roles", "missing");
+        assertThat(claims.size(), is(2));
+        assertThat(claims.get("iss").asString(), is("auth0"));
+        assertThat(claims.get("roles").asList(String.class), contains("admin", "user"));
+        assertThat(view.getClaim("count").asInt(), is(3));
+        assertThat(view.getClaim("nested").asMap().containsKey("a"), is(true));
+    }
+
+    @Test
+    public void shouldGetNullClaimIfMissing() throws Exception {
+        TokenView view = TokenView.of(encode("{}") + "." + encode("{\"iss\":\"auth0\"}") + ".signature");
+        Claim claim = view.getClaim("sub");
+        assertThat(claim, is(notNullValue()));
+        assertThat(claim.isNull(), is(true));
+    }
+
+    @Test
+    public void shouldStopScanningOnceAllClaimsWereFound() throws Exception {
+        TokenView view = TokenView.of(encode("{}") + "." + encode("{\"iss\":\"auth0\",\"rest\":}{") + ".signature");
+        assertThat(view.getClaim("iss").asString(), is("auth0"));
+    }
+
+    @Test
+    public void shouldThrowIfPayloadHasInvalidJSONFormat() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '}{' doesn't have a valid JSON format.");
+        TokenView.of(encode("{}") + "." + encode("}{") + ".signature").getClaim("iss");
+    }
+
+    @Test
+    public void shouldThrowIfPayloadIsNotAnObject() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '[]' doesn't have a valid JSON format.");
+        TokenView.of(encode("{}") + "." + encode("[]") + ".signature").getClaim("iss");
+    }
+
+    @Test
+    public void shouldCheckDepthOfSkippedClaims() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum depth of 3.");
+        TokenLimits limits = TokenLimits.init().withMaxDepth(3).build();
+        TokenView.of(encode("{}") + "." + encode("{\"skip\":[[[1]]],\"iss\":\"auth0\"}") + ".signature", limits).getClaim("iss");
+    }
+
+    @Test
+    public void shouldCheckDepthOfRequestedClaims() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum depth of 3.");
+        TokenLimits limits = TokenLimits.init().withMaxDepth(3).build();
+        TokenView.of(encode("{}") + "." + encode("{\"iss\":{\"a\":[[1]]}}") + ".signature", limits).getClaim("iss");
+    }
+
+    @Test
+    public void shouldCheckClaimCountWhileScanning() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload has more than 2 claims.");
+        TokenLimits limits = TokenLimits.init().withMaxClaimCount(2).build();
+        TokenView.of(encode("{}") + "." + encode("{\"a\":{\"b\":1,\"c\":2},\"d\":3,\"iss\":\"auth0\"}") + ".signature", limits).getClaim("iss");
+    }
+
+    @Test
+    public void shouldCheckNumberLengthWhileScanning() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload has a number longer than 5 characters.");
+        TokenLimits limits = TokenLimits.init().withMaxNumberLength(5).build();
+        TokenView.of(encode("{}") + "." + encode("{\"n\":[1e100000],\"iss\":\"auth0\"}") + ".signature", limits).getClaim("iss");
+    }
+
+    @Test
+    public void shouldCheckPayloadSizeBeforeScanning() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum size of 8 bytes.");
+        TokenLimits limits = TokenLimits.init().withMaxPayloadSize(8).build();
+        TokenView view = TokenView.of(encode("{}") + "." + encode("{\"iss\":\"\u00e9\"}") + ".signature");
+        TokenView.of(view.getToken(), limits).getClaim("iss");
+    }
+
+    @Test
+    public void shouldOnlyCheckThePayloadScanned() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxDepth(2).withMaxClaimCount(1).build();
+        TokenView view = TokenView.of(encode("{}") + "." + encode("{\"iss\":\"auth0\",\"rest\":[[[1]]]}") + ".signature", limits);
+        assertThat(view.getClaim("iss").asString(), is("auth0"));
+    }
+
+    private static String encode(String json) {
+        return Base64.encodeBase64URLSafeString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,134 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.creators;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class BulkJWTCreatorTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldThrowWhenAlgorithmIsNull() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Algorithm cannot be null");
+        BulkJWTCreator.init(null);
+    }
+
+    @Test
+    public void shouldThrowWhenBatchSizeIsNotPositive() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The batch size must be positive.");
+        BulkJWTCreator.init(Algorithm.HMAC256("secret"))
+                .withBatchSize(0);
+    }
+
+    @Test
+    public void shouldThrowWhenEncodeTypeIsJsonEncode() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        BulkJWTCreator.init(Algorithm.HMAC256("secret"))
+                .withEncodeType(EncodeType.JsonEncode);
+    }
+
+    @Test
+    public void shouldWriteNothingForEmptyInput() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = BulkJWTCreator.init(Algorithm.HMAC256("secret"))
+                .build()
+                .mint(Collections.<Map<String, Object>>emptyIterator(), output);
+
+        assertThat(count, is(0L));
+        assertThat(output.size(), is(0));
+    }
+
+    @Test
+    public void shouldMintTokensInInputOrder() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        List<Map<String, Object>> claimSets = claimSets(1000);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long count = BulkJWTCreator.init(algorithm)
+                .withKeyId("my-key")
+                .withBatchSize(64)
+                .withPool(new ForkJoinPool(4))
+                .build()
+                .mint(claimSets.iterator(), output);
+
+        String[] tokens = new String(output.toByteArray(), StandardCharsets.US_ASCII).split("\n");
+        assertThat(count, is(1000L));
+        assertThat(tokens.length, is(1000));
+        JWT verifier = JWT.require(algorithm).build();
+        for (int i = 0; i < tokens.length; i++) {
+            DecodedJWT jwt = verifier.decode(tokens[i]);
+            assertThat(jwt.getKeyId(), is("my-key"));
+            assertThat(jwt.getClaim("index").asInt(), is(i));
+        }
+    }
+
+    @Test
+    public void shouldMintSameTokensAsJWTCreator() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        Map<String, Object> header = new HashMap<>();
+        header.put("asd", 123);
+        String expected = JWTCreator.init()
+                .withHeader(header)
+                .withJWTId("jwt-0")
+                .withNonStandardClaim("index", 0)
+                .sign(algorithm, EncodeType.Base32);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BulkJWTCreator.init(algorithm)
+                .withHeader(header)
+                .withEncodeType(EncodeType.Base32)
+                .build()
+                .mint(claimSets(1).iterator(), Channels.newChannel(output));
+
+        assertThat(new String(output.toByteArray(), StandardCharsets.US_ASCII), is(expected + "\n"));
+    }
+
+    private static List<Map<String, Object>> claimSets(int amount) {
+        List<Map<String, Object>> claimSets = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            Map<String, Object> claims = new HashMap<>();
+            claims.put("jti", "jwt-" + i);
+            claims.put("index", i);
+            claimSets.add(claims);
+        }
+        return claimSets;
+    }
+}
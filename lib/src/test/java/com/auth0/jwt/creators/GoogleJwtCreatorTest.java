@@ -137,6 +137,40 @@ public class GoogleJwtCreatorTest {
         DecodedJWT jwt = verifier.decode(token);
     }
 
+    @Test
+    public void testGoogleJwtVerifierRejectsTokenMissingProfileClaim() throws Exception {
+        thrown.expect(InvalidClaimException.class);
+        thrown.expectMessage("The Claim 'picture' is required by the token profile.");
+
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withNonStandardClaim(EMAIL, EMAIL)
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withIssuedAt(iat)
+                .withNonStandardClaim(NAME, NAME)
+                .sign(algorithm);
+
+        GoogleVerification verification = GoogleJWT.require(algorithm);
+        verification.withRequiredProfileClaims().build().decode(token);
+    }
+
+    @Test
+    public void testGoogleJwtVerifierAcceptsTokenMissingProfileClaimByDefault() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withNonStandardClaim(EMAIL, EMAIL)
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withIssuedAt(iat)
+                .withNonStandardClaim(NAME, NAME)
+                .sign(algorithm);
+
+        GoogleVerification verification = GoogleJWT.require(algorithm);
+        DecodedJWT jwt = verification.build().decode(token);
+        assertTrue(jwt.getClaim(PICTURE).isNull());
+    }
+
     @Test
     public void testGoogleJwtCreatorNoneAlgorithmNotAllowed() throws Exception {
         thrown.expect(IllegalAccessException.class);
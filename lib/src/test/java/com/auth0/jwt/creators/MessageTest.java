@@ -0,0 +1,97 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.creators;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MessageTest {
+
+    private final Message message = new Message();
+
+    @Test
+    public void shouldRoundTripJSON() throws Exception {
+        HashMap<String, Object> values = new HashMap<>();
+        values.put("client_id", "s6BhdRkqt3");
+        values.put("max_age", 86400);
+        values.put("scope", Arrays.asList("openid", "email"));
+
+        HashMap<String, Object> read = message.fromJSON(message.toJSON(values));
+        assertThat(read.get("client_id"), is((Object) "s6BhdRkqt3"));
+        assertThat(read.get("max_age"), is((Object) 86400));
+        assertThat((List<?>) read.get("scope"), is((List<?>) Arrays.asList("openid", "email")));
+    }
+
+    @Test
+    public void shouldLeaveOutNullValues() throws Exception {
+        HashMap<String, Object> values = new HashMap<>();
+        values.put("state", null);
+        values.put("nonce", "n-0S6_WzA2Mj");
+
+        assertThat(message.toJSON(values), is("{\"nonce\":\"n-0S6_WzA2Mj\"}"));
+    }
+
+    @Test
+    public void shouldStreamJSON() throws Exception {
+        Map<String, Object> values = new HashMap<>();
+        values.put("issuer", "https://server.example.com");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        message.toJSON(values, output);
+
+        HashMap<String, Object> read = message.fromJSON(new ByteArrayInputStream(output.toByteArray()));
+        assertThat(read.get("issuer"), is((Object) "https://server.example.com"));
+    }
+
+    @Test
+    public void shouldNotCloseStreams() throws Exception {
+        final boolean[] closed = new boolean[1];
+        ByteArrayOutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+        message.toJSON(new HashMap<String, Object>(), output);
+        message.fromJSON(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        });
+        assertTrue(!closed[0]);
+    }
+
+    @Test
+    public void shouldUrlEncodeAndDecode() throws Exception {
+        String json = "{\"a\":\"b c\"}";
+        assertThat(message.toUrlDecoded(message.toUrlEncoded(json)), is(json));
+    }
+}
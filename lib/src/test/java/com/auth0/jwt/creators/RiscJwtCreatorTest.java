@@ -21,6 +21,7 @@ package com.auth0.jwt.creators;
 
 import static com.auth0.jwt.TimeUtil.generateRandomExpDateInFuture;
 import static com.auth0.jwt.TimeUtil.generateRandomIatDateInPast;
+import com.auth0.jwt.JWTDecoder;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.InvalidClaimException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
@@ -48,6 +49,24 @@ public class RiscJwtCreatorTest {
     private static final Date nbf = iat;
     private static final String jti = "jti";
 
+    @Test
+    public void testRiscJwtCreatorGeneratedJti() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = RiscJwtCreator.build()
+                .withGeneratedJWTId()
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withAudience("audience")
+                .withExp(exp)
+                .withIat(iat)
+                .sign(algorithm);
+        String generatedJti = new JWTDecoder(token, EncodeType.Base64).getId();
+        Verification verification = RiscJWT.require(algorithm);
+        JWT verifier = verification.createVerifierForRisc(generatedJti, asList("issuer"), asList("audience"), 1, 1, 1).build();
+        DecodedJWT jwt = verifier.decode(token);
+        assertTrue(jwt.getId().length() == 22);
+    }
+
     @Test
     public void testRiscJwtCreatorAllStandardClaimsMustBeRequired() throws Exception {
         Algorithm algorithm = Algorithm.HMAC256("secret");
@@ -0,0 +1,90 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import org.apache.commons.codec.binary.Hex;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class Base16Test {
+
+    private static final String JSON = "{\"alg\":\"HS256\",\"name\":\"John Doe\",\"note\":\"a+b=c & \u00fc\u20ac\",\"sub\":\"1234567890\"}";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldEncodeLikeCommonsCodec() throws Exception {
+        Random random = new Random(42);
+        for (int length = 0; length < 80; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            assertThat(Base16.encode(bytes), is(Hex.encodeHexString(bytes)));
+            assertThat(Base16.decode(Hex.encodeHexString(bytes)), is(bytes));
+        }
+    }
+
+    @Test
+    public void shouldDecodeUpperCase() throws Exception {
+        assertThat(Base16.decode("0AfF"), is(new byte[]{0x0a, (byte) 0xff}));
+    }
+
+    @Test
+    public void shouldEncodeJsonLikeUrlEncoderAndHex() throws Exception {
+        String expected = Hex.encodeHexString(URLEncoder.encode(JSON, "UTF-8").getBytes(StandardCharsets.UTF_8));
+        assertThat(Base16.encodeJson(JSON), is(expected));
+    }
+
+    @Test
+    public void shouldDecodeJson() throws Exception {
+        assertThat(Base16.decodeJson(Base16.encodeJson(JSON)), is(JSON));
+        String legacy = Hex.encodeHexString(URLEncoder.encode(JSON, "UTF-8").getBytes(StandardCharsets.UTF_8));
+        assertThat(Base16.decodeJson(legacy), is(URLDecoder.decode(new String(Hex.decodeHex(legacy.toCharArray())), "UTF-8")));
+    }
+
+    @Test
+    public void shouldThrowOnOddLength() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Base16 value must have an even length.");
+        Base16.decode("abc");
+    }
+
+    @Test
+    public void shouldThrowOnInvalidCharacters() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The value contains characters outside of the Base16 alphabet.");
+        Base16.decode("0g");
+    }
+
+    @Test
+    public void shouldThrowOnIncompleteEscape() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        Base16.decodeJson(Base16.encode("{%4".getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,84 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class Base32Test {
+
+    private static final String JSON = "{\"alg\":\"HS256\",\"name\":\"John Doe\",\"note\":\"a+b=c & \u00fc\u20ac\",\"sub\":\"1234567890\"}";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldEncodeLikeCommonsCodec() throws Exception {
+        org.apache.commons.codec.binary.Base32 base32 = new org.apache.commons.codec.binary.Base32();
+        Random random = new Random(42);
+        for (int length = 0; length < 80; length++) {
+            byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            String expected = base32.encodeAsString(bytes);
+            assertThat(Base32.encode(bytes), is(expected));
+            assertThat(Base32.encodeSignature(bytes), is(URLEncoder.encode(expected, "UTF-8")));
+            assertThat(Base32.decode(expected), is(bytes));
+        }
+    }
+
+    @Test
+    public void shouldDecodeAnyPaddingAndCase() throws Exception {
+        byte[] bytes = "signature".getBytes(StandardCharsets.US_ASCII);
+        String encoded = Base32.encode(bytes);
+        assertThat(Base32.decode(encoded.toLowerCase(Locale.ROOT)), is(bytes));
+        assertThat(Base32.decode(encoded.replace("=", "")), is(bytes));
+        assertThat(Base32.decode(Base32.encodeSignature(bytes)), is(bytes));
+        assertThat(Base32.decode(Base32.encodeSignature(bytes).toLowerCase(Locale.ROOT)), is(bytes));
+    }
+
+    @Test
+    public void shouldEncodeJsonLikeUrlEncoderAndCommonsCodec() throws Exception {
+        byte[] urlEncoded = URLEncoder.encode(JSON, "UTF-8").getBytes(StandardCharsets.UTF_8);
+        String expected = new org.apache.commons.codec.binary.Base32().encodeAsString(urlEncoded);
+        assertThat(Base32.encodeJson(JSON), is(expected));
+    }
+
+    @Test
+    public void shouldDecodeJson() throws Exception {
+        assertThat(Base32.decodeJson(Base32.encodeJson(JSON)), is(JSON));
+        assertThat(Base32.decodeJson(Base32.encodeJson(JSON).toLowerCase(Locale.ROOT)), is(JSON));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidCharacters() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The value contains characters outside of the Base32 alphabet.");
+        Base32.decode("ABC1");
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.interfaces.Claim;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ClaimArraysTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void shouldGetPrimitiveArraysOfOtherClaimImplementations() throws Exception {
+        Claim claim = new ForwardingClaim(JWTParser.parseClaim(mapper.readTree("[1, -2, \"3\", null]")));
+
+        assertThat(Arrays.toString(ClaimArrays.asLongArray(claim)), is("[1, -2, 3, 0]"));
+        assertThat(Arrays.toString(ClaimArrays.asIntArray(claim)), is("[1, -2, 3, 0]"));
+    }
+
+    @Test
+    public void shouldGetNullPrimitiveArraysOfOtherClaimImplementations() throws Exception {
+        Claim claim = new ForwardingClaim(JWTParser.parseClaim(mapper.valueToTree(1)));
+        Claim missing = new ForwardingClaim(new NullClaim());
+
+        assertThat(ClaimArrays.asLongArray(claim), is(nullValue()));
+        assertThat(ClaimArrays.asIntArray(claim), is(nullValue()));
+        assertThat(ClaimArrays.asLongArray(missing), is(nullValue()));
+        assertThat(ClaimArrays.asIntArray(missing), is(nullValue()));
+    }
+
+    /**
+     * A Claim implementation from outside the library, which only has the methods of the interface.
+     */
+    private static class ForwardingClaim implements Claim {
+        private final Claim claim;
+
+        ForwardingClaim(Claim claim) {
+            this.claim = claim;
+        }
+
+        @Override
+        public boolean isNull() {
+            return claim.isNull();
+        }
+
+        @Override
+        public Boolean asBoolean() {
+            return claim.asBoolean();
+        }
+
+        @Override
+        public Integer asInt() {
+            return claim.asInt();
+        }
+
+        @Override
+        public Long asLong() {
+            return claim.asLong();
+        }
+
+        @Override
+        public Double asDouble() {
+            return claim.asDouble();
+        }
+
+        @Override
+        public String asString() {
+            return claim.asString();
+        }
+
+        @Override
+        public Date asDate() {
+            return claim.asDate();
+        }
+
+        @Override
+        public <T> T[] asArray(Class<T> tClazz) {
+            return claim.asArray(tClazz);
+        }
+
+        @Override
+        public <T> List<T> asList(Class<T> tClazz) {
+            return claim.asList(tClazz);
+        }
+
+        @Override
+        public Map<String, Object> asMap() {
+            return claim.asMap();
+        }
+
+        @Override
+        public <T> T as(Class<T> tClazz) {
+            return claim.as(tClazz);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.CachedClock;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.interfaces.MillisClock;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ClockAdapterTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldReadDateOfPlainClock() throws Exception {
+        MillisClock clock = ClockAdapter.of(new Clock() {
+            @Override
+            public Date getToday() {
+                return new Date(1234567L);
+            }
+        });
+        assertThat(clock.currentTimeMillis(), is(1234567L));
+        assertThat(clock.getToday(), is(new Date(1234567L)));
+    }
+
+    @Test
+    public void shouldNotAdaptMillisClock() throws Exception {
+        MillisClock clock = CachedClock.getDefault();
+        assertThat(ClockAdapter.of(clock), is(sameInstance(clock)));
+    }
+
+    @Test
+    public void shouldCheckDatesWithPlainClock() throws Exception {
+        exception.expect(TokenExpiredException.class);
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withExpiresAt(new Date(10000)).sign(algorithm);
+        JWT.require(algorithm).build(new Clock() {
+            @Override
+            public Date getToday() {
+                return new Date(11000);
+            }
+        }).decode(token);
+    }
+}
@@ -247,6 +247,50 @@ public class JsonNodeClaimTest {
         claim.asList(UserPojo.class);
     }
 
+    @Test
+    public void shouldConvertMixedArrayElements() throws Exception {
+        JsonNode value = mapper.readTree("[1, 4294967296, \"2\", null]");
+        Claim claim = claimFromNode(value);
+
+        assertThat(claim.asList(String.class), contains("1", "4294967296", "2", null));
+        assertThat(claim.asArray(Long.class), is(arrayContaining(1L, 4294967296L, 2L, null)));
+    }
+
+    @Test
+    public void shouldGetLongArrayValue() throws Exception {
+        JsonNode value = mapper.readTree("[1, -4294967296, \"3\", null]");
+        Claim claim = claimFromNode(value);
+
+        assertThat(Arrays.toString(ClaimArrays.asLongArray(claim)), is("[1, -4294967296, 3, 0]"));
+    }
+
+    @Test
+    public void shouldGetIntArrayValue() throws Exception {
+        JsonNode value = mapper.readTree("[1, -2, \"3\", null]");
+        Claim claim = claimFromNode(value);
+
+        assertThat(Arrays.toString(ClaimArrays.asIntArray(claim)), is("[1, -2, 3, 0]"));
+    }
+
+    @Test
+    public void shouldGetNullPrimitiveArraysIfNonArrayValue() throws Exception {
+        JsonNode value = mapper.valueToTree(1);
+        Claim claim = claimFromNode(value);
+
+        assertThat(ClaimArrays.asLongArray(claim), is(nullValue()));
+        assertThat(ClaimArrays.asIntArray(claim), is(nullValue()));
+    }
+
+    @Test
+    public void shouldThrowIfLongArrayElementMismatch() throws Exception {
+        JsonNode value = mapper.readTree("[1, {\"a\": 2}]");
+        Claim claim = claimFromNode(value);
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("Couldn't map the Claim's array contents to long");
+        ClaimArrays.asLongArray(claim);
+    }
+
     @Test
     public void shouldGetNullMapIfNullValue() throws Exception {
         JsonNode value = mapper.valueToTree(null);
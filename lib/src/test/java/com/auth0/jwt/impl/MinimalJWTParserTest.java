@@ -0,0 +1,225 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.Claim;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.interfaces.Payload;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MinimalJWTParserTest {
+
+    private static final String PAYLOAD = "{\"iss\":\"auth0\",\"sub\":[\"a\",\"b\"],\"aud\":\"\",\"exp\":1477592,\"nbf\":1.4775E6,"
+            + "\"iat\":99999999999999999999,\"jti\":123,\"name\":\"J\\u00f6hn \\\"Doe\\\"\\n\",\"admin\":true,\"ratio\":-0.25,"
+            + "\"big\":12345678901234,\"nothing\":null,\"roles\":[\"x\",1,false,null],"
+            + "\"extra\":{\"nested\":[1,{\"deep\":\"yes\"}],\"n\":2}}";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+    private MinimalJWTParser parser;
+    private JWTParser jacksonParser;
+
+    @Before
+    public void setUp() throws Exception {
+        parser = new MinimalJWTParser();
+        jacksonParser = new JWTParser();
+    }
+
+    @Test
+    public void shouldParsePayloadLikeJackson() throws Exception {
+        Payload payload = parser.parsePayload(PAYLOAD);
+        Payload expected = jacksonParser.parsePayload(PAYLOAD);
+
+        assertThat(payload.getIssuer(), is(expected.getIssuer()));
+        assertThat(payload.getSubject(), is(expected.getSubject()));
+        assertThat(payload.getAudience(), is(expected.getAudience()));
+        assertThat(payload.getExpiresAt(), is(expected.getExpiresAt()));
+        assertThat(payload.getNotBefore(), is(expected.getNotBefore()));
+        assertThat(payload.getIssuedAt(), is(expected.getIssuedAt()));
+        assertThat(payload.getId(), is(expected.getId()));
+        assertThat(payload.getClaims().keySet(), is(expected.getClaims().keySet()));
+        for (String name : expected.getClaims().keySet()) {
+            assertSameClaim(payload.getClaim(name), expected.getClaim(name));
+        }
+        assertSameClaim(payload.getClaim("missing"), expected.getClaim("missing"));
+    }
+
+    @Test
+    public void shouldParseHeaderLikeJackson() throws Exception {
+        String json = "{\"alg\":\"HS256\",\"typ\":\"JWT\",\"cty\":{\"a\":1},\"kid\":42,\"crit\":[\"exp\"]}";
+        Header header = parser.parseHeader(json);
+        Header expected = jacksonParser.parseHeader(json);
+
+        assertThat(header.getAlgorithm(), is(expected.getAlgorithm()));
+        assertThat(header.getType(), is(expected.getType()));
+        assertThat(header.getContentType(), is(expected.getContentType()));
+        assertThat(header.getKeyId(), is(expected.getKeyId()));
+        assertSameClaim(header.getHeaderClaim("crit"), expected.getHeaderClaim("crit"));
+    }
+
+    @Test
+    public void shouldReadNumbersAsJacksonDoes() throws Exception {
+        Map<String, Object> tree = MinimalJsonReader.readObject("{\"i\":-7,\"l\":4294967296,\"b\":-99999999999999999999,\"d\":1e2,\"z\":-0}");
+        assertThat(tree.get("i"), is((Object) (-7)));
+        assertThat(tree.get("l"), is((Object) 4294967296L));
+        assertThat(tree.get("b"), is((Object) new BigInteger("-99999999999999999999")));
+        assertThat(tree.get("d"), is((Object) 100.0));
+        assertThat(tree.get("z"), is((Object) 0));
+    }
+
+    @Test
+    public void shouldConvertClaimsWithJackson() throws Exception {
+        Payload payload = parser.parsePayload("{\"n\":5,\"obj\":{\"name\":\"x\",\"roles\":[\"a\"]},\"mixed\":[1,\"2\"]}");
+
+        assertThat(payload.getClaim("n").as(String.class), is("5"));
+        assertThat(payload.getClaim("n").as(Long.class), is(5L));
+        assertThat(payload.getClaim("mixed").asList(String.class), contains("1", "2"));
+        assertThat(payload.getClaim("mixed").asArray(Integer.class), arrayContaining(1, 2));
+        Holder holder = payload.getClaim("obj").as(Holder.class);
+        assertThat(holder.name, is("x"));
+        assertThat(holder.roles, contains("a"));
+    }
+
+    @Test
+    public void shouldGetPrimitiveArraysLikeJackson() throws Exception {
+        String json = "{\"longs\":[1,-4294967296,\"3\",null,2.5],\"ints\":[1,-2,\"3\",null]}";
+        Payload payload = parser.parsePayload(json);
+        Payload expected = jacksonParser.parsePayload(json);
+
+        assertThat(Arrays.toString(ClaimArrays.asLongArray(payload.getClaim("longs"))), is(Arrays.toString(ClaimArrays.asLongArray(expected.getClaim("longs")))));
+        assertThat(Arrays.toString(ClaimArrays.asIntArray(payload.getClaim("ints"))), is(Arrays.toString(ClaimArrays.asIntArray(expected.getClaim("ints")))));
+        assertThat(payload.getClaim("longs").asList(Long.class), is(expected.getClaim("longs").asList(Long.class)));
+        assertThat(ClaimArrays.asLongArray(payload.getClaim("ints")).length, is(4));
+    }
+
+    @Test
+    public void shouldNotShareMapsWithTheCaller() throws Exception {
+        Payload payload = parser.parsePayload("{\"obj\":{\"list\":[1]}}");
+        Map<String, Object> map = payload.getClaim("obj").asMap();
+        ((List<?>) map.get("list")).clear();
+        map.clear();
+
+        assertThat(payload.getClaim("obj").asMap().get("list"), is((Object) Collections.singletonList(1)));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidClaimConversion() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("Couldn't map the Claim value to Integer");
+        parser.parsePayload("{\"obj\":{\"a\":1}}").getClaim("obj").as(Integer.class);
+    }
+
+    @Test
+    public void shouldThrowOnArrayAudienceWithObjects() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("Couldn't map the Claim's array contents to String");
+        parser.parsePayload("{\"aud\":[{\"a\":1}]}");
+    }
+
+    @Test
+    public void shouldThrowOnInvalidJson() throws Exception {
+        for (String json : Arrays.asList("", "{", "{{", "[]", "null", "{\"a\":01}", "{\"a\":1,}", "{\"a\":\"\\x\"}",
+                "{\"a\":\"\t\"}", "{\"a\":tru}", "{} {}", "{\"a\":-}", "{\"a\":1.}", "{'a':1}")) {
+            try {
+                parser.parsePayload(json);
+                throw new AssertionError("Expected an exception for " + json);
+            } catch (JWTDecodeException e) {
+                assertThat(e.getMessage(), is(String.format("The string '%s' doesn't have a valid JSON format.", json)));
+            }
+        }
+    }
+
+    @Test
+    public void shouldThrowOnDeeplyNestedJson() throws Exception {
+        StringBuilder json = new StringBuilder("{\"a\":");
+        for (int i = 0; i < MinimalJsonReader.MAX_DEPTH; i++) {
+            json.append('[');
+        }
+        exception.expect(JWTDecodeException.class);
+        parser.parseHeader(json.toString());
+    }
+
+    @Test
+    public void shouldThrowOnNullJson() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string 'null' doesn't have a valid JSON format.");
+        parser.parseHeader(null);
+    }
+
+    @Test
+    public void shouldVerifyWithMinimalParser() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withIssuer("auth0").withArrayClaim("roles", new String[]{"admin", "user"})
+                .withExpiresAt(new Date(System.currentTimeMillis() + 60000)).sign(algorithm);
+        JWT verifier = JWT.require(algorithm).withIssuer("auth0").withArrayClaim("roles", "user")
+                .withPartsParser(new MinimalJWTParser()).build();
+
+        DecodedJWT jwt = verifier.decode(token);
+        assertThat(jwt.getIssuer(), contains("auth0"));
+        assertThat(jwt.getClaim("roles").asList(String.class), contains("admin", "user"));
+    }
+
+    @Test
+    public void shouldRejectWithMinimalParser() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withIssuer("auth0").withArrayClaim("roles", new String[]{"user"}).sign(algorithm);
+        JWT verifier = JWT.require(algorithm).withArrayClaim("roles", "admin")
+                .withPartsParser(new MinimalJWTParser()).build();
+
+        exception.expect(InvalidClaimException.class);
+        verifier.decode(token);
+    }
+
+    private static void assertSameClaim(Claim claim, Claim expected) {
+        assertThat(claim.isNull(), is(expected.isNull()));
+        assertThat(claim.asBoolean(), is(expected.asBoolean()));
+        assertThat(claim.asInt(), is(expected.asInt()));
+        assertThat(claim.asLong(), is(expected.asLong()));
+        assertThat(claim.asDouble(), is(expected.asDouble()));
+        assertThat(claim.asString(), is(expected.asString()));
+        assertThat(claim.asDate(), is(expected.asDate()));
+        assertThat(claim.asMap(), is(expected.asMap()));
+        if (!expected.isNull()) {
+            assertThat(claim.as(Object.class), is(expected.as(Object.class)));
+        }
+    }
+
+    public static class Holder {
+        public String name;
+        public List<String> roles;
+    }
+}
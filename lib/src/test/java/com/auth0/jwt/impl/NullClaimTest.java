@@ -79,6 +79,16 @@ public class NullClaimTest {
         assertThat(claim.asList(Object.class), is(nullValue()));
     }
 
+    @Test
+    public void shouldGetAsLongArray() throws Exception {
+        assertThat(ClaimArrays.asLongArray(claim), is(nullValue()));
+    }
+
+    @Test
+    public void shouldGetAsIntArray() throws Exception {
+        assertThat(ClaimArrays.asIntArray(claim), is(nullValue()));
+    }
+
     @Test
     public void shouldGetAsMap() throws Exception {
         assertThat(claim.asMap(), is(nullValue()));
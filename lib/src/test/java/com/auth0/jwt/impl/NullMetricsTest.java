@@ -0,0 +1,69 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.VerificationResult;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class NullMetricsTest {
+
+    @Test
+    public void shouldIgnoreEveryRecord() throws Exception {
+        JWTMetrics metrics = new NullMetrics();
+        metrics.recordPhase(JWTMetrics.Phase.SPLIT, "HS256", "key-1", 1);
+        metrics.recordPhase(JWTMetrics.Phase.SIGN, null, null, 0);
+        metrics.recordVerification("HS256", "key-1", 100, VerificationResult.Reason.VALID, 1);
+        metrics.recordVerification(null, null, 0, VerificationResult.Reason.MALFORMED, 0);
+        metrics.recordCreation("HS256", "key-1", 100, true, 1);
+        metrics.recordCreation(null, null, 0, false, 0);
+    }
+
+    @Test
+    public void shouldIgnoreEverything() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWTMetrics nullMetrics = new NullMetrics();
+        String token = JWT.create().withMetrics(nullMetrics).sign(algorithm);
+        assertThat(JWT.require(algorithm).withMetrics(nullMetrics).build().verify(token).isValid(), is(true));
+    }
+
+    @Test
+    public void shouldOnlyReceiveOverriddenRecords() throws Exception {
+        final List<VerificationResult.Reason> outcomes = new ArrayList<>();
+        JWTMetrics metrics = new NullMetrics() {
+            @Override
+            public void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos) {
+                outcomes.add(reason);
+            }
+        };
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withMetrics(metrics).sign(algorithm);
+        JWT.require(algorithm).withMetrics(metrics).build().verify(token);
+
+        assertThat(outcomes, contains(VerificationResult.Reason.VALID));
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.UserPojo;
+import com.auth0.jwt.interfaces.Payload;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ObjectReadersTest {
+
+    @Test
+    public void shouldReuseReaderPerClass() throws Exception {
+        ObjectReader reader = ObjectReaders.forClass(UserPojo.class);
+
+        assertThat(ObjectReaders.forClass(UserPojo.class), is(sameInstance(reader)));
+        assertThat(ObjectReaders.forClass(String.class), is(not(sameInstance(reader))));
+    }
+
+    @Test
+    public void shouldBindWithReader() throws Exception {
+        UserPojo pojo = ObjectReaders.forClass(UserPojo.class).readValue("{\"name\":\"john\",\"id\":123}");
+
+        assertThat(pojo, is(new UserPojo("john", 123)));
+    }
+
+    @Test
+    public void shouldBindParsedPayload() throws Exception {
+        Payload payload = new JWTParser().parsePayload("{\"name\":\"john\",\"id\":123}");
+
+        assertThat(ObjectReaders.readPayload(payload, UserPojo.class), is(new UserPojo("john", 123)));
+    }
+
+    @Test
+    public void shouldNotBindPayloadWithoutEveryValue() throws Exception {
+        Payload payload = new MinimalJWTParser().parsePayload("{\"name\":\"john\",\"id\":123}");
+
+        assertThat(ObjectReaders.readPayload(payload, UserPojo.class), is(nullValue()));
+        assertThat(ObjectReaders.readPayload(null, UserPojo.class), is(nullValue()));
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Payload;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Date;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ProjectingJWTParserTest {
+
+    private static final String PAYLOAD = "{\"iss\":\"auth0\",\"groups\":[\"a\",[\"b\",{\"c\":null}]],\"name\":\"John\","
+            + "\"permissions\":{\"read\":true},\"exp\":1477592,\"jti\":\"id\",\"empty\":null}";
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldAlwaysProjectRegisteredClaims() throws Exception {
+        ProjectingJWTParser parser = new ProjectingJWTParser("name");
+
+        assertThat(parser.getClaims(), containsInAnyOrder("name", "iss", "sub", "aud", "exp", "nbf", "iat", "jti"));
+    }
+
+    @Test
+    public void shouldThrowOnNullClaimName() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The Claim's name can't be null.");
+        new ProjectingJWTParser("name", null);
+    }
+
+    @Test
+    public void shouldParseProjectedClaims() throws Exception {
+        Payload payload = new ProjectingJWTParser("name", "empty").parsePayload(PAYLOAD);
+
+        assertThat(payload.getIssuer(), contains("auth0"));
+        assertThat(payload.getExpiresAt(), is(new Date(1477592000L)));
+        assertThat(payload.getId(), is("id"));
+        assertThat(payload.getClaim("name").asString(), is("John"));
+        assertThat(payload.getClaim("empty").isNull(), is(true));
+    }
+
+    @Test
+    public void shouldParseSkippedClaimsOnDemand() throws Exception {
+        Payload payload = new ProjectingJWTParser("name").parsePayload(PAYLOAD);
+
+        assertThat(payload.getClaim("permissions").asMap().get("read"), is((Object) true));
+        assertThat(payload.getClaim("groups").asArray(Object.class).length, is(2));
+        assertThat(payload.getClaim("missing").isNull(), is(true));
+        assertThat(payload.getClaims().keySet(), containsInAnyOrder("iss", "groups", "name", "permissions", "exp", "jti", "empty"));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidJsonInSkippedClaims() throws Exception {
+        String json = "{\"name\":\"John\",\"groups\":[\"a\",}";
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage(String.format("The string '%s' doesn't have a valid JSON format.", json));
+        new ProjectingJWTParser("name").parsePayload(json);
+    }
+
+    @Test
+    public void shouldThrowOnNonObjectJson() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The string '[]' doesn't have a valid JSON format.");
+        new ProjectingJWTParser("name").parsePayload("[]");
+    }
+
+    @Test
+    public void shouldParseHeader() throws Exception {
+        assertThat(new ProjectingJWTParser().parseHeader("{\"alg\":\"HS256\",\"kid\":\"k\"}").getKeyId(), is("k"));
+    }
+
+    @Test
+    public void shouldVerifyRequiredClaimsWithProjection() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withNonStandardClaim("role", "admin").withNonStandardClaim("name", "John")
+                .withArrayClaim("groups", new String[]{"a", "b"}).sign(algorithm);
+        JWT verifier = JWT.require(algorithm).withNonStandardClaim("role", "admin").withProjectedClaims("name").build();
+
+        DecodedJWT jwt = verifier.decode(token);
+        assertThat(jwt.getClaim("name").asString(), is("John"));
+        assertThat(jwt.getClaim("groups").asList(String.class), contains("a", "b"));
+    }
+
+    @Test
+    public void shouldRejectRequiredClaimsWithProjection() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withNonStandardClaim("role", "user").sign(algorithm);
+        JWT verifier = JWT.require(algorithm).withNonStandardClaim("role", "admin").withProjectedClaims().build();
+
+        exception.expect(InvalidClaimException.class);
+        verifier.decode(token);
+    }
+}
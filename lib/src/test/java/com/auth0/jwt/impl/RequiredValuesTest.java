@@ -0,0 +1,114 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.impl;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.jwts.JWT;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.auth0.jwt.impl.JsonNodeClaim.claimFromNode;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class RequiredValuesTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void shouldMatchSameValuesInAnyOrder() throws Exception {
+        RequiredValues values = RequiredValues.of(asList("a", "b", "c"));
+        assertThat(values.matches(asList("c", "a", "b")), is(true));
+        assertThat(values.matches(asList("a", "b")), is(false));
+        assertThat(values.matches(asList("a", "b", "c", "d")), is(false));
+        assertThat(values.matches(asList("a", "a", "b")), is(false));
+        assertThat(values.matches(null), is(false));
+    }
+
+    @Test
+    public void shouldMatchManyValues() throws Exception {
+        List<String> required = new ArrayList<>();
+        List<String> reversed = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            required.add("audience-" + i);
+            reversed.add(0, "audience-" + i);
+        }
+        RequiredValues values = RequiredValues.of(required);
+        assertThat(values.matches(reversed), is(true));
+        reversed.set(250, "other");
+        assertThat(values.matches(reversed), is(false));
+    }
+
+    @Test
+    public void shouldBeContainedInJsonArray() throws Exception {
+        RequiredValues strings = RequiredValues.of(new Object[]{"b", "a"});
+        assertThat(strings.isContainedIn(claimFromNode(mapper.readTree("[\"a\",\"b\",\"c\"]"))), is(true));
+        assertThat(strings.isContainedIn(claimFromNode(mapper.readTree("[\"a\",\"c\"]"))), is(false));
+
+        RequiredValues integers = RequiredValues.of(new Object[]{1, 2});
+        assertThat(integers.isContainedIn(claimFromNode(mapper.readTree("[3,2,1]"))), is(true));
+        assertThat(integers.isContainedIn(claimFromNode(mapper.readTree("[\"1\",\"2\"]"))), is(false));
+        assertThat(integers.isContainedIn(claimFromNode(mapper.readTree("[1.0,2]"))), is(false));
+    }
+
+    @Test
+    public void shouldNotBeContainedInOtherClaims() throws Exception {
+        RequiredValues values = RequiredValues.of(new Object[]{"a"});
+        assertThat(values.isContainedIn(claimFromNode(mapper.readTree("\"a\""))), is(false));
+        assertThat(values.isContainedIn(claimFromNode(null)), is(false));
+    }
+
+    @Test
+    public void shouldVerifyArrayClaim() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withArrayClaim("groups", new String[]{"admin", "users", "staff"})
+                .withAudience("api", "web")
+                .sign(algorithm);
+        JWT.require(algorithm)
+                .withArrayClaim("groups", "staff", "admin")
+                .withAudience("web", "api")
+                .build()
+                .decode(token);
+    }
+
+    @Test
+    public void shouldRejectMissingArrayItem() throws Exception {
+        exception.expect(InvalidClaimException.class);
+        exception.expectMessage("The Claim 'groups' value doesn't match the required one.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withArrayClaim("groups", new String[]{"users"})
+                .sign(algorithm);
+        JWT.require(algorithm)
+                .withArrayClaim("groups", "admin")
+                .build()
+                .decode(token);
+    }
+}
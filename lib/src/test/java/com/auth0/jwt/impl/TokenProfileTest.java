@@ -0,0 +1,87 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+
+package com.auth0.jwt.impl;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class TokenProfileTest {
+
+    @Test
+    public void shouldCreateAddedClaimsWithEveryRequiredLabelUnset() throws Exception {
+        HashMap<String, Boolean> addedClaims = TokenProfile.SCOPED.newAddedClaims();
+        assertThat(addedClaims.size(), is(4));
+        assertThat(addedClaims, hasEntry("Scope", false));
+        assertThat(addedClaims, hasEntry("Issuer", false));
+        assertThat(addedClaims, hasEntry("Subject", false));
+        assertThat(addedClaims, hasEntry("Iat", false));
+    }
+
+    @Test
+    public void shouldCreateNewAddedClaimsEveryTime() throws Exception {
+        HashMap<String, Boolean> addedClaims = TokenProfile.FB.newAddedClaims();
+        addedClaims.put("UserId", true);
+        assertThat(TokenProfile.FB.newAddedClaims(), hasEntry("UserId", false));
+    }
+
+    @Test
+    public void shouldCreatePublicClaimsOfTheProfile() throws Exception {
+        assertThat(TokenProfile.FB.newPublicClaims(), containsInAnyOrder(PublicClaims.ISSUED_AT, PublicClaims.EXPIRES_AT));
+        assertThat(TokenProfile.IMPLICIT.newPublicClaims(), containsInAnyOrder(PublicClaims.ISSUER, PublicClaims.SUBJECT,
+                PublicClaims.ISSUED_AT, PublicClaims.AUDIENCE));
+    }
+
+    @Test
+    public void shouldCreateNewPublicClaimsEveryTime() throws Exception {
+        Set<String> publicClaims = TokenProfile.ACCESS.newPublicClaims();
+        publicClaims.remove(PublicClaims.AUDIENCE);
+        assertThat(TokenProfile.ACCESS.getPublicClaims().contains(PublicClaims.AUDIENCE), is(true));
+        assertThat(TokenProfile.ACCESS.newPublicClaims(), is(TokenProfile.ACCESS.getPublicClaims()));
+        assertThat(publicClaims, is(not(TokenProfile.ACCESS.getPublicClaims())));
+    }
+
+    @Test
+    public void shouldGetLabelOfRequiredClaims() throws Exception {
+        assertThat(TokenProfile.ACCESS.getLabel(PublicClaims.ISSUER), is("Issuer"));
+        assertThat(TokenProfile.RISC.getLabel(PublicClaims.JWT_ID), is("Jti"));
+        assertThat(TokenProfile.FB.getLabel(PublicClaims.ISSUED_AT), is("Iat"));
+    }
+
+    @Test
+    public void shouldGetNameAsLabelOfOtherClaims() throws Exception {
+        assertThat(TokenProfile.ACCESS.getLabel(PublicClaims.AUDIENCE), is(PublicClaims.AUDIENCE));
+        assertThat(TokenProfile.FB.getLabel(PublicClaims.ISSUER), is(PublicClaims.ISSUER));
+    }
+
+    @Test
+    public void shouldListRequiredClaimNames() throws Exception {
+        assertThat(TokenProfile.FB.getRequiredClaimNames(), contains(PublicClaims.APP_ID, PublicClaims.USER_ID, PublicClaims.ISSUED_AT));
+        assertThat(TokenProfile.SCOPED.getRequiredClaimNames(), contains(PublicClaims.SCOPE, PublicClaims.ISSUER, PublicClaims.ISSUED_AT, PublicClaims.SUBJECT));
+    }
+}
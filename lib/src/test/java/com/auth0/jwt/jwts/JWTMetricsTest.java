@@ -0,0 +1,209 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jwts;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTMetrics;
+import com.auth0.jwt.verification.VerificationResult;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static com.auth0.jwt.PemUtils.readPrivateKeyFromFile;
+import static com.auth0.jwt.PemUtils.readPublicKeyFromFile;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JWTMetricsTest {
+
+    private static final String PRIVATE_KEY_FILE = "src/test/resources/rsa-private.pem";
+    private static final String PUBLIC_KEY_FILE = "src/test/resources/rsa-public.pem";
+
+    private Algorithm algorithm;
+    private RecordingMetrics metrics;
+
+    @Before
+    public void setUp() throws Exception {
+        algorithm = Algorithm.HMAC256("secret");
+        metrics = new RecordingMetrics();
+    }
+
+    @Test
+    public void shouldRecordEveryPhaseOfValidToken() throws Exception {
+        String token = JWT.create().withKeyId("key-1").sign(algorithm);
+        DecodedJWT jwt = JWT.require(algorithm).withMetrics(metrics).build().decode(token);
+
+        assertThat(jwt.getKeyId(), is("key-1"));
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.SPLIT, JWTMetrics.Phase.BASE64, JWTMetrics.Phase.PARSE,
+                JWTMetrics.Phase.CRYPTO, JWTMetrics.Phase.CLAIMS));
+        assertThat(metrics.tags, hasSize(6));
+        for (String tag : metrics.tags) {
+            assertThat(tag, is("HS256/key-1"));
+        }
+        assertThat(metrics.sizes, contains(token.length()));
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.VALID));
+        for (long nanos : metrics.nanos) {
+            assertThat(nanos >= 0, is(true));
+        }
+    }
+
+    @Test
+    public void shouldRecordDeferredPayloadParsingAfterSignature() throws Exception {
+        String token = JWT.create().sign(algorithm);
+        JWT.require(algorithm).withDeferredPayloadParsing().withMetrics(metrics).build().decode(token);
+
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.SPLIT, JWTMetrics.Phase.BASE64, JWTMetrics.Phase.PARSE,
+                JWTMetrics.Phase.CRYPTO, JWTMetrics.Phase.BASE64, JWTMetrics.Phase.PARSE, JWTMetrics.Phase.CLAIMS));
+    }
+
+    @Test
+    public void shouldRecordFailureReasonAndThrowSameException() throws Exception {
+        String token = JWT.create().withExpiresAt(new Date(System.currentTimeMillis() - 60000)).sign(algorithm);
+        try {
+            JWT.require(algorithm).withMetrics(metrics).build().decode(token);
+        } catch (TokenExpiredException e) {
+            assertThat(e.getMessage(), startsWith("The Token has expired on"));
+        }
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.EXPIRED));
+    }
+
+    @Test
+    public void shouldRecordAlgorithmMismatchWithoutSignaturePhase() throws Exception {
+        String token = JWT.create().sign(Algorithm.HMAC512("secret"));
+        VerificationResult result = JWT.require(algorithm).withMetrics(metrics).build().verify(token);
+
+        assertThat(result.toException(), is(instanceOf(AlgorithmMismatchException.class)));
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.SPLIT, JWTMetrics.Phase.BASE64, JWTMetrics.Phase.PARSE));
+        assertThat(metrics.tags, contains("HS512/null", "HS512/null", "HS512/null", "HS512/null"));
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.ALGORITHM_MISMATCH));
+    }
+
+    @Test
+    public void shouldRecordMalformedTokenWithoutTags() throws Exception {
+        try {
+            JWT.require(algorithm).withMetrics(metrics).build().decode("two.parts");
+        } catch (JWTDecodeException e) {
+            assertThat(e.getMessage(), is("The token was expected to have 3 parts, but got 2."));
+        }
+        assertThat(metrics.phases, is(empty()));
+        assertThat(metrics.tags, contains("null/null"));
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.MALFORMED));
+    }
+
+    @Test
+    public void shouldRecordCreation() throws Exception {
+        String token = JWT.create().withKeyId("key-1").withMetrics(metrics).sign(algorithm);
+
+        assertThat(token, is(notNullValue()));
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.SERIALIZE, JWTMetrics.Phase.CRYPTO, JWTMetrics.Phase.SIGN));
+        assertThat(metrics.tags, contains("HS256/key-1", "HS256/key-1", "HS256/key-1", "HS256/key-1"));
+        assertThat(metrics.sizes, contains(token.length()));
+        assertThat(metrics.outcomes, contains((Object) true));
+    }
+
+    @Test
+    public void shouldRecordKeyLookupOfKeyProvider() throws Exception {
+        Algorithm rsa = Algorithm.RSA256((RSAPublicKey) readPublicKeyFromFile(PUBLIC_KEY_FILE, "RSA"),
+                (RSAPrivateKey) readPrivateKeyFromFile(PRIVATE_KEY_FILE, "RSA"));
+        String token = JWT.create().withKeyId("key-1").withMetrics(metrics).sign(rsa);
+
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.SERIALIZE, JWTMetrics.Phase.KEY_LOOKUP, JWTMetrics.Phase.CRYPTO,
+                JWTMetrics.Phase.SIGN));
+        for (String tag : metrics.tags) {
+            assertThat(tag, is("RS256/key-1"));
+        }
+
+        RecordingMetrics verifyMetrics = new RecordingMetrics();
+        JWT.require(rsa).withMetrics(verifyMetrics).build().decode(token);
+
+        assertThat(verifyMetrics.phases, contains(JWTMetrics.Phase.SPLIT, JWTMetrics.Phase.BASE64, JWTMetrics.Phase.PARSE,
+                JWTMetrics.Phase.KEY_LOOKUP, JWTMetrics.Phase.CRYPTO, JWTMetrics.Phase.CLAIMS));
+        for (String tag : verifyMetrics.tags) {
+            assertThat(tag, is("RS256/key-1"));
+        }
+        assertThat(verifyMetrics.outcomes, contains((Object) VerificationResult.Reason.VALID));
+    }
+
+    @Test
+    public void shouldRecordJsonSerialization() throws Exception {
+        String json = JWT.create().withKeyId("key-1").sign(algorithm, EncodeType.JsonEncode);
+        DecodedJWT jwt = JWT.require(algorithm).withMetrics(metrics).build().decodeJson(json);
+
+        assertThat(jwt.getKeyId(), is("key-1"));
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.PARSE, JWTMetrics.Phase.PARSE, JWTMetrics.Phase.CRYPTO,
+                JWTMetrics.Phase.CLAIMS));
+        assertThat(metrics.tags, contains("null/null", "HS256/key-1", "HS256/key-1", "HS256/key-1", "HS256/key-1"));
+        assertThat(metrics.sizes, contains(json.length()));
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.VALID));
+    }
+
+    @Test
+    public void shouldRecordJsonSerializationFailure() throws Exception {
+        String json = JWT.create().sign(Algorithm.HMAC256("other"), EncodeType.JsonEncode);
+        try {
+            JWT.require(algorithm).withMetrics(metrics).build().decodeJson(json);
+        } catch (SignatureVerificationException e) {
+            assertThat(e.getMessage(), startsWith("The Token's Signature resulted invalid"));
+        }
+        assertThat(metrics.phases, contains(JWTMetrics.Phase.PARSE, JWTMetrics.Phase.PARSE, JWTMetrics.Phase.CRYPTO));
+        assertThat(metrics.outcomes, contains((Object) VerificationResult.Reason.INVALID_SIGNATURE));
+    }
+
+    private static class RecordingMetrics implements JWTMetrics {
+        final List<Phase> phases = new ArrayList<>();
+        final List<String> tags = new ArrayList<>();
+        final List<Object> outcomes = new ArrayList<>();
+        final List<Long> nanos = new ArrayList<>();
+        final List<Integer> sizes = new ArrayList<>();
+
+        @Override
+        public void recordPhase(Phase phase, String algorithm, String keyId, long nanos) {
+            phases.add(phase);
+            tags.add(algorithm + "/" + keyId);
+            this.nanos.add(nanos);
+        }
+
+        @Override
+        public void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos) {
+            tags.add(algorithm + "/" + keyId);
+            sizes.add(tokenSize);
+            outcomes.add(reason);
+            this.nanos.add(nanos);
+        }
+
+        @Override
+        public void recordCreation(String algorithm, String keyId, int tokenSize, boolean success, long nanos) {
+            tags.add(algorithm + "/" + keyId);
+            sizes.add(tokenSize);
+            outcomes.add(success);
+            this.nanos.add(nanos);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF anyAlgorithm KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR anyAlgorithm CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.jwts;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.impl.JWTParser;
+import com.auth0.jwt.impl.NullMetrics;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.Header;
+import com.auth0.jwt.interfaces.JWTPartsParser;
+import com.auth0.jwt.interfaces.Payload;
+import com.auth0.jwt.verification.TokenLimits;
+import com.auth0.jwt.verification.VerificationResult;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class VerifierRegistryTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private Algorithm firstAlgorithm;
+    private Algorithm secondAlgorithm;
+    private Algorithm anyAlgorithm;
+    private JWT firstVerifier;
+    private JWT secondVerifier;
+    private JWT anyVerifier;
+    private VerifierRegistry registry;
+
+    @Before
+    public void setUp() throws Exception {
+        firstAlgorithm = Algorithm.HMAC256("first");
+        secondAlgorithm = Algorithm.HMAC256("second");
+        anyAlgorithm = Algorithm.HMAC512("any");
+        firstVerifier = JWT.require(firstAlgorithm).withIssuer("first").build();
+        secondVerifier = JWT.require(secondAlgorithm).build();
+        anyVerifier = JWT.require(anyAlgorithm).build();
+        registry = VerifierRegistry.init()
+                .register(firstVerifier, "key-1", "first")
+                .register(secondVerifier, "key-2")
+                .register(anyVerifier, null)
+                .build();
+    }
+
+    @Test
+    public void shouldRouteByKeyIdAndIssuer() throws Exception {
+        String token = JWT.create().withKeyId("key-1").withIssuer("first").sign(firstAlgorithm);
+        DecodedJWT jwt = registry.decode(token);
+        assertThat(jwt.getIssuer().get(0), is("first"));
+    }
+
+    @Test
+    public void shouldRouteByKeyIdFromAnyIssuer() throws Exception {
+        String token = JWT.create().withKeyId("key-2").withIssuer("other").sign(secondAlgorithm);
+        DecodedJWT jwt = registry.decode(token);
+        assertThat(jwt.getKeyId(), is("key-2"));
+    }
+
+    @Test
+    public void shouldRouteByAlgorithmOnly() throws Exception {
+        String token = JWT.create().withKeyId("unknown").withIssuer("other").sign(anyAlgorithm);
+        assertThat(registry.decode(token).getAlgorithm(), is("HS512"));
+        assertThat(registry.decode(JWT.create().sign(anyAlgorithm)).getAlgorithm(), is("HS512"));
+    }
+
+    @Test
+    public void shouldFindMostSpecificVerifier() throws Exception {
+        assertThat(registry.getVerifier("HS256", "key-1", "first"), is(sameInstance(firstVerifier)));
+        assertThat(registry.getVerifier("HS256", "key-2", "first"), is(sameInstance(secondVerifier)));
+        assertThat(registry.getVerifier("HS512", "key-1", "first"), is(sameInstance(anyVerifier)));
+        assertThat(registry.getVerifier("HS256", "key-1", "other"), is(nullValue()));
+        assertThat(registry.getVerifier("HS384", null, null), is(nullValue()));
+    }
+
+    @Test
+    public void shouldThrowWhenNoVerifierIsRegistered() throws Exception {
+        exception.expect(JWTVerificationException.class);
+        exception.expectMessage("There is no verifier registered for the algorithm 'HS256', Key Id 'key-3' and Issuer 'first'.");
+        registry.decode(JWT.create().withKeyId("key-3").withIssuer("first").sign(firstAlgorithm));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidSignature() throws Exception {
+        exception.expect(SignatureVerificationException.class);
+        registry.decode(JWT.create().withKeyId("key-1").withIssuer("first").sign(secondAlgorithm));
+    }
+
+    @Test
+    public void shouldApplyVerifierClaims() throws Exception {
+        exception.expect(InvalidClaimException.class);
+        JWT verifier = JWT.require(firstAlgorithm).withIssuer("expected").build();
+        VerifierRegistry.init()
+                .register(verifier, null)
+                .build()
+                .decode(JWT.create().withIssuer("other").sign(firstAlgorithm));
+    }
+
+    @Test
+    public void shouldApplyRoutedVerifierLimits() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum size of 64 bytes.");
+        JWT verifier = JWT.require(firstAlgorithm)
+                .withTokenLimits(TokenLimits.init().withMaxPayloadSize(64).build())
+                .build();
+        char[] value = new char[1024];
+        Arrays.fill(value, 'a');
+        VerifierRegistry.init()
+                .register(verifier, "key-1")
+                .build()
+                .decode(JWT.create().withKeyId("key-1").withNonStandardClaim("data", new String(value)).sign(firstAlgorithm));
+    }
+
+    @Test
+    public void shouldReportToRoutedVerifierMetrics() throws Exception {
+        final List<VerificationResult.Reason> outcomes = new ArrayList<>();
+        JWT verifier = JWT.require(firstAlgorithm)
+                .withMetrics(new NullMetrics() {
+                    @Override
+                    public void recordVerification(String algorithm, String keyId, int tokenSize, VerificationResult.Reason reason, long nanos) {
+                        outcomes.add(reason);
+                    }
+                })
+                .build();
+        VerifierRegistry.init()
+                .register(verifier, "key-1", "first")
+                .build()
+                .decode(JWT.create().withKeyId("key-1").withIssuer("first").sign(firstAlgorithm));
+        assertThat(outcomes, contains(VerificationResult.Reason.VALID));
+    }
+
+    @Test
+    public void shouldParseRoutedTokenOnceWithVerifierParser() throws Exception {
+        final List<String> parsed = new ArrayList<>();
+        final JWTParser delegate = new JWTParser();
+        JWT verifier = JWT.require(firstAlgorithm)
+                .withPartsParser(new JWTPartsParser() {
+                    @Override
+                    public Payload parsePayload(String json) throws JWTDecodeException {
+                        parsed.add("payload");
+                        return delegate.parsePayload(json);
+                    }
+
+                    @Override
+                    public Header parseHeader(String json) throws JWTDecodeException {
+                        parsed.add("header");
+                        return delegate.parseHeader(json);
+                    }
+                })
+                .build();
+        DecodedJWT jwt = VerifierRegistry.init()
+                .register(verifier, "key-1", "first")
+                .build()
+                .decode(JWT.create().withKeyId("key-1").withIssuer("first").sign(firstAlgorithm));
+        assertThat(jwt.getIssuer(), contains("first"));
+        assertThat(parsed, contains("header", "payload"));
+    }
+
+    @Test
+    public void shouldRouteByIssuerArray() throws Exception {
+        String token = JWT.create().withArrayClaim("iss", new String[]{"first", "other"}).sign(secondAlgorithm);
+        DecodedJWT jwt = VerifierRegistry.init()
+                .register(firstVerifier, null, "other")
+                .register(secondVerifier, null, "first")
+                .build()
+                .decode(token);
+        assertThat(jwt.getIssuer(), contains("first", "other"));
+    }
+
+    @Test
+    public void shouldThrowOnDuplicatedRoute() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("A verifier is already registered for the algorithm 'HS256', Key Id 'key-1' and Issuer 'null'.");
+        VerifierRegistry.init()
+                .register(firstVerifier, "key-1")
+                .register(secondVerifier, "key-1");
+    }
+
+    @Test
+    public void shouldThrowWhenVerifierIsNull() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The verifier cannot be null.");
+        VerifierRegistry.init().register(null, null);
+    }
+}
@@ -0,0 +1,179 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.RiscJwtCreator;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.interfaces.Clock;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.jwts.RiscJWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ReplayCacheTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void shouldRejectDuplicatedId() throws Exception {
+        ReplayCache cache = new ReplayCache(1000, 60, 100);
+        assertThat(cache.add("id", 5000, 0), is(true));
+        assertThat(cache.add("id", 5000, 1000), is(false));
+        assertThat(cache.add("other", 5000, 1000), is(true));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void shouldDropExpiredBuckets() throws Exception {
+        ReplayCache cache = new ReplayCache(1000, 10, 100);
+        assertThat(cache.add("id", 1500, 0), is(true));
+        assertThat(cache.add("id", 11500, 10000), is(true));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldMakeRoomWhenFull() throws Exception {
+        ReplayCache cache = new ReplayCache(1000, 10, 1);
+        assertThat(cache.add("id", 1500, 0), is(true));
+        assertThat(cache.add("other", 5500, 2000), is(true));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldThrowWhenFull() throws Exception {
+        thrown.expect(IllegalStateException.class);
+        thrown.expectMessage("The replay cache is full.");
+        ReplayCache cache = new ReplayCache(1000, 10, 1);
+        cache.add("id", 1500, 0);
+        cache.add("other", 1500, 0);
+    }
+
+    @Test
+    public void shouldThrowBeyondHorizon() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The Token must be kept longer than the cache horizon.");
+        ReplayCache cache = new ReplayCache(1000, 10, 100);
+        assertThat(cache.getHorizon(), is(10000L));
+        cache.add("id", 10000, 0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidSize() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        new ReplayCache(1000, 0, 100);
+    }
+
+    @Test
+    public void shouldRecordEachIdOnceAcrossThreads() throws Exception {
+        final ReplayCache cache = new ReplayCache(1000, 60, 100000);
+        final AtomicInteger recorded = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(4);
+        for (int t = 0; t < 4; t++) {
+            new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < 10000; i++) {
+                        if (cache.add("id-" + i, 30000, 0)) {
+                            recorded.incrementAndGet();
+                        }
+                    }
+                    done.countDown();
+                }
+            }).start();
+        }
+        done.await();
+        assertThat(recorded.get(), is(10000));
+        assertThat(cache.size(), is(10000));
+    }
+
+    @Test
+    public void shouldRejectReplayedRiscToken() throws Exception {
+        thrown.expect(InvalidClaimException.class);
+        thrown.expectMessage("The Token with JWT Id 'jti' has already been used.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        Date exp = new Date(System.currentTimeMillis() + 60000);
+        String token = RiscJwtCreator.build()
+                .withJWTId("jti")
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withAudience("audience")
+                .withIat(new Date())
+                .withExp(exp)
+                .sign(algorithm);
+        JWT verifier = RiscJWT.require(algorithm)
+                .createVerifierForRisc("jti", asList("issuer"), asList("audience"), 1, 1, 1)
+                .withReplayCache(new ReplayCache(1000, 300, 1000))
+                .build();
+
+        DecodedJWT jwt = verifier.decode(token);
+        assertThat(jwt.getId(), is("jti"));
+        verifier.decode(token);
+    }
+
+    @Test
+    public void shouldRejectReplayWithinLastSecondAcrossBucketBoundary() throws Exception {
+        thrown.expect(InvalidClaimException.class);
+        thrown.expectMessage("The Token with JWT Id 'jti' has already been used.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withJWTId("jti")
+                .withExpiresAt(new Date(10000))
+                .sign(algorithm);
+        final long[] now = {9950};
+        JWT verifier = JWT.require(algorithm)
+                .withReplayCache(new ReplayCache(300, 100, 100))
+                .build(new Clock() {
+                    @Override
+                    public Date getToday() {
+                        return new Date(now[0]);
+                    }
+                });
+
+        verifier.decode(token);
+        // Still acceptable as the date checks truncate to seconds, but past the bucket holding the Expires At date
+        now[0] = 10500;
+        verifier.decode(token);
+    }
+
+    @Test
+    public void shouldRejectTokenWithoutExpiresAt() throws Exception {
+        thrown.expect(InvalidClaimException.class);
+        thrown.expectMessage("The Token must have an Expires At date to be checked for replay.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withJWTId("jti")
+                .sign(algorithm);
+        JWT.require(algorithm)
+                .withReplayCache(new ReplayCache(1000, 300, 1000))
+                .build()
+                .decode(token);
+    }
+}
@@ -0,0 +1,170 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.TokenRevokedException;
+import com.auth0.jwt.jwts.JWT;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RevocationListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private File file;
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("revocations", ".bin");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        assertTrue(file.delete());
+    }
+
+    @Test
+    public void shouldFindRevokedValues() throws Exception {
+        RevocationList.write(file, asList("jti-1", "jti-2"), asList("subject"), 0.01);
+        RevocationList list = RevocationList.open(file);
+
+        assertThat(list.isJWTIdRevoked("jti-1"), is(true));
+        assertThat(list.isJWTIdRevoked("jti-2"), is(true));
+        assertThat(list.isJWTIdRevoked("jti-3"), is(false));
+        assertThat(list.isJWTIdRevoked("subject"), is(false));
+        assertThat(list.isSubjectRevoked("subject"), is(true));
+        assertThat(list.isSubjectRevoked("jti-1"), is(false));
+    }
+
+    @Test
+    public void shouldConfirmBloomFilterPositives() throws Exception {
+        List<String> revoked = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            revoked.add("revoked-" + i);
+        }
+        RevocationList.write(file, revoked, Collections.<String>emptyList(), 0.5);
+        RevocationList list = RevocationList.open(file);
+
+        for (String jwtId : revoked) {
+            assertThat(list.isJWTIdRevoked(jwtId), is(true));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertThat(list.isJWTIdRevoked("valid-" + i), is(false));
+        }
+    }
+
+    @Test
+    public void shouldHandleEmptySnapshot() throws Exception {
+        RevocationList.write(file, Collections.<String>emptyList(), Collections.<String>emptyList(), 0.01);
+        assertThat(RevocationList.open(file).isJWTIdRevoked("jti"), is(false));
+    }
+
+    @Test
+    public void shouldSwapNewSnapshot() throws Exception {
+        RevocationList.write(file, asList("jti-1"), Collections.<String>emptyList(), 0.01);
+        RevocationList list = RevocationList.open(file);
+        assertThat(list.reload(), is(false));
+
+        RevocationList.write(file, asList("jti-2"), Collections.<String>emptyList(), 0.01);
+        assertThat(list.reload(), is(true));
+        assertThat(list.isJWTIdRevoked("jti-1"), is(false));
+        assertThat(list.isJWTIdRevoked("jti-2"), is(true));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidSnapshot() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage("The file is not a valid revocation snapshot.");
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+            output.writeLong(0);
+        }
+        RevocationList.open(file);
+    }
+
+    @Test
+    public void shouldThrowOnTruncatedSnapshot() throws Exception {
+        thrown.expect(IOException.class);
+        thrown.expectMessage("The file is not a valid revocation snapshot.");
+        RevocationList.write(file, asList("jti-1", "jti-2"), asList("subject"), 0.01);
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+            output.setLength(output.length() - 4);
+        }
+        RevocationList.open(file);
+    }
+
+    @Test
+    public void shouldKeepSnapshotWhenReloadingCorruptFile() throws Exception {
+        RevocationList.write(file, asList("jti-1"), Collections.<String>emptyList(), 0.01);
+        RevocationList list = RevocationList.open(file);
+
+        RevocationList.write(file, asList("jti-2"), Collections.<String>emptyList(), 0.01);
+        try (RandomAccessFile output = new RandomAccessFile(file, "rw")) {
+            output.seek(16);
+            long indexOffset = 24 + output.readLong() / 8;
+            output.seek(indexOffset + 8);
+            output.writeInt(Integer.MAX_VALUE);
+        }
+        String message = null;
+        try {
+            list.reload();
+        } catch (IOException e) {
+            message = e.getMessage();
+        }
+        assertThat(message, is("The file is not a valid revocation snapshot."));
+        assertThat(list.isJWTIdRevoked("jti-1"), is(true));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidFalsePositiveRate() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("The false positive rate must be between 0 and 1.");
+        RevocationList.write(file, asList("jti"), Collections.<String>emptyList(), 1);
+    }
+
+    @Test
+    public void shouldRejectRevokedToken() throws Exception {
+        thrown.expect(TokenRevokedException.class);
+        thrown.expectMessage("The Token has been revoked.");
+        RevocationList.write(file, Collections.<String>emptyList(), asList("subject"), 0.01);
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWT verifier = JWT.require(algorithm)
+                .withRevocationList(RevocationList.open(file))
+                .build();
+
+        verifier.decode(JWT.create().withSubject("other").sign(algorithm));
+        verifier.decode(JWT.create().withSubject("subject").sign(algorithm));
+    }
+}
@@ -0,0 +1,198 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.ScopedJwtCreator;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.jwts.ScopedJWT;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ScopeDictionaryTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private final ScopeDictionary dictionary = ScopeDictionary.of("openid", "profile", "email", "read:users", "write:users");
+
+    @Test
+    public void shouldThrowOnRepeatedScope() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The scope 'email' is registered twice.");
+        ScopeDictionary.of("email", "profile", "email");
+    }
+
+    @Test
+    public void shouldThrowOnScopeWithSpaces() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The scope can't be null, empty or contain spaces.");
+        ScopeDictionary.of("read users");
+    }
+
+    @Test
+    public void shouldThrowOnEmptyScope() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The scope can't be null, empty or contain spaces.");
+        ScopeDictionary.of("");
+    }
+
+    @Test
+    public void shouldThrowOnUnregisteredRequiredScope() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The scope 'admin' is not registered in the dictionary.");
+        dictionary.scopes("openid", "admin");
+    }
+
+    @Test
+    public void shouldThrowWhenComparingSetsOfDifferentDictionaries() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The scopes must come from the same dictionary.");
+        ScopeDictionary other = ScopeDictionary.of("openid");
+        dictionary.parse("openid").hasAllScopes(other.scopes("openid"));
+    }
+
+    @Test
+    public void shouldGetSize() throws Exception {
+        assertThat(dictionary.size(), is(5));
+    }
+
+    @Test
+    public void shouldParseSpaceDelimitedScopes() throws Exception {
+        ScopeSet scopes = dictionary.parse("openid  email unknown write:users ");
+        assertThat(scopes.hasScope("openid"), is(true));
+        assertThat(scopes.hasScope("email"), is(true));
+        assertThat(scopes.hasScope("write:users"), is(true));
+        assertThat(scopes.hasScope("profile"), is(false));
+        assertThat(scopes.hasScope("unknown"), is(false));
+        assertThat(scopes.getScopes(), contains("openid", "email", "write:users"));
+        assertThat(scopes.toString(), is("openid email write:users"));
+    }
+
+    @Test
+    public void shouldParseNullScopeAsEmpty() throws Exception {
+        ScopeSet scopes = dictionary.parse((String) null);
+        assertThat(scopes.isEmpty(), is(true));
+        assertThat(scopes.getScopes(), is(empty()));
+    }
+
+    @Test
+    public void shouldCheckAllScopes() throws Exception {
+        ScopeSet granted = dictionary.parse("openid profile read:users");
+        assertThat(granted.hasAllScopes(dictionary.scopes("openid", "read:users")), is(true));
+        assertThat(granted.hasAllScopes(dictionary.scopes()), is(true));
+        assertThat(granted.hasAllScopes(dictionary.scopes("openid", "write:users")), is(false));
+    }
+
+    @Test
+    public void shouldCheckAnyScope() throws Exception {
+        ScopeSet granted = dictionary.parse("openid profile");
+        assertThat(granted.hasAnyScope(dictionary.scopes("email", "profile")), is(true));
+        assertThat(granted.hasAnyScope(dictionary.scopes("email", "write:users")), is(false));
+        assertThat(granted.hasAnyScope(dictionary.scopes()), is(false));
+    }
+
+    @Test
+    public void shouldSupportMoreThan64Scopes() throws Exception {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            names.add("scope" + i);
+        }
+        ScopeDictionary large = ScopeDictionary.of(names.toArray(new String[names.size()]));
+        ScopeSet granted = large.parse("scope0 scope63 scope64 scope129");
+        assertThat(granted.hasScope("scope64"), is(true));
+        assertThat(granted.hasScope("scope65"), is(false));
+        assertThat(granted.hasAllScopes(large.scopes("scope63", "scope129")), is(true));
+        assertThat(granted.hasAllScopes(large.scopes("scope63", "scope128")), is(false));
+        assertThat(granted.getScopes(), contains("scope0", "scope63", "scope64", "scope129"));
+    }
+
+    @Test
+    public void shouldBeEqualForSameScopes() throws Exception {
+        assertThat(dictionary.parse("email openid"), is(dictionary.scopes("openid", "email")));
+        assertThat(dictionary.parse("email openid").hashCode(), is(dictionary.scopes("openid", "email").hashCode()));
+        assertThat(dictionary.parse("email"), is(not(dictionary.scopes("openid"))));
+    }
+
+    @Test
+    public void shouldParseScopeClaimOfToken() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = ScopedJwtCreator.build()
+                .withScope("openid read:users")
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withAudience("audience")
+                .withExp(new Date(System.currentTimeMillis() + 60_000))
+                .withIat(new Date())
+                .sign(algorithm);
+        DecodedJWT jwt = JWT.require(algorithm).build().decode(token);
+        ScopeSet scopes = dictionary.parse(jwt);
+        assertThat(scopes.getScopes(), contains("openid", "read:users"));
+    }
+
+    @Test
+    public void shouldParseArrayScopeClaim() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create()
+                .withArrayClaim("scope", new String[]{"openid", "email profile"})
+                .sign(algorithm);
+        DecodedJWT jwt = JWT.require(algorithm).build().decode(token);
+        assertThat(dictionary.parse(jwt).getScopes(), contains("openid", "profile", "email"));
+    }
+
+    @Test
+    public void shouldVerifyRequiredScopes() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = scopedToken(algorithm, "openid email read:users");
+        ScopedJWT verification = (ScopedJWT) ScopedJWT.require(algorithm);
+        DecodedJWT jwt = verification.withScopes(dictionary.scopes("read:users", "openid")).build().decode(token);
+        assertThat(jwt, is(notNullValue()));
+    }
+
+    @Test
+    public void shouldThrowOnMissingRequiredScope() throws Exception {
+        exception.expect(InvalidClaimException.class);
+        exception.expectMessage("The Claim 'scope' value doesn't match the required one.");
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = scopedToken(algorithm, "openid email");
+        ScopedJWT verification = (ScopedJWT) ScopedJWT.require(algorithm);
+        verification.withScopes(dictionary.scopes("openid", "write:users")).build().decode(token);
+    }
+
+    private static String scopedToken(Algorithm algorithm, String scope) throws Exception {
+        return ScopedJwtCreator.build()
+                .withScope(scope)
+                .withIssuer("issuer")
+                .withSubject("subject")
+                .withAudience("audience")
+                .withExp(new Date(System.currentTimeMillis() + 60_000))
+                .withIat(new Date())
+                .sign(algorithm);
+    }
+}
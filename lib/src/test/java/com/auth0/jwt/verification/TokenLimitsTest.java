@@ -0,0 +1,227 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.jwts.VerifierRegistry;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class TokenLimitsTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private Algorithm algorithm;
+
+    @Before
+    public void setUp() throws Exception {
+        algorithm = Algorithm.HMAC256("secret");
+    }
+
+    @Test
+    public void shouldThrowOnNonPositiveLimit() throws Exception {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("The limit must be positive.");
+        TokenLimits.init().withMaxDepth(0);
+    }
+
+    @Test
+    public void shouldAcceptTokenWithinLimits() throws Exception {
+        TokenLimits limits = TokenLimits.init()
+                .withMaxTokenLength(500)
+                .withMaxHeaderSize(100)
+                .withMaxPayloadSize(200)
+                .withMaxDepth(2)
+                .withMaxClaimCount(3)
+                .withMaxNumberLength(10)
+                .build();
+        String token = JWT.create().withNonStandardClaim("count", 1234567890L).withArrayClaim("roles", new String[]{"a"}).sign(algorithm);
+        DecodedJWT jwt = JWT.require(algorithm).withTokenLimits(limits).build().decode(token);
+        assertThat(jwt.getClaim("count").asLong(), is(1234567890L));
+    }
+
+    @Test
+    public void shouldRejectLongToken() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token exceeds the maximum length of 10 characters.");
+        TokenLimits.init().withMaxTokenLength(10).build().checkToken("aaaaa.bbbbb.c", EncodeType.Base64);
+    }
+
+    @Test
+    public void shouldRejectLargeHeaderBeforeDecoding() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Header exceeds the maximum size of 5 bytes.");
+        TokenLimits.init().withMaxHeaderSize(5).build().checkToken("not-even-base64!.e30.sig", EncodeType.Base64);
+    }
+
+    @Test
+    public void shouldRejectLargePayloadBeforeDecoding() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxPayloadSize(3).build();
+        limits.checkToken("e30.AAAA.signature-of-any-length", EncodeType.Base64);
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum size of 3 bytes.");
+        limits.checkToken("e30.AAAAAA.sig", EncodeType.Base64);
+    }
+
+    @Test
+    public void shouldIgnorePaddingWhenComputingSize() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxPayloadSize(1).build();
+        limits.checkToken("e30.AA==.sig", EncodeType.Base64);
+        limits.checkToken("e30.AA.sig", EncodeType.Base16);
+    }
+
+    @Test
+    public void shouldRejectDeepJson() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum depth of 2.");
+        TokenLimits.init().withMaxDepth(2).build().checkPayload("{\"a\":[[1]]}");
+    }
+
+    @Test
+    public void shouldIgnoreBracketsInStrings() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxDepth(1).withMaxClaimCount(1).withMaxNumberLength(1).build();
+        limits.checkPayload("{\"a\":\"[[{:12345\\\"[[\"}");
+    }
+
+    @Test
+    public void shouldRejectTooManyClaims() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxClaimCount(2).build();
+        limits.checkHeader("{\"alg\":\"HS256\",\"nested\":{\"a\":1,\"b\":2,\"c\":3}}");
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Header has more than 2 claims.");
+        limits.checkHeader("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"1\"}");
+    }
+
+    @Test
+    public void shouldCheckPayloadBytes() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxPayloadSize(32).withMaxDepth(2).withMaxClaimCount(2).build();
+        limits.checkPayload("{\"name\":\"\u00e9[[{\",\"a\":[1]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldRejectDeepPayloadBytes() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum depth of 2.");
+        TokenLimits.init().withMaxDepth(2).build().checkPayload("{\"a\":[[1]]}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldRejectOversizedPayloadBytes() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum size of 8 bytes.");
+        TokenLimits.init().withMaxPayloadSize(8).build().checkPayload("{\"a\":\"\u00e9\u00e9\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void shouldRejectLongNumbers() throws Exception {
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload has a number longer than 5 characters.");
+        TokenLimits.init().withMaxNumberLength(5).build().checkPayload("{\"n\":1e100000}");
+    }
+
+    @Test
+    public void shouldRejectTokenOnDecode() throws Exception {
+        String payload = Base64.encodeBase64URLSafeString("{\"a\":[[[[1]]]]}".getBytes(StandardCharsets.UTF_8));
+        JWT verifier = JWT.require(algorithm).withTokenLimits(TokenLimits.init().withMaxDepth(3).build()).build();
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum depth of 3.");
+        verifier.decode("eyJhbGciOiJIUzI1NiJ9." + payload + ".signature");
+    }
+
+    @Test
+    public void shouldRejectDeepJsonSerialization() throws Exception {
+        TokenLimits limits = TokenLimits.init().withMaxDepth(1).build();
+        limits.checkSerialization("{\"signatures\":[{\"header\":{\"kid\":\"1\"}}]}");
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's JSON Serialization exceeds the maximum depth of 4.");
+        limits.checkSerialization("{\"signatures\":[{\"header\":{\"kid\":[1]}}]}");
+    }
+
+    @Test
+    public void shouldRejectLargePayloadOnDecodeJson() throws Exception {
+        String json = JWT.create().withNonStandardClaim("data", repeat('a', 256)).sign(algorithm, EncodeType.JsonEncode);
+        JWT verifier = JWT.require(algorithm).withTokenLimits(TokenLimits.init().withMaxPayloadSize(64).build()).build();
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Payload exceeds the maximum size of 64 bytes.");
+        verifier.decodeJson(json);
+    }
+
+    @Test
+    public void shouldAcceptJsonSerializationWithinLimits() throws Exception {
+        String json = JWT.create().withIssuer("auth0").sign(algorithm, EncodeType.JsonEncode);
+        TokenLimits limits = TokenLimits.init().withMaxTokenLength(500).withMaxPayloadSize(64).withMaxDepth(2).withMaxClaimCount(2).build();
+        DecodedJWT jwt = JWT.require(algorithm).withTokenLimits(limits).build().decodeJson(json);
+        assertThat(jwt.getIssuer().get(0), is("auth0"));
+    }
+
+    @Test
+    public void shouldRejectTokenBeforeRouting() throws Exception {
+        VerifierRegistry registry = VerifierRegistry.init()
+                .withTokenLimits(TokenLimits.init().withMaxDepth(1).build())
+                .register(JWT.require(algorithm).build(), null)
+                .build();
+        String header = Base64.encodeBase64URLSafeString("{\"alg\":\"HS256\",\"x\":[1]}".getBytes(StandardCharsets.UTF_8));
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token's Header exceeds the maximum depth of 1.");
+        registry.decode(header + ".e30.signature");
+    }
+
+    @Test
+    public void shouldRejectTokenOnRoutedVerifier() throws Exception {
+        JWT verifier = JWT.require(algorithm).withTokenLimits(TokenLimits.init().withMaxTokenLength(100).build()).build();
+        VerifierRegistry registry = VerifierRegistry.init().register(verifier, null).build();
+
+        exception.expect(JWTDecodeException.class);
+        exception.expectMessage("The token exceeds the maximum length of 100 characters.");
+        registry.decode(JWT.create().withNonStandardClaim("data", repeat('a', 256)).sign(algorithm));
+    }
+
+    @Test
+    public void shouldReportMalformedOnVerify() throws Exception {
+        JWT verifier = JWT.require(algorithm).withTokenLimits(TokenLimits.init().withMaxTokenLength(10).build()).build();
+        VerificationResult result = verifier.verify(JWT.create().sign(algorithm));
+        assertThat(result.getReason(), is(VerificationResult.Reason.MALFORMED));
+    }
+
+    private static String repeat(char c, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, c);
+        return new String(chars);
+    }
+}
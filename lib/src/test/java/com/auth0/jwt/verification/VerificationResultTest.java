@@ -0,0 +1,160 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.verification;
+
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.EncodeType;
+import com.auth0.jwt.exceptions.AlgorithmMismatchException;
+import com.auth0.jwt.exceptions.InvalidClaimException;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.exceptions.SignatureVerificationException;
+import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.jwts.JWT;
+import com.auth0.jwt.verification.VerificationResult.Reason;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class VerificationResultTest {
+
+    @Test
+    public void shouldReportValidToken() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withIssuer("auth0").sign(algorithm);
+        VerificationResult result = JWT.require(algorithm).withIssuer("auth0").build().verify(token);
+
+        assertThat(result.isValid(), is(true));
+        assertThat(result.getReason(), is(Reason.VALID));
+        assertThat(result.getMessage(), is(nullValue()));
+        assertThat(result.toException(), is(nullValue()));
+        assertThat(result.getJWT().getIssuer().get(0), is("auth0"));
+    }
+
+    @Test
+    public void shouldReportExpiredToken() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        Date expiresAt = new Date((System.currentTimeMillis() / 1000 - 60) * 1000);
+        String token = JWT.create().withExpiresAt(expiresAt).sign(algorithm);
+        VerificationResult result = JWT.require(algorithm).build().verify(token);
+
+        assertThat(result.isValid(), is(false));
+        assertThat(result.getReason(), is(Reason.EXPIRED));
+        assertThat(result.getMessage(), is("The Token has expired on " + expiresAt + "."));
+        assertThat(result.toException(), is(instanceOf(TokenExpiredException.class)));
+        assertThat(result.getJWT(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldReportInvalidClaim() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().withNonStandardClaim("name", "value").sign(algorithm);
+        VerificationResult result = JWT.require(algorithm).withNonStandardClaim("name", "other").build().verify(token);
+
+        assertThat(result.getReason(), is(Reason.INVALID_CLAIM));
+        assertThat(result.getMessage(), is("The Claim 'name' value doesn't match the required one."));
+        assertThat(result.toException(), is(instanceOf(InvalidClaimException.class)));
+    }
+
+    @Test
+    public void shouldReportAlgorithmMismatch() throws Exception {
+        String token = JWT.create().sign(Algorithm.HMAC256("secret"));
+        VerificationResult result = JWT.require(Algorithm.HMAC512("secret")).build().verify(token);
+
+        assertThat(result.getReason(), is(Reason.ALGORITHM_MISMATCH));
+        assertThat(result.getMessage(), is("The provided Algorithm doesn't match the one defined in the JWT's Header."));
+        assertThat(result.toException(), is(instanceOf(AlgorithmMismatchException.class)));
+    }
+
+    @Test
+    public void shouldReportInvalidSignature() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        String token = JWT.create().sign(Algorithm.HMAC256("other"));
+        VerificationResult result = JWT.require(algorithm).build().verify(token);
+
+        assertThat(result.getReason(), is(Reason.INVALID_SIGNATURE));
+        assertThat(result.getMessage(), is("The Token's Signature resulted invalid when verified using the Algorithm: HmacSHA256"));
+        assertThat(result.toException(), is(instanceOf(SignatureVerificationException.class)));
+        assertThat(result.toException().getMessage(), is(result.getMessage()));
+    }
+
+    @Test
+    public void shouldReportSignatureErrorWithoutWrappingIt() throws Exception {
+        final IllegalStateException error = new IllegalStateException("The key can't be used.");
+        Algorithm algorithm = new Algorithm("HS256", "HmacSHA256") {
+            @Override
+            public void verify(DecodedJWT jwt, EncodeType encodeType) {
+                throw error;
+            }
+
+            @Override
+            public byte[] sign(byte[] contentBytes) {
+                return new byte[0];
+            }
+        };
+        String token = JWT.create().sign(Algorithm.HMAC256("secret"));
+        VerificationResult result = JWT.require(algorithm).build().verify(token);
+
+        assertThat(result.getReason(), is(Reason.INVALID_SIGNATURE));
+        assertThat(result.getMessage(), is("The Token's Signature resulted invalid when verified using the Algorithm: HmacSHA256"));
+        assertThat(result.toException(), is(instanceOf(SignatureVerificationException.class)));
+        assertThat(result.toException().getCause(), is(sameInstance((Throwable) error)));
+        assertThat(result.getJWT(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldReportMalformedToken() throws Exception {
+        VerificationResult result = JWT.require(Algorithm.HMAC256("secret")).build().verify("not a token");
+
+        assertThat(result.getReason(), is(Reason.MALFORMED));
+        assertThat(result.getJWT(), is(nullValue()));
+        assertThat(result.toException(), is(instanceOf(JWTDecodeException.class)));
+    }
+
+    @Test
+    public void shouldReuseResult() throws Exception {
+        Algorithm algorithm = Algorithm.HMAC256("secret");
+        JWT verifier = JWT.require(algorithm).build();
+        VerificationResult result = new VerificationResult();
+
+        assertThat(verifier.verify("not a token", result), is(sameInstance(result)));
+        assertThat(result.isValid(), is(false));
+        assertThat(verifier.verify(JWT.create().sign(algorithm), result).isValid(), is(true));
+        assertThat(result.getMessage(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCreateStacklessExceptions() throws Exception {
+        JWTVerificationException.setStackTraceEnabled(false);
+        try {
+            assertThat(new InvalidClaimException("message").getStackTrace().length, is(0));
+        } finally {
+            JWTVerificationException.setStackTraceEnabled(true);
+        }
+        assertThat(new InvalidClaimException("message").getStackTrace().length > 0, is(true));
+    }
+}
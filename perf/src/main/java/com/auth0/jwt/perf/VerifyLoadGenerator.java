@@ -0,0 +1,285 @@
+// Copyright (c) 2017 The Authors of 'JWTS for Java'
+//
+// Permission is hereby granted, free of charge, to any person obtaining a copy of
+// this software and associated documentation files (the "Software"), to deal in
+// the Software without restriction, including without limitation the rights to
+// use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+// the Software, and to permit persons to whom the Software is furnished to do so,
+// subject to the following conditions:
+//
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+//
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY, FITNESS
+// FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+// COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER
+// IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN
+// CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+package com.auth0.jwt.perf;
+
+import com.auth0.jwt.PemUtils;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.creators.JWTCreator;
+import com.auth0.jwt.jwts.JWT;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives {@link JWT#decode(String)} from a fixed amount of threads at a fixed, open-loop rate and prints the latency
+ * percentiles.
+ * <p>
+ * Every operation has an intended start time set by the rate, regardless of how long the previous ones took. The
+ * response time is measured from that intended start, so a stall delays every operation scheduled during it and shows
+ * up in the percentiles instead of being hidden by the threads issuing fewer operations, which is known as coordinated
+ * omission. The service time, measured from the actual start, is printed too for comparison. Operations that fail
+ * are kept out of both, and their response times printed on a row of their own.
+ * <p>
+ * Options, all optional, are given as {@code --name=value}:
+ * <ul>
+ * <li>{@code algorithm}: HS256, RS256 or ES256. Defaults to HS256.</li>
+ * <li>{@code threads}: the amount of threads. Defaults to 4.</li>
+ * <li>{@code rate}: the operations per second across all threads, at most one per nanosecond per thread. Defaults to
+ * 20000.</li>
+ * <li>{@code warmup}: the seconds to run before recording. Defaults to 10.</li>
+ * <li>{@code duration}: the seconds to record. Defaults to 30.</li>
+ * <li>{@code corpus}: a file with one token per line, signed with the same algorithm and key. Defaults to generating
+ * {@code tokens} distinct tokens, 1000 unless set.</li>
+ * <li>{@code keys}: the directory with the PEM key fixtures. Defaults to the library's {@code src/test/resources}.</li>
+ * </ul>
+ */
+public final class VerifyLoadGenerator {
+
+    private static final String SECRET = "secret";
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    //Below this delay threads spin instead of parking, since parking overshoots by tens of microseconds
+    private static final long SPIN_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private VerifyLoadGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        String algorithmName = option(options, "algorithm", "HS256");
+        int threads = Integer.parseInt(option(options, "threads", "4"));
+        long rate = Long.parseLong(option(options, "rate", "20000"));
+        long warmupSeconds = Long.parseLong(option(options, "warmup", "10"));
+        long durationSeconds = Long.parseLong(option(options, "duration", "30"));
+        String keys = option(options, "keys", "src/test/resources");
+        if (threads <= 0 || rate <= 0 || warmupSeconds < 0 || durationSeconds <= 0) {
+            throw new IllegalArgumentException("The threads, rate and duration must be positive and the warmup not negative.");
+        }
+        if (rate > TimeUnit.SECONDS.toNanos(threads)) {
+            throw new IllegalArgumentException("The rate can't be higher than one operation per nanosecond per thread.");
+        }
+
+        Algorithm algorithm = algorithm(algorithmName, keys);
+        String[] corpus = options.containsKey("corpus")
+                ? loadCorpus(new File(options.get("corpus")))
+                : generateCorpus(algorithm, Integer.parseInt(option(options, "tokens", "1000")));
+        JWT verifier = JWT.require(algorithm).build();
+
+        // Rounded rather than truncated, which would issue more operations than asked for
+        long intervalNanos = Math.max(1, Math.round((double) TimeUnit.SECONDS.toNanos(threads) / rate));
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long recordFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = recordFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        System.out.printf("Verifying %d %s tokens from %d threads at %d per second, %d s warmup and %d s recorded%n",
+                corpus.length, algorithmName, threads, rate, warmupSeconds, durationSeconds);
+        Worker[] workers = new Worker[threads];
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            // Offset the threads so that together they issue operations evenly spaced in time
+            long firstStart = start + intervalNanos * i / threads;
+            workers[i] = new Worker(verifier, corpus, i, firstStart, intervalNanos, recordFrom, end, done);
+            Thread thread = new Thread(workers[i], "verify-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        Histogram responseTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        Histogram serviceTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        Histogram errorTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        for (Worker worker : workers) {
+            responseTimes.add(worker.responseTimes);
+            serviceTimes.add(worker.serviceTimes);
+            errorTimes.add(worker.errorTimes);
+        }
+        print(System.out, responseTimes, serviceTimes, errorTimes, durationSeconds);
+    }
+
+    private static final class Worker implements Runnable {
+        private final JWT verifier;
+        private final String[] corpus;
+        private final long firstStart;
+        private final long intervalNanos;
+        private final long recordFrom;
+        private final long end;
+        private final CountDownLatch done;
+        private final Histogram responseTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram serviceTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private final Histogram errorTimes = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        private int next;
+
+        Worker(JWT verifier, String[] corpus, int index, long firstStart, long intervalNanos, long recordFrom, long end,
+               CountDownLatch done) {
+            this.verifier = verifier;
+            this.corpus = corpus;
+            this.next = index % corpus.length;
+            this.firstStart = firstStart;
+            this.intervalNanos = intervalNanos;
+            this.recordFrom = recordFrom;
+            this.end = end;
+            this.done = done;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (long intended = firstStart; intended < end; intended += intervalNanos) {
+                    waitUntil(intended);
+                    long actualStart = System.nanoTime();
+                    boolean failed = false;
+                    try {
+                        verifier.decode(corpus[next]);
+                    } catch (Exception e) {
+                        failed = true;
+                    }
+                    long finish = System.nanoTime();
+                    if (intended >= recordFrom) {
+                        if (failed) {
+                            errorTimes.recordValue(Math.min(finish - intended, HIGHEST_TRACKABLE_NANOS));
+                        } else {
+                            responseTimes.recordValue(Math.min(finish - intended, HIGHEST_TRACKABLE_NANOS));
+                            serviceTimes.recordValue(Math.min(finish - actualStart, HIGHEST_TRACKABLE_NANOS));
+                        }
+                    }
+                    if (++next == corpus.length) {
+                        next = 0;
+                    }
+                }
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private static void waitUntil(long deadline) {
+            long delay;
+            while ((delay = deadline - System.nanoTime()) > 0) {
+                if (delay > SPIN_NANOS) {
+                    LockSupport.parkNanos(delay - SPIN_NANOS);
+                }
+            }
+        }
+    }
+
+    private static Algorithm algorithm(String name, String keys) throws IOException {
+        switch (name) {
+            case "HS256":
+                return Algorithm.HMAC256(SECRET);
+            case "RS256":
+                return Algorithm.RSA256(
+                        (RSAPublicKey) PemUtils.readPublicKeyFromFile(new File(keys, "rsa-public.pem").getPath(), "RSA"),
+                        (RSAPrivateKey) PemUtils.readPrivateKeyFromFile(new File(keys, "rsa-private.pem").getPath(), "RSA"));
+            case "ES256":
+                return Algorithm.ECDSA256(
+                        (ECPublicKey) PemUtils.readPublicKeyFromFile(new File(keys, "ec256-key-public.pem").getPath(), "EC"),
+                        (ECPrivateKey) PemUtils.readPrivateKeyFromFile(new File(keys, "ec256-key-private.pem").getPath(), "EC"));
+            default:
+                throw new IllegalArgumentException("The algorithm must be one of HS256, RS256 or ES256.");
+        }
+    }
+
+    /**
+     * Signs tokens shaped like an OpenID Connect ID token, each one with its own subject and JWT Id.
+     */
+    private static String[] generateCorpus(Algorithm algorithm, int size) throws Exception {
+        long now = System.currentTimeMillis();
+        String[] corpus = new String[size];
+        for (int i = 0; i < size; i++) {
+            JWTCreator.Builder builder = JWT.create()
+                    .withIssuer("https://auth.example.com/")
+                    .withSubject("auth0|user-" + i)
+                    .withAudience("https://api.example.com")
+                    .withIssuedAt(new Date(now))
+                    .withExpiresAt(new Date(now + TimeUnit.DAYS.toMillis(1)))
+                    .withGeneratedJWTId()
+                    .withNonStandardClaim("scope", "openid profile email");
+            corpus[i] = builder.sign(algorithm);
+        }
+        return corpus;
+    }
+
+    private static String[] loadCorpus(File file) throws IOException {
+        List<String> tokens = new ArrayList<>();
+        for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                tokens.add(line.trim());
+            }
+        }
+        if (tokens.isEmpty()) {
+            throw new IllegalArgumentException("The corpus " + file + " has no tokens.");
+        }
+        return tokens.toArray(new String[tokens.size()]);
+    }
+
+    private static void print(PrintStream out, Histogram responseTimes, Histogram serviceTimes, Histogram errorTimes,
+                              long durationSeconds) {
+        long operations = responseTimes.getTotalCount() + errorTimes.getTotalCount();
+        out.printf("%d operations, %d per second achieved, %d errors%n",
+                operations, operations / durationSeconds, errorTimes.getTotalCount());
+        out.printf("%-14s %10s %10s %10s %10s %10s %10s   (microseconds)%n", "", "mean", "p50", "p99", "p99.9", "p99.99", "max");
+        printRow(out, "response time", responseTimes);
+        printRow(out, "service time", serviceTimes);
+        if (errorTimes.getTotalCount() > 0) {
+            printRow(out, "error time", errorTimes);
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram) {
+        out.printf("%-14s %10.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n", name,
+                histogram.getMean() / 1000,
+                histogram.getValueAtPercentile(50) / 1000.0,
+                histogram.getValueAtPercentile(99) / 1000.0,
+                histogram.getValueAtPercentile(99.9) / 1000.0,
+                histogram.getValueAtPercentile(99.99) / 1000.0,
+                histogram.getMaxValue() / 1000.0);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Options must be given as --name=value, but got " + arg);
+            }
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private static String option(Map<String, String> options, String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+}